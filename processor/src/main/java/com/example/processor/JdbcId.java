@@ -0,0 +1,22 @@
+package com.example.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the key field of a {@link JdbcRow} DTO. The generated row mapper reads it like any other column, while the
+ * generated binder skips it, because keys are assigned by the repository (for example from an id block) rather than
+ * taken from the DTO.
+ *
+ * <p>Usage example:
+ * {@code
+ * @JdbcId
+ * public Long id;
+ * }
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.SOURCE)
+public @interface JdbcId {
+}
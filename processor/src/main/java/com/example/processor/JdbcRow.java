@@ -0,0 +1,27 @@
+package com.example.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a public-field DTO whose JDBC row mapper and statement binder are generated at compile time by
+ * {@link JdbcRowProcessorImpl}. Every public instance field is one column, named after the field in snake case
+ * ({@code totalValue} becomes {@code total_value}), in declaration order.
+ *
+ * <p>Usage example:
+ * {@code
+ * @JdbcRow
+ * public class ProductResponseImpl implements ProductResponse {
+ *     @JdbcId
+ *     public Long id;
+ *     public String title;
+ * }
+ * // generates ProductResponseImplJdbc with COLUMNS, ROW_MAPPER, mapRow(...) and bind(...)
+ * }
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface JdbcRow {
+}
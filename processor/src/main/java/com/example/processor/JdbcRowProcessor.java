@@ -0,0 +1,16 @@
+package com.example.processor;
+
+import javax.annotation.processing.Processor;
+
+/**
+ * Annotation processor contract that generates a {@code <Dto>Jdbc} class for every {@link JdbcRow} type.
+ *
+ * <p>Usage example:
+ * {@code
+ * // build.gradle
+ * compileOnly project(':processor')
+ * annotationProcessor project(':processor')
+ * }
+ */
+public interface JdbcRowProcessor extends Processor {
+}
@@ -0,0 +1,270 @@
+package com.example.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of {@link JdbcRowProcessor}. For every {@link JdbcRow} class {@code Foo} it writes
+ * {@code FooJdbc} into the same package, with
+ * <ul>
+ *     <li>{@code COLUMNS} / {@code BOUND_COLUMNS} - the column lists the generated code assumes, for the SQL text
+ *     and for tests that keep the two in sync;</li>
+ *     <li>{@code mapRow(ResultSet, int)} - creates the DTO with its no-arg constructor and assigns every field
+ *     from the column at its position, so no column name is looked up and no builder is allocated;</li>
+ *     <li>{@code bind(PreparedStatement, int, Foo)} - sets every non-{@link JdbcId} field with its typed setter
+ *     starting at the given parameter index and returns the next free index, so no argument is boxed;</li>
+ *     <li>{@code ROW_MAPPER} - {@code mapRow} as a Spring {@code RowMapper}, when Spring JDBC is on the classpath.</li>
+ * </ul>
+ * Supported field types are {@code long}, {@code int}, {@code double}, {@code boolean}, their wrappers,
+ * {@code String}, {@code BigDecimal}, {@code LocalDate} and {@code LocalDateTime}. Non-public, final or
+ * unsupported instance fields are reported as compile errors on the field.
+ *
+ * <p>Usage example:
+ * {@code
+ * List<ProductResponseImpl> rows = jdbcTemplate.query(sql, ProductResponseImplJdbc.ROW_MAPPER, title);
+ * jdbcTemplate.update(INSERT_SQL, ps -> ProductResponseImplJdbc.bind(ps, 2, product));
+ * }
+ */
+@SupportedAnnotationTypes("com.example.processor.JdbcRow")
+public class JdbcRowProcessorImpl extends AbstractProcessor implements JdbcRowProcessor {
+
+    public static final String SUFFIX = "Jdbc";
+
+    private static final String ROW_MAPPER_TYPE = "org.springframework.jdbc.core.RowMapper";
+
+    /** Primitive field types: ResultSet getter and PreparedStatement setter suffix. */
+    private static final Map<String, String> PRIMITIVES = Map.of(
+            "long", "Long",
+            "int", "Int",
+            "double", "Double",
+            "boolean", "Boolean"
+    );
+
+    /** Wrapper field types: getter/setter suffix of the primitive and the {@code java.sql.Types} constant for null. */
+    private static final Map<String, String[]> WRAPPERS = Map.of(
+            "java.lang.Long", new String[]{"Long", "BIGINT"},
+            "java.lang.Integer", new String[]{"Int", "INTEGER"},
+            "java.lang.Double", new String[]{"Double", "DOUBLE"},
+            "java.lang.Boolean", new String[]{"Boolean", "BOOLEAN"}
+    );
+
+    /** Reference types read with a plain getter and written with a setter that accepts null. */
+    private static final Map<String, String> REFERENCES = Map.of(
+            "java.lang.String", "String",
+            "java.math.BigDecimal", "BigDecimal"
+    );
+
+    /** java.time types read with {@code getObject(int, Class)}: the {@code java.sql.Types} constant for binding. */
+    private static final Map<String, String> TEMPORALS = Map.of(
+            "java.time.LocalDateTime", "TIMESTAMP",
+            "java.time.LocalDate", "DATE"
+    );
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(JdbcRow.class)) {
+            if (element.getKind() != ElementKind.CLASS
+                    || ((TypeElement) element).getNestingKind() != NestingKind.TOP_LEVEL) {
+                error(element, "@JdbcRow must annotate a top-level class");
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            List<Column> columns = columns(type);
+            if (columns != null) {
+                write(type, columns);
+            }
+        }
+        return true;
+    }
+
+    /** Returns the columns of {@code type} in field order, or null after reporting an error. */
+    private List<Column> columns(TypeElement type) {
+        List<Column> columns = new ArrayList<>();
+        boolean valid = true;
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC)) {
+                continue;
+            }
+            String fieldType = field.asType().toString();
+            if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.FINAL)) {
+                error(field, "@JdbcRow fields must be public and not final");
+                valid = false;
+            } else if (!PRIMITIVES.containsKey(fieldType) && !WRAPPERS.containsKey(fieldType)
+                    && !REFERENCES.containsKey(fieldType) && !TEMPORALS.containsKey(fieldType)) {
+                error(field, "@JdbcRow does not support fields of type " + fieldType);
+                valid = false;
+            } else {
+                String name = field.getSimpleName().toString();
+                columns.add(new Column(name, snakeCase(name), fieldType, field.getAnnotation(JdbcId.class) != null));
+            }
+        }
+        if (valid && columns.isEmpty()) {
+            error(type, "@JdbcRow class has no public instance fields");
+            valid = false;
+        }
+        return valid ? columns : null;
+    }
+
+    private void write(TypeElement type, List<Column> columns) {
+        String packageName = ((PackageElement) type.getEnclosingElement()).getQualifiedName().toString();
+        String dto = type.getSimpleName().toString();
+        String generated = dto + SUFFIX;
+        List<Column> bound = columns.stream().filter(column -> !column.id).toList();
+        boolean rowMapper = processingEnv.getElementUtils().getTypeElement(ROW_MAPPER_TYPE) != null;
+
+        StringBuilder out = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("import java.sql.PreparedStatement;\n");
+        out.append("import java.sql.ResultSet;\n");
+        out.append("import java.sql.SQLException;\n");
+        out.append("import java.sql.Types;\n");
+        out.append("import javax.annotation.processing.Generated;\n");
+        if (rowMapper) {
+            out.append("import ").append(ROW_MAPPER_TYPE).append(";\n");
+        }
+        out.append("\n");
+        out.append("/**\n");
+        out.append(" * Index-based JDBC row mapper and statement binder for {@link ").append(dto).append("}.\n");
+        out.append(" * Generated by {@code ").append(JdbcRowProcessorImpl.class.getName())
+                .append("} from the class's public fields; do not edit.\n");
+        out.append(" */\n");
+        out.append("@Generated(\"").append(JdbcRowProcessorImpl.class.getName()).append("\")\n");
+        out.append("public final class ").append(generated).append(" {\n\n");
+
+        out.append("    /** Columns {@link #mapRow} reads, in result-set order. */\n");
+        out.append("    public static final String COLUMNS = \"").append(names(columns)).append("\";\n\n");
+        out.append("    /** Columns {@link #bind} writes, in parameter order; {@code @JdbcId} fields are skipped. */\n");
+        out.append("    public static final String BOUND_COLUMNS = \"").append(names(bound)).append("\";\n\n");
+        out.append("    /** Number of parameters {@link #bind} sets. */\n");
+        out.append("    public static final int BOUND_COLUMN_COUNT = ").append(bound.size()).append(";\n\n");
+        if (rowMapper) {
+            out.append("    public static final RowMapper<").append(dto).append("> ROW_MAPPER = ")
+                    .append(generated).append("::mapRow;\n\n");
+        }
+        out.append("    private ").append(generated).append("() {\n    }\n\n");
+
+        out.append("    public static ").append(dto).append(" mapRow(ResultSet rs, int rowNum) throws SQLException {\n");
+        out.append("        ").append(dto).append(" row = new ").append(dto).append("();\n");
+        for (int i = 0; i < columns.size(); i++) {
+            out.append(read(columns.get(i), i + 1));
+        }
+        out.append("        return row;\n");
+        out.append("    }\n\n");
+
+        out.append("    public static int bind(PreparedStatement ps, int index, ").append(dto)
+                .append(" row) throws SQLException {\n");
+        for (int i = 0; i < bound.size(); i++) {
+            out.append(bind(bound.get(i), i == 0 ? "index" : "index + " + i));
+        }
+        out.append("        return index + ").append(bound.size()).append(";\n");
+        out.append("    }\n");
+        out.append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? generated : packageName + "." + generated;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(out.toString());
+        } catch (IOException e) {
+            error(type, "Cannot write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    private static String read(Column column, int index) {
+        String target = "        row." + column.field;
+        if (PRIMITIVES.containsKey(column.type)) {
+            return target + " = rs.get" + PRIMITIVES.get(column.type) + "(" + index + ");\n";
+        }
+        if (WRAPPERS.containsKey(column.type)) {
+            return target + " = rs.get" + WRAPPERS.get(column.type)[0] + "(" + index + ");\n"
+                    + "        if (rs.wasNull()) {\n"
+                    + "    " + target + " = null;\n"
+                    + "        }\n";
+        }
+        if (REFERENCES.containsKey(column.type)) {
+            return target + " = rs.get" + REFERENCES.get(column.type) + "(" + index + ");\n";
+        }
+        return target + " = rs.getObject(" + index + ", " + column.type + ".class);\n";
+    }
+
+    private static String bind(Column column, String index) {
+        String value = "row." + column.field;
+        if (PRIMITIVES.containsKey(column.type)) {
+            return "        ps.set" + PRIMITIVES.get(column.type) + "(" + index + ", " + value + ");\n";
+        }
+        if (WRAPPERS.containsKey(column.type)) {
+            String[] wrapper = WRAPPERS.get(column.type);
+            return "        if (" + value + " == null) {\n"
+                    + "            ps.setNull(" + index + ", Types." + wrapper[1] + ");\n"
+                    + "        } else {\n"
+                    + "            ps.set" + wrapper[0] + "(" + index + ", " + value + ");\n"
+                    + "        }\n";
+        }
+        if (REFERENCES.containsKey(column.type)) {
+            return "        ps.set" + REFERENCES.get(column.type) + "(" + index + ", " + value + ");\n";
+        }
+        return "        ps.setObject(" + index + ", " + value + ", Types." + TEMPORALS.get(column.type) + ");\n";
+    }
+
+    private static String names(List<Column> columns) {
+        return columns.stream().map(column -> column.name).collect(Collectors.joining(", "));
+    }
+
+    static String snakeCase(String field) {
+        StringBuilder name = new StringBuilder(field.length() + 4);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (Character.isUpperCase(c)) {
+                if (i > 0) {
+                    name.append('_');
+                }
+                name.append(Character.toLowerCase(c));
+            } else {
+                name.append(c);
+            }
+        }
+        return name.toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static final class Column {
+        final String field;
+        final String name;
+        final String type;
+        final boolean id;
+
+        Column(String field, String name, String type, boolean id) {
+            this.field = field;
+            this.name = name;
+            this.type = type;
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.processor;
+
+import org.testng.annotations.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link JdbcRowProcessorImpl}: compiles small DTOs with the processor, then runs the generated mapper and
+ * binder against recording {@link ResultSet} and {@link PreparedStatement} proxies.
+ *
+ * <p>Usage example:
+ * {@code
+ * JdbcRowProcessorTest test = new JdbcRowProcessorTest();
+ * test.generatedMapperReadsColumnsByPosition();
+ * }
+ */
+public class JdbcRowProcessorTest {
+
+    private static final String ORDER = """
+            package demo;
+
+            import com.example.processor.JdbcId;
+            import com.example.processor.JdbcRow;
+            import java.math.BigDecimal;
+
+            @JdbcRow
+            public class OrderImpl {
+                public static final String IGNORED = "static fields are not columns";
+                @JdbcId
+                public Long id;
+                public String customerName;
+                public int itemCount;
+                public double totalValue;
+                public boolean paid;
+                public Integer discountPercent;
+                public BigDecimal exactTotal;
+                public java.time.LocalDateTime createdAt;
+            }
+            """;
+
+    private static final class Source extends SimpleJavaFileObject {
+        private final String code;
+
+        Source(String className, String code) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.code = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return code;
+        }
+    }
+
+    private static final class Compilation {
+        final boolean success;
+        final Path output;
+        final List<String> errors;
+
+        Compilation(boolean success, Path output, List<String> errors) {
+            this.success = success;
+            this.output = output;
+            this.errors = errors;
+        }
+
+        String generated(String path) throws IOException {
+            return Files.readString(output.resolve(path));
+        }
+
+        Class<?> load(String className) throws Exception {
+            URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader());
+            return loader.loadClass(className);
+        }
+    }
+
+    private static Compilation compile(String className, String code) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Path output = Files.createTempDirectory("jdbc-row-processor");
+        List<String> options = List.of(
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", output.toString(),
+                "-s", output.toString()
+        );
+        JavaCompiler.CompilationTask task = compiler.getTask(
+                null, null, diagnostics, options, null, List.of(new Source(className, code)));
+        task.setProcessors(List.of(new JdbcRowProcessorImpl()));
+        boolean success = task.call();
+        List<String> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic.getMessage(null));
+            }
+        }
+        return new Compilation(success, output, errors);
+    }
+
+    @Test
+    void generatesColumnListsWithoutSpringRowMapper() throws Exception {
+        Compilation compilation = compile("demo.OrderImpl", ORDER);
+
+        assertTrue(compilation.success, compilation.errors.toString());
+        Class<?> generated = compilation.load("demo.OrderImplJdbc");
+        assertEquals(generated.getField("COLUMNS").get(null),
+                "id, customer_name, item_count, total_value, paid, discount_percent, exact_total, created_at");
+        assertEquals(generated.getField("BOUND_COLUMNS").get(null),
+                "customer_name, item_count, total_value, paid, discount_percent, exact_total, created_at");
+        assertEquals(generated.getField("BOUND_COLUMN_COUNT").get(null), 7);
+        // Spring JDBC is not on the processor's test classpath
+        assertFalse(compilation.generated("demo/OrderImplJdbc.java").contains("RowMapper"));
+    }
+
+    @Test
+    void generatedMapperReadsColumnsByPosition() throws Exception {
+        Compilation compilation = compile("demo.OrderImpl", ORDER);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        Object[] row = {42L, "Ada", 3, 19.5, true, null, new BigDecimal("19.50"), createdAt};
+        int[] last = {0};
+        List<String> getters = new ArrayList<>();
+        ResultSet resultSet = (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("wasNull")) {
+                        return row[last[0]] == null;
+                    }
+                    last[0] = (Integer) args[0] - 1;
+                    getters.add(method.getName() + "(" + args[0] + ")");
+                    Object value = row[last[0]];
+                    return value == null && method.getReturnType() == int.class ? 0 : value;
+                });
+
+        Method mapRow = compilation.load("demo.OrderImplJdbc").getMethod("mapRow", ResultSet.class, int.class);
+        Object order = mapRow.invoke(null, resultSet, 0);
+
+        assertEquals(getters, List.of("getLong(1)", "getString(2)", "getInt(3)", "getDouble(4)", "getBoolean(5)",
+                "getInt(6)", "getBigDecimal(7)", "getObject(8)"));
+        Class<?> dto = order.getClass();
+        assertEquals(dto.getField("id").get(order), 42L);
+        assertEquals(dto.getField("customerName").get(order), "Ada");
+        assertEquals(dto.getField("itemCount").get(order), 3);
+        assertEquals(dto.getField("totalValue").get(order), 19.5);
+        assertEquals(dto.getField("paid").get(order), true);
+        assertNull(dto.getField("discountPercent").get(order));
+        assertEquals(dto.getField("exactTotal").get(order), new BigDecimal("19.50"));
+        assertEquals(dto.getField("createdAt").get(order), createdAt);
+    }
+
+    @Test
+    void generatedBinderSetsTypedParametersAfterTheKey() throws Exception {
+        Compilation compilation = compile("demo.OrderImpl", ORDER);
+        Class<?> dto = compilation.load("demo.OrderImpl");
+        Object order = dto.getConstructor().newInstance();
+        dto.getField("customerName").set(order, "Ada");
+        dto.getField("itemCount").set(order, 3);
+        dto.getField("totalValue").set(order, 19.5);
+        dto.getField("paid").set(order, true);
+        dto.getField("createdAt").set(order, LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+        List<String> calls = new ArrayList<>();
+        PreparedStatement statement = (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    calls.add(method.getName() + "(" + Arrays.stream(args)
+                            .map(String::valueOf).collect(Collectors.joining(", ")) + ")");
+                    return null;
+                });
+
+        Method bind = dto.getClassLoader().loadClass("demo.OrderImplJdbc")
+                .getMethod("bind", PreparedStatement.class, int.class, dto);
+        Object next = bind.invoke(null, statement, 2, order);
+
+        assertEquals(next, 9);
+        assertEquals(calls, List.of(
+                "setString(2, Ada)",
+                "setInt(3, 3)",
+                "setDouble(4, 19.5)",
+                "setBoolean(5, true)",
+                "setNull(6, " + Types.INTEGER + ")",
+                "setBigDecimal(7, null)",
+                "setObject(8, 2024-01-02T03:04:05, " + Types.TIMESTAMP + ")"
+        ));
+    }
+
+    @Test
+    void rejectsNonPublicFinalAndUnsupportedFields() throws Exception {
+        Compilation compilation = compile("demo.BrokenImpl", """
+                package demo;
+
+                import com.example.processor.JdbcRow;
+
+                @JdbcRow
+                public class BrokenImpl {
+                    String packagePrivate;
+                    public final String fixed = "x";
+                    public java.util.List<String> tags;
+                }
+                """);
+
+        assertFalse(compilation.success);
+        assertEquals(compilation.errors.size(), 3, compilation.errors.toString());
+        assertTrue(compilation.errors.get(2).contains("java.util.List<java.lang.String>"), compilation.errors.get(2));
+        assertFalse(Files.exists(compilation.output.resolve("demo/BrokenImplJdbc.java")));
+    }
+
+    @Test
+    void snakeCaseSplitsCamelCaseFieldNames() {
+        Map<String, String> expected = Map.of(
+                "id", "id",
+                "totalValue", "total_value",
+                "createdAt", "created_at",
+                "priceInMinorUnits", "price_in_minor_units"
+        );
+        expected.forEach((field, column) -> assertEquals(JdbcRowProcessorImpl.snakeCase(field), column));
+    }
+}
@@ -0,0 +1,15 @@
+#!/usr/bin/env bun
+
+import { BenchScript } from "./lib/bench-script.bun.ts";
+
+async function main() {
+  const script = new BenchScript();
+  await script.run();
+}
+
+await main().catch((error) => {
+  const message = error instanceof Error ? error.message : String(error);
+  console.error("Unexpected error while running benchmark.");
+  console.error(message);
+  process.exit(1);
+});
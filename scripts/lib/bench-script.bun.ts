@@ -0,0 +1,213 @@
+type Request = { method: string; path: string; body?: string; contentType?: string };
+
+type Scenario = { name: string; next: (worker: number, iteration: number) => Request };
+
+type ScenarioResult = {
+  name: string;
+  requests: number;
+  errors: number;
+  seconds: number;
+  latenciesMs: number[];
+  statuses: Map<number, number>;
+  peakRssKb?: number;
+  peakThreads?: number;
+};
+
+type ProcessSample = { rssKb: number; threads: number };
+
+/**
+ * Closed-loop HTTP load generator for an already running application.
+ * Each of `concurrency` workers sends its next request as soon as the previous response arrives,
+ * for `duration` seconds per scenario, and the script prints throughput and latency percentiles.
+ * With `pid` set to the application's process id (Linux only), it also samples the resident memory and thread
+ * count of that process during each measured window and prints the peak values and the resident memory added per
+ * concurrent connection relative to the idle process.
+ */
+export class BenchScript {
+  private readonly baseUrl = process.env.usage_url || "http://localhost:8080";
+  private readonly concurrency = Number(process.env.usage_concurrency || 200);
+  private readonly durationSeconds = Number(process.env.usage_duration || 30);
+  private readonly scenarioFilter = process.env.usage_scenario || "all";
+  private readonly pid = process.env.usage_pid || "";
+  private readonly runId = Date.now().toString(36);
+  private idleRssKb = 0;
+
+  async run(): Promise<void> {
+    const scenarios = this.scenarios().filter(
+      (s) => this.scenarioFilter === "all" || s.name.startsWith(this.scenarioFilter),
+    );
+    if (scenarios.length === 0) {
+      console.error(`Error: unknown scenario '${this.scenarioFilter}'.`);
+      process.exit(1);
+    }
+
+    if (this.pid) {
+      this.idleRssKb = (await this.sampleProcess()).rssKb;
+    }
+    await this.seed();
+    console.log(`Target ${this.baseUrl}, ${this.concurrency} workers, ${this.durationSeconds}s per scenario`);
+    let header = "scenario                 requests   req/s    p50 ms   p95 ms   p99 ms   errors";
+    if (this.pid) {
+      header += "  rss MB  threads  KB/conn";
+      console.log(`Process ${this.pid} idle RSS ${(this.idleRssKb / 1024).toFixed(0)} MB`);
+    }
+    console.log(header);
+    for (const scenario of scenarios) {
+      await this.runScenario(scenario, Math.min(5, this.durationSeconds));
+      this.print(await this.runMeasured(scenario));
+    }
+  }
+
+  private scenarios(): Scenario[] {
+    return [
+      {
+        name: "users/register",
+        next: (worker, i) => ({
+          method: "POST",
+          path: "/api/users/register",
+          contentType: "application/json",
+          body: JSON.stringify({ name: "bench", email: `bench-${this.runId}-${worker}-${i}@example.com`, age: 30 }),
+        }),
+      },
+      {
+        name: "users/by-email",
+        next: (worker, i) => ({
+          method: "GET",
+          path: `/api/users/by-email?email=bench-seed-${this.runId}-${(worker * 31 + i) % 1000}@example.com`,
+        }),
+      },
+      {
+        name: "products/create",
+        next: (worker, i) => ({
+          method: "POST",
+          path: "/api/products/create",
+          contentType: "application/json",
+          body: JSON.stringify({ title: `bench-${this.runId}-${(worker + i) % 1000}`, price: 10.5, quantity: 3 }),
+        }),
+      },
+      {
+        name: "products/by-title",
+        next: (worker, i) => ({
+          method: "GET",
+          path: `/api/products/by-title?title=bench-${this.runId}-${(worker * 31 + i) % 1000}&limit=10`,
+        }),
+      },
+    ];
+  }
+
+  // Seeds through the single-user endpoint, which the servlet and the reactive variants both serve.
+  private async seed(): Promise<void> {
+    for (let from = 0; from < 1000; from += 50) {
+      const statuses = await Promise.all(
+        Array.from({ length: 50 }, (_, i) => this.seedUser(`bench-seed-${this.runId}-${from + i}@example.com`)),
+      );
+      const failed = statuses.find((status) => status !== 201);
+      if (failed !== undefined) {
+        console.error(`Error: failed to seed users (HTTP ${failed}). Is the application running?`);
+        process.exit(1);
+      }
+    }
+  }
+
+  // A request shed by the concurrency limiter (503) is retried after its Retry-After delay.
+  private async seedUser(email: string): Promise<number> {
+    for (let attempt = 1; ; attempt++) {
+      const res = await fetch(`${this.baseUrl}/api/users/register`, {
+        method: "POST",
+        headers: { "Content-Type": "application/json" },
+        body: JSON.stringify({ name: "seed", email, age: 30 }),
+      });
+      await res.arrayBuffer();
+      if (res.status !== 503 || attempt === 5) {
+        return res.status;
+      }
+      await Bun.sleep(1000 * Number(res.headers.get("Retry-After") ?? "1"));
+    }
+  }
+
+  private async runMeasured(scenario: Scenario): Promise<ScenarioResult> {
+    if (!this.pid) {
+      return this.runScenario(scenario, this.durationSeconds);
+    }
+    let peak: ProcessSample = { rssKb: 0, threads: 0 };
+    const sampler = setInterval(async () => {
+      const sample = await this.sampleProcess();
+      peak = { rssKb: Math.max(peak.rssKb, sample.rssKb), threads: Math.max(peak.threads, sample.threads) };
+    }, 250);
+    try {
+      const result = await this.runScenario(scenario, this.durationSeconds);
+      return { ...result, peakRssKb: peak.rssKb, peakThreads: peak.threads };
+    } finally {
+      clearInterval(sampler);
+    }
+  }
+
+  private async sampleProcess(): Promise<ProcessSample> {
+    const status = await Bun.file(`/proc/${this.pid}/status`).text();
+    const field = (name: string) => Number(new RegExp(`^${name}:\\s+(\\d+)`, "m").exec(status)?.[1] ?? 0);
+    return { rssKb: field("VmRSS"), threads: field("Threads") };
+  }
+
+  private async runScenario(scenario: Scenario, seconds: number): Promise<ScenarioResult> {
+    const result: ScenarioResult = {
+      name: scenario.name,
+      requests: 0,
+      errors: 0,
+      seconds,
+      latenciesMs: [],
+      statuses: new Map(),
+    };
+    const deadline = performance.now() + seconds * 1000;
+
+    const worker = async (id: number) => {
+      for (let i = 0; performance.now() < deadline; i++) {
+        const request = scenario.next(id, i);
+        const started = performance.now();
+        let status = 0;
+        try {
+          const res = await fetch(this.baseUrl + request.path, {
+            method: request.method,
+            headers: request.contentType ? { "Content-Type": request.contentType } : undefined,
+            body: request.body,
+          });
+          await res.arrayBuffer();
+          status = res.status;
+        } catch {
+          status = 0;
+        }
+        result.latenciesMs.push(performance.now() - started);
+        result.requests++;
+        result.statuses.set(status, (result.statuses.get(status) ?? 0) + 1);
+        // 404 is an expected answer for by-title lookups of titles not created yet.
+        if (status === 0 || status >= 500) {
+          result.errors++;
+        }
+      }
+    };
+
+    await Promise.all(Array.from({ length: this.concurrency }, (_, id) => worker(id)));
+    return result;
+  }
+
+  private print(result: ScenarioResult): void {
+    const sorted = [...result.latenciesMs].sort((a, b) => a - b);
+    const pct = (p: number) => (sorted.length === 0 ? 0 : sorted[Math.min(sorted.length - 1, Math.floor(p * sorted.length))]);
+    const cols = [
+      result.name.padEnd(24),
+      String(result.requests).padStart(8),
+      (result.requests / result.seconds).toFixed(0).padStart(7),
+      pct(0.5).toFixed(1).padStart(9),
+      pct(0.95).toFixed(1).padStart(8),
+      pct(0.99).toFixed(1).padStart(8),
+      String(result.errors).padStart(8),
+    ];
+    if (result.peakRssKb !== undefined && result.peakThreads !== undefined) {
+      cols.push(
+        (result.peakRssKb / 1024).toFixed(0).padStart(7),
+        String(result.peakThreads).padStart(8),
+        ((result.peakRssKb - this.idleRssKb) / this.concurrency).toFixed(0).padStart(8),
+      );
+    }
+    console.log(cols.join(" "));
+  }
+}
@@ -169,6 +169,26 @@ export class StartScript {
     }
     const jarRelPath = join("build", "libs", jarName);
 
+    // Regular instances only verify the schema version, so apply pending changesets first.
+    const migration = await this.runner.run(["java", "-jar", jarRelPath, "migrate"]);
+    if (migration.code !== 0) {
+      console.error("Error: failed to apply database migrations (java -jar ... migrate).");
+      if (preStatus.status !== "running") {
+        await this.runner.runCapture(["docker", "rm", "-f", this.containerName]).catch(() => {});
+      }
+      if (!preNet && (await this.networkExists(this.networkName))) {
+        await this.runner.runCapture(["docker", "network", "rm", this.networkName]).catch(() => {});
+      }
+      if (!wasRunning) {
+        const ps = await this.runner.runCapture(["docker", "ps", "-q"]);
+        if (ps.stdout.trim().length === 0 && platform === "linux") {
+          await this.runner.runCapture(["systemctl", "--user", "stop", "docker"]).catch(() => {});
+          await this.runner.runCapture(["systemctl", "stop", "docker"]).catch(() => {});
+        }
+      }
+      process.exit(1);
+    }
+
     await Bun.write(this.logFile, "");
     let app;
     try {
@@ -0,0 +1,113 @@
+import { existsSync } from "node:fs";
+import { mkdir } from "node:fs/promises";
+import { join } from "node:path";
+import { spawn } from "bun";
+import { RunEnv } from "./run-env.bun.ts";
+
+type Variant = { name: string; args: string[]; requires: string[] };
+
+type VariantResult = { name: string; firstRequestMs: number[]; reportedMs: number[] };
+
+/**
+ * Startup benchmark: starts the application `runs` times per variant and measures the time from spawning the JVM
+ * to the first successful (2xx) response from `path`, plus the startup time Spring Boot reports in its log.
+ * Variants: the plain boot jar, the extracted jar from `gradle fastStartup -PfastStartup` without and with the
+ * AOT-generated context, and the extracted jar with both AOT and the AppCDS archive.
+ * The application must not already be running on `port`; PostgreSQL must be up.
+ */
+export class StartupScript {
+  private readonly runs = Number(process.env.usage_runs || 5);
+  private readonly port = Number(process.env.usage_port || 8080);
+  private readonly path = process.env.usage_path || "/api/products/calculate";
+  private readonly java = process.env.JAVA_HOME ? join(process.env.JAVA_HOME, "bin", "java") : "java";
+  private readonly projectRoot = RunEnv.projectRoot;
+  private readonly logFile = join(RunEnv.runDir, "startup-bench.log");
+  private readonly jarName = "spring-boot-app-1.0.0.jar";
+
+  async run(): Promise<void> {
+    const bootJar = join(this.projectRoot, "build", "libs", this.jarName);
+    const cdsJar = join(this.projectRoot, "build", "cds", this.jarName);
+    const archive = join(this.projectRoot, "build", "cds", "application.jsa");
+    const variants: Variant[] = [
+      { name: "boot jar", args: ["-jar", bootJar], requires: [bootJar] },
+      { name: "extracted", args: ["-jar", cdsJar], requires: [cdsJar] },
+      { name: "extracted + AOT", args: ["-Dspring.aot.enabled=true", "-jar", cdsJar], requires: [cdsJar] },
+      {
+        name: "extracted + AOT + CDS",
+        args: [`-XX:SharedArchiveFile=${archive}`, "-Dspring.aot.enabled=true", "-jar", cdsJar],
+        requires: [cdsJar, archive],
+      },
+    ];
+    await mkdir(RunEnv.runDir, { recursive: true });
+    if (await this.isUp()) {
+      console.error(`Error: something already answers on port ${this.port}; stop the application first.`);
+      process.exit(1);
+    }
+
+    console.log(`${this.runs} runs per variant, first successful GET ${this.path}`);
+    console.log("variant                    first request ms (min / median / max)   reported start ms (median)");
+    for (const variant of variants) {
+      const missing = variant.requires.find((file) => !existsSync(file));
+      if (missing) {
+        console.log(`${variant.name.padEnd(26)} skipped: ${missing} not found (run 'gradle fastStartup -PfastStartup')`);
+        continue;
+      }
+      this.print(await this.measure(variant));
+    }
+  }
+
+  private async measure(variant: Variant): Promise<VariantResult> {
+    const result: VariantResult = { name: variant.name, firstRequestMs: [], reportedMs: [] };
+    for (let run = 0; run < this.runs; run++) {
+      const started = performance.now();
+      const proc = spawn([this.java, `-Dserver.port=${this.port}`, ...variant.args], {
+        cwd: this.projectRoot,
+        stdout: Bun.file(this.logFile),
+        stderr: "inherit",
+      });
+      try {
+        while (!(await this.isUp())) {
+          if (proc.exitCode !== null) {
+            console.error(`Error: '${variant.name}' exited with code ${proc.exitCode}; see ${this.logFile}.`);
+            process.exit(1);
+          }
+          await Bun.sleep(20);
+        }
+        result.firstRequestMs.push(performance.now() - started);
+      } finally {
+        proc.kill();
+        await proc.exited;
+      }
+      const reported = /Started \S+ in ([\d.]+) seconds/.exec(await Bun.file(this.logFile).text());
+      if (reported) {
+        result.reportedMs.push(Number(reported[1]) * 1000);
+      }
+    }
+    return result;
+  }
+
+  private async isUp(): Promise<boolean> {
+    try {
+      const res = await fetch(`http://localhost:${this.port}${this.path}`);
+      await res.arrayBuffer();
+      return res.ok;
+    } catch {
+      return false;
+    }
+  }
+
+  private print(result: VariantResult): void {
+    const median = (values: number[]) => {
+      const sorted = [...values].sort((a, b) => a - b);
+      return sorted.length === 0 ? 0 : sorted[Math.floor(sorted.length / 2)];
+    };
+    const first = result.firstRequestMs;
+    console.log(
+      [
+        result.name.padEnd(26),
+        `${Math.min(...first).toFixed(0)} / ${median(first).toFixed(0)} / ${Math.max(...first).toFixed(0)}`.padStart(38),
+        median(result.reportedMs).toFixed(0).padStart(28),
+      ].join(" "),
+    );
+  }
+}
@@ -0,0 +1,15 @@
+#!/usr/bin/env bun
+
+import { StartupScript } from "./lib/startup-script.bun.ts";
+
+async function main() {
+  const script = new StartupScript();
+  await script.run();
+}
+
+await main().catch((error) => {
+  const message = error instanceof Error ? error.message : String(error);
+  console.error("Unexpected error while running startup benchmark.");
+  console.error(message);
+  process.exit(1);
+});
@@ -0,0 +1,79 @@
+package com.example.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * JMH benchmarks for Jackson serialization of the response DTOs, and reading of the product request body, with the
+ * same module set Spring MVC registers.
+ *
+ * <p>Usage example:
+ * {@code
+ * gradle jmh -PjmhIncludes=JsonSerializationBenchmark
+ * }
+ */
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    private ObjectWriter userWriter;
+    private ObjectWriter productWriter;
+    private ObjectReader productRequestReader;
+    private byte[] productRequestJson;
+    private UserResponseImpl user;
+    private ProductResponseImpl product;
+
+    @Setup
+    public void setUp() {
+        var objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        userWriter = objectMapper.writerFor(UserResponseImpl.class);
+        productWriter = objectMapper.writerFor(ProductResponseImpl.class);
+        productRequestReader = objectMapper.readerFor(ProductRequestImpl.class);
+        productRequestJson = """
+                {"title": "Benchmark Product", "description": "Used by JsonSerializationBenchmark", "price": 199.99,
+                 "quantity": 3}
+                """.getBytes(StandardCharsets.UTF_8);
+        user = UserResponseImpl.builder()
+                .id(42L)
+                .name("BENCHMARK USER")
+                .email("bench@example.com")
+                .age(30)
+                .status("ACTIVE")
+                .createdAt(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .build();
+        product = ProductResponseImpl.builder()
+                .id(7L)
+                .title("Benchmark Product")
+                .description("Used by JsonSerializationBenchmark")
+                .price(19999)
+                .quantity(3)
+                .totalValue(59997)
+                .category("GENERAL")
+                .available(true)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializeUser() throws JsonProcessingException {
+        return userWriter.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] serializeProduct() throws JsonProcessingException {
+        return productWriter.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public ProductRequestImpl deserializeProductRequest() throws IOException {
+        return productRequestReader.readValue(productRequestJson);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JMH benchmarks comparing JSON, Smile and CBOR encode/decode cost of the response DTOs, using mappers configured
+ * like the application's message converters. Payload sizes of every format are printed once per fork.
+ *
+ * <p>Usage example:
+ * {@code
+ * gradle jmh -PjmhIncludes=WireFormatBenchmark
+ * }
+ */
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    private ObjectWriter userWriter;
+    private ObjectReader userReader;
+    private ObjectWriter productsWriter;
+    private ObjectReader productsReader;
+    private UserResponseImpl user;
+    private List<ProductResponseImpl> products;
+    private byte[] encodedUser;
+    private byte[] encodedProducts;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        };
+        ObjectMapper objectMapper = builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+
+        userWriter = objectMapper.writerFor(UserResponseImpl.class);
+        userReader = objectMapper.readerFor(UserResponseImpl.class);
+        productsWriter = objectMapper.writerFor(
+                objectMapper.getTypeFactory().constructCollectionType(List.class, ProductResponseImpl.class));
+        productsReader = objectMapper.readerFor(
+                objectMapper.getTypeFactory().constructCollectionType(List.class, ProductResponseImpl.class));
+
+        user = UserResponseImpl.builder()
+                .id(42L)
+                .name("BENCHMARK USER")
+                .email("bench@example.com")
+                .age(30)
+                .status("ACTIVE")
+                .createdAt(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .build();
+        products = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            products.add(ProductResponseImpl.builder()
+                    .id((long) i)
+                    .title("Benchmark Product " + i)
+                    .description("Used by WireFormatBenchmark")
+                    .price(19999)
+                    .quantity(i % 5)
+                    .totalValue(19999L * (i % 5))
+                    .category("GENERAL")
+                    .available(i % 5 > 0)
+                    .build());
+        }
+
+        encodedUser = userWriter.writeValueAsBytes(user);
+        encodedProducts = productsWriter.writeValueAsBytes(products);
+        System.out.printf("%n%s payload bytes: user=%d, products[%d]=%d%n",
+                format, encodedUser.length, BATCH_SIZE, encodedProducts.length);
+    }
+
+    @Benchmark
+    public byte[] encodeUser() throws IOException {
+        return userWriter.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public UserResponseImpl decodeUser() throws IOException {
+        return userReader.readValue(encodedUser);
+    }
+
+    @Benchmark
+    public byte[] encodeProducts() throws IOException {
+        return productsWriter.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public List<ProductResponseImpl> decodeProducts() throws IOException {
+        return productsReader.readValue(encodedProducts);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.register;
+
+import com.example.dto.ProductRequestImpl;
+import com.example.dto.ProductResponseImpl;
+import com.example.dto.UserRequestImpl;
+import com.example.dto.UserResponseImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmarks for the register hot paths without persistence.
+ *
+ * <p>Usage example:
+ * {@code
+ * gradle jmh -PjmhIncludes=RegisterBenchmark
+ * }
+ */
+@State(Scope.Benchmark)
+public class RegisterBenchmark {
+
+    private UserRegisterImpl userRegister;
+    private ProductRegisterImpl productRegister;
+    private UserRequestImpl userRequest;
+    private ProductRequestImpl productRequest;
+
+    @Setup
+    public void setUp() {
+        userRegister = new UserRegisterImpl();
+        productRegister = new ProductRegisterImpl();
+        userRequest = UserRequestImpl.builder()
+                .name("Benchmark User")
+                .email("bench@example.com")
+                .age(30)
+                .build();
+        productRequest = ProductRequestImpl.builder()
+                .title("Benchmark Product")
+                .description("Used by RegisterBenchmark")
+                .price(19999)
+                .quantity(3)
+                .build();
+    }
+
+    @Benchmark
+    public UserResponseImpl processUser() {
+        return userRegister.processUser(userRequest);
+    }
+
+    @Benchmark
+    public ProductResponseImpl applyDiscount() {
+        return productRegister.applyDiscount(productRequest, 1500);
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.repository;
+
+import com.example.dto.ProductResponseImpl;
+import com.example.dto.ProductResponseImplJdbc;
+import com.example.dto.UserResponseImpl;
+import com.example.dto.UserResponseImplJdbc;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * JMH benchmarks for the repository row mappers and insert binders: the generated {@code *Jdbc} classes against the
+ * name-based builder mappers and the varargs {@code Object[]} binding the repositories used before.
+ * Rows come from real PostgreSQL JDBC result sets that are read into memory once ({@code generate_series}, no table
+ * needed), so each operation includes the driver's decoding but no network round trip. Binding sets the parameters
+ * of a prepared insert without executing it. Every score is per row.
+ *
+ * <p>Usage example:
+ * {@code
+ * gradle jmh -PjmhIncludes=RowMapperBenchmark   // PostgreSQL must be running
+ * }
+ */
+@State(Scope.Benchmark)
+@OperationsPerInvocation(RowMapperBenchmark.ROWS)
+public class RowMapperBenchmark {
+
+    static final int ROWS = 1000;
+
+    /** The hand-written user mapper the repository used before code generation. */
+    static final RowMapper<UserResponseImpl> USER_BY_NAME = (rs, rowNum) -> UserResponseImpl.builder()
+            .id(rs.getLong("id"))
+            .name(rs.getString("name"))
+            .email(rs.getString("email"))
+            .age(rs.getInt("age"))
+            .status(rs.getString("status"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .build();
+
+    /** The hand-written product mapper the repository used before code generation. */
+    static final RowMapper<ProductResponseImpl> PRODUCT_BY_NAME = (rs, rowNum) -> ProductResponseImpl.builder()
+            .id(rs.getLong("id"))
+            .title(rs.getString("title"))
+            .description(rs.getString("description"))
+            .price(rs.getLong("price"))
+            .quantity(rs.getInt("quantity"))
+            .totalValue(rs.getLong("total_value"))
+            .category(rs.getString("category"))
+            .available(rs.getBoolean("available"))
+            .build();
+
+    private static final String USERS_SQL = """
+            SELECT i::bigint AS id, 'BENCHMARK USER ' || i AS name, 'bench-' || i || '@example.com' AS email,
+                   30 AS age, 'ACTIVE' AS status,
+                   timestamp '2024-01-01 12:00' + i * interval '1 second' AS created_at
+            FROM generate_series(1, %d) AS i
+            """.formatted(ROWS);
+
+    private static final String PRODUCTS_SQL = """
+            SELECT i::bigint AS id, 'Benchmark Product ' || i AS title, 'Used by RowMapperBenchmark' AS description,
+                   (19999 + i * 100)::bigint AS price, 3 AS quantity,
+                   ((19999 + i * 100) * 3)::bigint AS total_value, 'GENERAL' AS category, true AS available
+            FROM generate_series(1, %d) AS i
+            """.formatted(ROWS);
+
+    private static final String USER_INSERT_SQL = """
+            INSERT INTO users (id, name, email, age, status, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private Connection connection;
+    private ResultSet userRows;
+    private ResultSet productRows;
+    private PreparedStatement userInsert;
+    private PreparedStatement productInsert;
+    private UserResponseImpl user;
+    private ProductResponseImpl product;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                "jdbc:postgresql://127.0.0.1:5432/app_db?sslmode=disable", "app_user", "app_password");
+        userRows = connection.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY)
+                .executeQuery(USERS_SQL);
+        productRows = connection.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY)
+                .executeQuery(PRODUCTS_SQL);
+        userInsert = connection.prepareStatement(USER_INSERT_SQL);
+        productInsert = connection.prepareStatement(ProductRepositoryImpl.INSERT_SQL);
+        user = UserResponseImpl.builder()
+                .name("BENCHMARK USER")
+                .email("bench@example.com")
+                .age(30)
+                .status("ACTIVE")
+                .createdAt(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .build();
+        product = ProductResponseImpl.builder()
+                .title("Benchmark Product")
+                .description("Used by RowMapperBenchmark")
+                .price(19999)
+                .quantity(3)
+                .totalValue(59997)
+                .category("GENERAL")
+                .available(true)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void mapUsersByName(Blackhole blackhole) throws SQLException {
+        mapAll(userRows, USER_BY_NAME, blackhole);
+    }
+
+    @Benchmark
+    public void mapUsersGenerated(Blackhole blackhole) throws SQLException {
+        mapAll(userRows, UserResponseImplJdbc.ROW_MAPPER, blackhole);
+    }
+
+    @Benchmark
+    public void mapProductsByName(Blackhole blackhole) throws SQLException {
+        mapAll(productRows, PRODUCT_BY_NAME, blackhole);
+    }
+
+    @Benchmark
+    public void mapProductsGenerated(Blackhole blackhole) throws SQLException {
+        mapAll(productRows, ProductResponseImplJdbc.ROW_MAPPER, blackhole);
+    }
+
+    @Benchmark
+    public void bindUsersVarargs() throws SQLException {
+        for (long id = 0; id < ROWS; id++) {
+            new ArgumentPreparedStatementSetter(new Object[]{
+                    id, user.name, user.email, user.age, user.status, Timestamp.valueOf(user.createdAt)
+            }).setValues(userInsert);
+        }
+    }
+
+    @Benchmark
+    public void bindUsersGenerated() throws SQLException {
+        for (long id = 0; id < ROWS; id++) {
+            userInsert.setLong(1, id);
+            UserResponseImplJdbc.bind(userInsert, 2, user);
+        }
+    }
+
+    @Benchmark
+    public void bindProductsVarargs() throws SQLException {
+        for (long id = 0; id < ROWS; id++) {
+            new ArgumentPreparedStatementSetter(new Object[]{
+                    id, product.title, product.description, product.price, product.quantity, product.totalValue,
+                    product.category, product.available
+            }).setValues(productInsert);
+        }
+    }
+
+    @Benchmark
+    public void bindProductsGenerated() throws SQLException {
+        for (long id = 0; id < ROWS; id++) {
+            productInsert.setLong(1, id);
+            ProductResponseImplJdbc.bind(productInsert, 2, product);
+        }
+    }
+
+    private static <T> void mapAll(ResultSet rows, RowMapper<T> mapper, Blackhole blackhole) throws SQLException {
+        rows.beforeFirst();
+        for (int i = 0; rows.next(); i++) {
+            blackhole.consume(mapper.mapRow(rows, i));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.repository;
+
+import com.example.dto.TitleMatchImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * JMH latency benchmarks for {@link TitleIndexImpl} prefix and trigram searches over a synthetic catalog of
+ * {@code brand + product + model} titles. Run in sample-time mode to get per-query latency percentiles.
+ *
+ * <p>Usage example:
+ * {@code
+ * gradle jmh -PjmhIncludes=TitleIndexBenchmark -PjmhMode=sample
+ * }
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class TitleIndexBenchmark {
+
+    private static final String[] BRANDS = {
+            "Acme", "Globex", "Initech", "Umbrella", "Hooli", "Stark", "Wayne", "Wonka", "Tyrell", "Cyberdyne",
+            "Soylent", "Aperture", "Oscorp", "Vandelay", "Gringotts", "Monarch", "Nakatomi", "Massive", "Dunder",
+            "Pied Piper"
+    };
+    private static final String[] PRODUCTS = {
+            "Phone", "Smartphone", "Laptop", "Tablet", "Monitor", "Keyboard", "Mouse", "Headphones", "Speaker",
+            "Camera", "Router", "Printer", "Charger", "Cable", "Watch", "Smartwatch", "Drone", "Console",
+            "Controller", "Microphone", "Projector", "Scanner", "Webcam", "Desk Lamp", "Power Bank"
+    };
+    private static final int QUERIES = 1024;
+
+    @Param({"200000"})
+    public int titles;
+
+    private TitleIndexImpl index;
+    private String[] prefixQueries;
+    private String[] typoQueries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        index = new TitleIndexImpl(true, TitleIndexImpl.DEFAULT_SIMILARITY_THRESHOLD);
+        Random random = new Random(42);
+        String[] catalog = new String[titles];
+        for (int i = 0; i < titles; i++) {
+            catalog[i] = BRANDS[random.nextInt(BRANDS.length)] + " " + PRODUCTS[random.nextInt(PRODUCTS.length)]
+                    + " " + Integer.toString(i, 36).toUpperCase();
+            index.add(catalog[i], 1 + random.nextInt(3));
+        }
+
+        prefixQueries = new String[QUERIES];
+        typoQueries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String title = catalog[random.nextInt(titles)];
+            prefixQueries[i] = title.substring(0, 3 + random.nextInt(title.length() - 3));
+            typoQueries[i] = swapTwoLetters(title, random);
+        }
+    }
+
+    @Benchmark
+    public List<TitleMatchImpl> prefix() {
+        return index.search(prefixQueries[next++ & (QUERIES - 1)], 10, false);
+    }
+
+    @Benchmark
+    public List<TitleMatchImpl> prefixWithTypoFallback() {
+        return index.search(typoQueries[next++ & (QUERIES - 1)], 10, true);
+    }
+
+    private static String swapTwoLetters(String title, Random random) {
+        char[] chars = title.toCharArray();
+        int at = 1 + random.nextInt(chars.length - 2);
+        char swapped = chars[at];
+        chars[at] = chars[at + 1];
+        chars[at + 1] = swapped;
+        return new String(chars);
+    }
+}
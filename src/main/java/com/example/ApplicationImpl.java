@@ -3,8 +3,12 @@ package com.example;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import java.util.Arrays;
+
 /**
  * Main Spring Boot application implementation and entry point.
+ * With {@code migrate} as the first argument it runs {@link SchemaMigrationImpl} instead and exits with its code;
+ * the remaining arguments are passed on unchanged.
  *
  * <p>Usage example:
  * {@code
@@ -17,6 +21,9 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 public class ApplicationImpl implements Application {
 
     public static void main(String[] args) {
+        if (args.length > 0 && SchemaMigrationImpl.COMMAND.equals(args[0])) {
+            System.exit(SchemaMigrationImpl.migrate(Arrays.copyOfRange(args, 1, args.length)));
+        }
         SpringApplication.run(ApplicationImpl.class, args);
     }
 }
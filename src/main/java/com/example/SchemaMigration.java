@@ -0,0 +1,14 @@
+package com.example;
+
+/**
+ * Schema migration run mode of the application: applies the Liquibase changelog once and exits.
+ *
+ * <p>Usage example:
+ * {@code
+ * // java -jar build/libs/spring-boot-app-1.0.0.jar migrate
+ * int exitCode = SchemaMigrationImpl.migrate();
+ * }
+ */
+public interface SchemaMigration {
+    // Marker interface for the migration entry point.
+}
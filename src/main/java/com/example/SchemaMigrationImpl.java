@@ -0,0 +1,47 @@
+package com.example;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link SchemaMigration}: starts a non-web context with only the DataSource and Liquibase
+ * auto-configurations, which take the Liquibase lock, apply the pending changesets of
+ * {@code spring.liquibase.change-log} and release the lock, then closes it again. No component scan, no web server
+ * and no startup loads, so one run per deploy is all the schema work there is; regular instances only verify the
+ * schema version (see {@link com.example.config.SchemaVersionCheckImpl}).
+ * Reads the same {@code application.properties}, profiles and {@code spring.datasource.*} overrides as the application.
+ *
+ * <p>Usage example:
+ * {@code
+ * java -jar build/libs/spring-boot-app-1.0.0.jar migrate --spring.datasource.url=jdbc:postgresql://db/app_db
+ * // or, in-process
+ * int exitCode = SchemaMigrationImpl.migrate("--spring.profiles.active=prod");
+ * }
+ */
+@ImportAutoConfiguration({DataSourceAutoConfiguration.class, LiquibaseAutoConfiguration.class})
+public class SchemaMigrationImpl implements SchemaMigration {
+
+    /** First command-line argument that selects this run mode in {@link ApplicationImpl#main(String[])}. */
+    public static final String COMMAND = "migrate";
+
+    /**
+     * Applies the changelog and returns the exit code of the migration context.
+     * Liquibase failures propagate as exceptions.
+     */
+    public static int migrate(String... args) {
+        // Command-line properties outrank application.properties, where Liquibase is off for regular instances
+        String[] migrationArgs = Stream.concat(Stream.of("--spring.liquibase.enabled=true"), Stream.of(args))
+                .toArray(String[]::new);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SchemaMigrationImpl.class)
+                .web(WebApplicationType.NONE)
+                .run(migrationArgs);
+        return SpringApplication.exit(context);
+    }
+}
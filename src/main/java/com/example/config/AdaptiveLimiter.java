@@ -0,0 +1,35 @@
+package com.example.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Concurrency limit that adapts to the latency of the work it admits.
+ *
+ * <p>Usage example:
+ * {@code
+ * AdaptiveLimiter limiter = new AdaptiveLimiterImpl("read", 20, 2, 120);
+ * if (limiter.tryAcquire()) {
+ *     long start = System.nanoTime();
+ *     boolean overloaded = false;
+ *     try {
+ *         overloaded = lookup() == null;
+ *     } finally {
+ *         limiter.release(System.nanoTime() - start, overloaded);
+ *     }
+ * }
+ * }
+ */
+public interface AdaptiveLimiter {
+
+    boolean tryAcquire();
+
+    void release(long latencyNanos, boolean overloaded);
+
+    int limit();
+
+    int inFlight();
+
+    long rejectedCount();
+
+    void bindTo(MeterRegistry registry);
+}
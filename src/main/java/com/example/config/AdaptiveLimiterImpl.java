@@ -0,0 +1,140 @@
+package com.example.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gradient-style {@link AdaptiveLimiter} with a multiplicative back-off on overload.
+ * Every completed call compares its latency with a slow moving average of past latencies (about
+ * {@value #LONG_WINDOW} samples). While latency stays near that baseline the limit grows by roughly its square root
+ * per call; when calls get slower than {@value #TOLERANCE} times the baseline, i.e. work starts to queue further
+ * down, the limit shrinks in proportion to the slowdown. A call reported as overloaded (a 5xx, a
+ * connection timeout) cuts the limit by {@value #BACKOFF_RATIO}. The limit only grows while at least half of it is
+ * in use, so an idle period does not inflate it. Changes are smoothed and kept within {@code [minLimit, maxLimit]}.
+ * {@link #tryAcquire} never waits: a caller over the limit is rejected at once.
+ * Metrics (tag {@code bulkhead}): {@code app.concurrency.limit}, {@code app.concurrency.in.flight},
+ * {@code app.concurrency.rejected}.
+ *
+ * <p>Usage example:
+ * {@code
+ * AdaptiveLimiterImpl limiter = new AdaptiveLimiterImpl("write", 20, 2, 60);
+ * limiter.bindTo(meterRegistry);
+ * if (!limiter.tryAcquire()) {
+ *     return serviceUnavailable();
+ * }
+ * }
+ */
+public class AdaptiveLimiterImpl implements AdaptiveLimiter {
+
+    static final int LONG_WINDOW = 600;
+    static final double TOLERANCE = 1.5;
+    static final double BACKOFF_RATIO = 0.9;
+    static final double SMOOTHING = 0.2;
+
+    private static final double LONG_ALPHA = 2.0 / (LONG_WINDOW + 1);
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile double limit;
+    private double longLatency;
+
+    public AdaptiveLimiterImpl(String name, int initialLimit, int minLimit, int maxLimit) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Name must not be null or empty");
+        }
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= minLimit <= maxLimit");
+        }
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Initial limit must be within [minLimit, maxLimit]");
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    @Override
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void release(long latencyNanos, boolean overloaded) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        update(Math.max(latencyNanos, 1), overloaded, inFlightBefore);
+    }
+
+    @Override
+    public int limit() {
+        return (int) limit;
+    }
+
+    @Override
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    @Override
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("app.concurrency.limit", this, AdaptiveLimiterImpl::limit)
+                .description("Current adaptive concurrency limit")
+                .tag("bulkhead", name)
+                .register(registry);
+        Gauge.builder("app.concurrency.in.flight", this, AdaptiveLimiterImpl::inFlight)
+                .description("Requests currently admitted")
+                .tag("bulkhead", name)
+                .register(registry);
+        FunctionCounter.builder("app.concurrency.rejected", this, AdaptiveLimiterImpl::rejectedCount)
+                .description("Requests shed because the limit was reached")
+                .tag("bulkhead", name)
+                .register(registry);
+    }
+
+    // Runs once per call and never blocks inside, so a plain monitor is cheaper than a lock.
+    private synchronized void update(long latency, boolean overloaded, int inFlightBefore) {
+        if (overloaded) {
+            limit = clamp(limit * BACKOFF_RATIO);
+            return;
+        }
+
+        longLatency = longLatency == 0 ? latency : longLatency * (1 - LONG_ALPHA) + latency * LONG_ALPHA;
+        // After a sustained slowdown the baseline has drifted up; pull it back so the limit can recover.
+        if (longLatency > 2.0 * latency) {
+            longLatency *= 0.95;
+        }
+        if (inFlightBefore < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longLatency / latency));
+        double target = limit * gradient + Math.sqrt(limit);
+        limit = clamp(limit * (1 - SMOOTHING) + target * SMOOTHING);
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
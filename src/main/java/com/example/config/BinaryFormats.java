@@ -0,0 +1,17 @@
+package com.example.config;
+
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * MVC configuration contract that registers binary Jackson encodings next to JSON for content negotiation.
+ *
+ * <p>Usage example:
+ * {@code
+ * // request and response bodies in Smile instead of JSON
+ * POST /api/users/register
+ * Content-Type: application/x-jackson-smile
+ * Accept: application/x-jackson-smile
+ * }
+ */
+public interface BinaryFormats extends WebMvcConfigurer {
+}
@@ -0,0 +1,47 @@
+package com.example.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Registers Smile ({@value #APPLICATION_SMILE_VALUE}) and CBOR ({@value #APPLICATION_CBOR_VALUE}) message
+ * converters built from Spring Boot's {@link Jackson2ObjectMapperBuilder}, so binary bodies use the same
+ * {@code spring.jackson.*} settings as JSON (e.g. ISO-8601 {@code createdAt}). Spring MVC's own defaults for these
+ * formats skip Boot's customizations and are replaced. The converters are appended after the JSON converter,
+ * which keeps JSON the response format whenever {@code Accept} is missing or a wildcard.
+ *
+ * <p>Usage example:
+ * {@code
+ * curl -H 'Accept: application/cbor' 'localhost:8080/api/products/by-title?title=Phone'
+ * }
+ */
+@Component
+public class BinaryFormatsImpl implements BinaryFormats {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final String APPLICATION_CBOR_VALUE = "application/cbor";
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilders;
+
+    public BinaryFormatsImpl(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilders) {
+        this.objectMapperBuilders = objectMapperBuilders;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+                || converter instanceof MappingJackson2CborHttpMessageConverter);
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                objectMapperBuilders.getObject().factory(new SmileFactory()).build()));
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilders.getObject().factory(new CBORFactory()).build()));
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.config;
+
+import jakarta.servlet.Filter;
+
+/**
+ * Servlet filter contract that admits repository-backed requests through per-bulkhead concurrency limits and sheds
+ * the excess.
+ *
+ * <p>Usage example:
+ * {@code
+ * ConcurrencyLimitFilter filter = new ConcurrencyLimitFilterImpl(readLimiter, writeLimiter, readPaths, writePaths);
+ * filter.doFilter(request, response, chain); // 503 with Retry-After when the bulkhead is full
+ * }
+ */
+public interface ConcurrencyLimitFilter extends Filter {
+}
@@ -0,0 +1,121 @@
+package com.example.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ConcurrencyLimitFilter} with two bulkheads, each an {@link AdaptiveLimiterImpl}: one for the lookups in
+ * {@code app.concurrency-limit.read-paths} and one for the writes in {@code app.concurrency-limit.write-paths}.
+ * A request over its bulkhead's limit is answered at once with {@code 503 Service Unavailable} and
+ * {@code Retry-After: 1} instead of waiting for a worker thread or a database connection. Admitted requests report
+ * their latency back to the limiter; a 5xx response or an exception counts as overload. All other paths, such as
+ * {@code /health}, {@code /api/welcome} and the actuator, bypass the filter, and because each bulkhead's
+ * {@code max-limit} stays below Tomcat's worker count, a slow database cannot occupy every thread.
+ * Active when {@code app.concurrency-limit.enabled=true} on the servlet stack.
+ *
+ * <p>Usage example:
+ * {@code
+ * // application.properties
+ * app.concurrency-limit.enabled=true
+ * app.concurrency-limit.write.max-limit=60
+ * // POST /api/products/create over the write limit -> 503, Retry-After: 1
+ * }
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "app.concurrency-limit.enabled", havingValue = "true")
+public class ConcurrencyLimitFilterImpl extends OncePerRequestFilter implements ConcurrencyLimitFilter {
+
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    private final AdaptiveLimiterImpl readLimiter;
+    private final AdaptiveLimiterImpl writeLimiter;
+    private final Set<String> readPaths;
+    private final Set<String> writePaths;
+
+    public ConcurrencyLimitFilterImpl(
+            AdaptiveLimiterImpl readLimiter,
+            AdaptiveLimiterImpl writeLimiter,
+            List<String> readPaths,
+            List<String> writePaths) {
+        this.readLimiter = readLimiter;
+        this.writeLimiter = writeLimiter;
+        this.readPaths = pathsOf(readPaths);
+        this.writePaths = pathsOf(writePaths);
+    }
+
+    @Autowired
+    public ConcurrencyLimitFilterImpl(
+            MeterRegistry meterRegistry,
+            @Value("${app.concurrency-limit.initial-limit:50}") int initialLimit,
+            @Value("${app.concurrency-limit.min-limit:2}") int minLimit,
+            @Value("${app.concurrency-limit.read.max-limit:120}") int readMaxLimit,
+            @Value("${app.concurrency-limit.write.max-limit:60}") int writeMaxLimit,
+            @Value("${app.concurrency-limit.read-paths:}") List<String> readPaths,
+            @Value("${app.concurrency-limit.write-paths:}") List<String> writePaths) {
+        this(
+                new AdaptiveLimiterImpl("read", Math.min(initialLimit, readMaxLimit), minLimit, readMaxLimit),
+                new AdaptiveLimiterImpl("write", Math.min(initialLimit, writeMaxLimit), minLimit, writeMaxLimit),
+                readPaths,
+                writePaths
+        );
+        readLimiter.bindTo(meterRegistry);
+        writeLimiter.bindTo(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return limiterFor(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        AdaptiveLimiterImpl limiter = limiterFor(request);
+        if (!limiter.tryAcquire()) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean overloaded = true;
+        try {
+            chain.doFilter(request, response);
+            overloaded = response.getStatus() >= 500;
+        } finally {
+            limiter.release(System.nanoTime() - start, overloaded);
+        }
+    }
+
+    private AdaptiveLimiterImpl limiterFor(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (readPaths.contains(path)) {
+            return readLimiter;
+        }
+        if (writePaths.contains(path)) {
+            return writeLimiter;
+        }
+        return null;
+    }
+
+    private static Set<String> pathsOf(List<String> paths) {
+        return paths.stream().map(String::trim).filter(path -> !path.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.config;
+
+import jakarta.servlet.Filter;
+
+/**
+ * Servlet filter contract that caps the number of concurrent streaming exports and sheds the excess.
+ *
+ * <p>Usage example:
+ * {@code
+ * ExportLimitFilter filter = new ExportLimitFilterImpl(2, List.of("/api/users/export", "/api/products/export"));
+ * filter.doFilter(request, response, chain); // 503 with Retry-After while two exports are streaming
+ * }
+ */
+public interface ExportLimitFilter extends Filter {
+}
@@ -0,0 +1,141 @@
+package com.example.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ExportLimitFilter} backed by a fixed {@link Semaphore} of {@code app.exports.max-concurrent} permits for the
+ * paths in {@code app.exports.paths}. A streaming export keeps a pooled database connection (and a JDBC guard permit)
+ * until the client has downloaded the last row, so a few slow clients could otherwise hold the whole pool. An export
+ * over the limit is answered at once with {@code 503 Service Unavailable} and {@code Retry-After: 1}. The permit is
+ * taken before the controller runs and, because exports continue as async requests, returned only when the async
+ * request completes, times out or fails; a request that does not go async returns it when the filter chain returns.
+ * In-flight exports and rejections are published as {@code app.exports.in.flight} and {@code app.exports.rejected}.
+ *
+ * <p>Usage example:
+ * {@code
+ * // application.properties
+ * app.exports.max-concurrent=2
+ * // a third concurrent GET /api/products/export -> 503, Retry-After: 1
+ * }
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ExportLimitFilterImpl extends OncePerRequestFilter implements ExportLimitFilter {
+
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    private final int maxConcurrent;
+    private final Semaphore permits;
+    private final Set<String> paths;
+    private Counter rejected;
+
+    public ExportLimitFilterImpl(int maxConcurrent, List<String> paths) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("app.exports.max-concurrent must be at least 1");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent);
+        this.paths = paths.stream().map(String::trim).filter(path -> !path.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Autowired
+    public ExportLimitFilterImpl(
+            MeterRegistry meterRegistry,
+            @Value("${app.exports.max-concurrent:2}") int maxConcurrent,
+            @Value("${app.exports.paths:/api/users/export,/api/products/export}") List<String> paths) {
+        this(maxConcurrent, paths);
+        Gauge.builder("app.exports.in.flight", this, ExportLimitFilterImpl::inFlight)
+                .description("Streaming exports currently holding a permit")
+                .register(meterRegistry);
+        rejected = Counter.builder("app.exports.rejected")
+                .description("Exports answered with 503 because the export limit was reached")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the number of exports currently holding a permit.
+     *
+     * <p>Usage example:
+     * {@code
+     * int streaming = filter.inFlight();
+     * }
+     */
+    public int inFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !paths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!permits.tryAcquire()) {
+            if (rejected != null) {
+                rejected.increment();
+            }
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            return;
+        }
+
+        boolean releaseOnComplete = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // onComplete also follows a timeout or an error, so it is the single place the permit goes back.
+                request.getAsyncContext().addListener(new ReleaseOnComplete());
+                releaseOnComplete = true;
+            }
+        } finally {
+            if (!releaseOnComplete) {
+                permits.release();
+            }
+        }
+    }
+
+    private final class ReleaseOnComplete implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permits.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // A nested startAsync replaces the listeners, so register again for the new cycle.
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.config;
+
+import javax.sql.DataSource;
+
+/**
+ * {@link DataSource} that caps how many connections may be borrowed concurrently.
+ *
+ * <p>Usage example:
+ * {@code
+ * GuardedDataSource guarded = new GuardedDataSourceImpl(dataSource, 10, Duration.ofSeconds(30));
+ * try (Connection connection = guarded.getConnection()) {
+ *     // at most 10 callers reach this point at the same time
+ * }
+ * int waiting = guarded.queuedThreads();
+ * }
+ */
+public interface GuardedDataSource extends DataSource {
+
+    int maxConcurrency();
+
+    int availablePermits();
+
+    int queuedThreads();
+}
@@ -0,0 +1,122 @@
+package com.example.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link GuardedDataSource} backed by a fair {@link Semaphore} sized to the connection pool.
+ * A permit is taken before a connection is borrowed and returned when that connection is closed, so with
+ * virtual threads enabled thousands of request threads park cheaply on the semaphore in arrival order instead
+ * of contending inside the pool. Callers that cannot get a permit within the acquire timeout fail with
+ * {@link SQLTransientConnectionException}, matching what the pool itself reports on exhaustion.
+ *
+ * <p>Usage example:
+ * {@code
+ * GuardedDataSourceImpl guarded = new GuardedDataSourceImpl(hikariDataSource, 10, Duration.ofSeconds(30));
+ * JdbcTemplate jdbcTemplate = new JdbcTemplate(guarded);
+ * }
+ */
+public class GuardedDataSourceImpl extends DelegatingDataSource implements GuardedDataSource {
+
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final Duration acquireTimeout;
+
+    public GuardedDataSourceImpl(DataSource target, int maxConcurrency, Duration acquireTimeout) {
+        super(target);
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency must be positive");
+        }
+        if (acquireTimeout == null || acquireTimeout.isNegative()) {
+            throw new IllegalArgumentException("Acquire timeout must not be negative");
+        }
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    public int queuedThreads() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "JDBC concurrency limit of " + maxConcurrency + " reached, no connection available after "
+                                + acquireTimeout.toMillis() + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a JDBC connection", e);
+        }
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                }
+        );
+    }
+}
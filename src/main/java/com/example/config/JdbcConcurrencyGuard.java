@@ -0,0 +1,15 @@
+package com.example.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Post-processor contract that wraps the application {@link javax.sql.DataSource} in a {@link GuardedDataSource}.
+ *
+ * <p>Usage example:
+ * {@code
+ * JdbcConcurrencyGuard guard = new JdbcConcurrencyGuardImpl();
+ * Object dataSource = guard.postProcessAfterInitialization(hikariDataSource, "dataSource");
+ * }
+ */
+public interface JdbcConcurrencyGuard extends BeanPostProcessor {
+}
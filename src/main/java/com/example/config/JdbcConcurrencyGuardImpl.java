@@ -0,0 +1,45 @@
+package com.example.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Wraps the Hikari connection pool in a {@link GuardedDataSourceImpl} whose permit count equals the pool's
+ * {@code maximum-pool-size} and whose acquire timeout equals the pool's {@code connection-timeout}.
+ * Active when {@code app.jdbc.concurrency-guard.enabled=true}, which by default follows
+ * {@code spring.threads.virtual.enabled}: with platform threads Tomcat's worker pool already bounds concurrency,
+ * with virtual threads nothing else does.
+ * Runs before any other DataSource wrapper, so the guard always sits directly on a Hikari pool.
+ *
+ * <p>Usage example:
+ * {@code
+ * // application.properties
+ * spring.threads.virtual.enabled=true
+ * // the DataSource injected into JdbcTemplate is now a GuardedDataSourceImpl
+ * }
+ */
+@Component
+@ConditionalOnProperty(name = "app.jdbc.concurrency-guard.enabled", havingValue = "true")
+public class JdbcConcurrencyGuardImpl implements JdbcConcurrencyGuard, Ordered {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource hikari) {
+            return new GuardedDataSourceImpl(
+                    hikari,
+                    hikari.getMaximumPoolSize(),
+                    Duration.ofMillis(hikari.getConnectionTimeout())
+            );
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.config;
+
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * WebFlux configuration contract that registers the Smile encoding of {@link BinaryFormats} for the
+ * {@code reactive} profile with the same Jackson settings as JSON.
+ *
+ * <p>Usage example:
+ * {@code
+ * // request and response bodies in Smile instead of JSON
+ * POST /api/users/register
+ * Content-Type: application/x-jackson-smile
+ * Accept: application/x-jackson-smile
+ * }
+ */
+public interface ReactiveCodecs extends WebFluxConfigurer {
+}
@@ -0,0 +1,49 @@
+package com.example.config;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Replaces WebFlux's default Smile codecs with ones built from Spring Boot's {@link Jackson2ObjectMapperBuilder},
+ * like the MVC converter of {@link BinaryFormatsImpl}, so dates and the other {@code spring.jackson.*} settings match
+ * JSON. CBOR is not registered: Spring's {@code Jackson2CborEncoder} cannot encode the multi-value bodies WebFlux
+ * hands it (it fails with {@code UnsupportedOperationException}), so the reactive variant negotiates JSON and Smile
+ * and answers {@code 406 Not Acceptable} to {@code Accept: application/cbor}.
+ *
+ * <p>Usage example:
+ * {@code
+ * curl -H 'Accept: application/x-jackson-smile' 'localhost:8080/api/products/by-title?title=Phone'
+ * }
+ */
+@Component
+@Profile("reactive")
+public class ReactiveCodecsImpl implements ReactiveCodecs {
+
+    private static final MimeType[] SMILE_MIME_TYPES = {
+            MimeTypeUtils.parseMimeType(BinaryFormatsImpl.APPLICATION_SMILE_VALUE),
+            MimeTypeUtils.parseMimeType("application/*+x-jackson-smile")
+    };
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilders;
+
+    public ReactiveCodecsImpl(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilders) {
+        this.objectMapperBuilders = objectMapperBuilders;
+    }
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        // The mapper-only constructors fall back to the JSON media types, so pass Smile's explicitly.
+        configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(
+                objectMapperBuilders.getObject().factory(new SmileFactory()).build(), SMILE_MIME_TYPES));
+        configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(
+                objectMapperBuilders.getObject().factory(new SmileFactory()).build(), SMILE_MIME_TYPES));
+    }
+}
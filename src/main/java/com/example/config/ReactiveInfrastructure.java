@@ -0,0 +1,21 @@
+package com.example.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+
+/**
+ * Infrastructure the {@code reactive} profile needs beyond Spring Boot's auto-configuration: the Reactor Netty
+ * server and the JDBC {@code DataSource} that Boot otherwise backs off from once an R2DBC connection factory exists.
+ *
+ * <p>Usage example:
+ * {@code
+ * java -Dspring.profiles.active=reactive -jar build/libs/spring-boot-app-1.0.0.jar
+ * }
+ */
+public interface ReactiveInfrastructure {
+
+    NettyReactiveWebServerFactory reactiveWebServerFactory();
+
+    HikariDataSource dataSource(DataSourceProperties properties);
+}
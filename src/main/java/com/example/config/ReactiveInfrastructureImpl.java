@@ -0,0 +1,39 @@
+package com.example.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Configuration implementation of {@link ReactiveInfrastructure}.
+ * Tomcat stays on the classpath for the servlet variant and Boot would prefer it as the reactive server too, so the
+ * Netty factory is declared explicitly. The {@code DataSource} is bound from the usual {@code spring.datasource.*}
+ * and {@code spring.datasource.hikari.*} properties; Liquibase and the blocking repositories the registers depend
+ * on keep using it, while request handling goes through R2DBC.
+ *
+ * <p>Usage example:
+ * {@code
+ * SPRING_PROFILES_ACTIVE=reactive java -jar build/libs/spring-boot-app-1.0.0.jar
+ * }
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("reactive")
+public class ReactiveInfrastructureImpl implements ReactiveInfrastructure {
+
+    @Override
+    @Bean
+    public NettyReactiveWebServerFactory reactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Override
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+}
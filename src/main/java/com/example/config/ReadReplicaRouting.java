@@ -0,0 +1,18 @@
+package com.example.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Post-processor contract that wraps the application {@link javax.sql.DataSource} in a
+ * {@link ReplicaRoutingDataSource} over the configured read replicas.
+ *
+ * <p>Usage example:
+ * {@code
+ * ReadReplicaRouting routing = new ReadReplicaRoutingImpl(readRoutingProvider, meterRegistryProvider,
+ *         List.of("jdbc:postgresql://replica:5432/app_db"), "app_user", "app_password", 10,
+ *         Duration.ofSeconds(1), Duration.ofMillis(500), false);
+ * Object dataSource = routing.postProcessAfterInitialization(primaryDataSource, "dataSource");
+ * }
+ */
+public interface ReadReplicaRouting extends BeanPostProcessor {
+}
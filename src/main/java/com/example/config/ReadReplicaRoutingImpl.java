@@ -0,0 +1,135 @@
+package com.example.config;
+
+import com.example.repository.ReadRoutingImpl;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wraps the {@code dataSource} bean in a {@link ReplicaRoutingDataSourceImpl} whose replicas are Hikari pools built
+ * from {@code app.datasource.replicas.urls}. Active when {@code app.datasource.replicas.enabled=true}.
+ * Replica pools are read-only, named {@code replica-<n>}, sized by {@code app.datasource.replicas.maximum-pool-size}
+ * and do not fail startup when a replica is down; the lag monitor keeps such a replica out of rotation instead.
+ * With the JDBC concurrency guard enabled every replica pool gets its own {@link GuardedDataSourceImpl}. Runs after
+ * {@link JdbcConcurrencyGuardImpl}, so the primary keeps its guard too.
+ *
+ * <p>Usage example:
+ * {@code
+ * // application.properties
+ * app.datasource.replicas.enabled=true
+ * app.datasource.replicas.urls=jdbc:postgresql://127.0.0.1:5433/app_db?sslmode=disable
+ * // the DataSource injected into JdbcTemplate is now a ReplicaRoutingDataSourceImpl
+ * }
+ */
+@Component
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaRoutingImpl implements ReadReplicaRouting, Ordered {
+
+    private final ObjectProvider<ReadRoutingImpl> readRouting;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final List<String> urls;
+    private final String username;
+    private final String password;
+    private final int maximumPoolSize;
+    private final Duration maxLag;
+    private final Duration lagCheckInterval;
+    private final boolean guardEnabled;
+
+    public ReadReplicaRoutingImpl(
+            ObjectProvider<ReadRoutingImpl> readRouting,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.datasource.replicas.urls:}") List<String> urls,
+            @Value("${app.datasource.replicas.username:}") String username,
+            @Value("${app.datasource.replicas.password:}") String password,
+            @Value("${app.datasource.replicas.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${app.datasource.replicas.max-lag:PT1S}") Duration maxLag,
+            @Value("${app.datasource.replicas.lag-check-interval:PT0.5S}") Duration lagCheckInterval,
+            @Value("${app.jdbc.concurrency-guard.enabled:false}") boolean guardEnabled) {
+        if (urls == null || urls.stream().allMatch(String::isBlank)) {
+            throw new IllegalArgumentException("app.datasource.replicas.urls must list at least one replica");
+        }
+        if (maximumPoolSize < 1) {
+            throw new IllegalArgumentException("Replica pool size must be positive");
+        }
+        this.readRouting = readRouting;
+        this.meterRegistry = meterRegistry;
+        this.urls = urls.stream().map(String::trim).filter(url -> !url.isEmpty()).toList();
+        this.username = username;
+        this.password = password;
+        this.maximumPoolSize = maximumPoolSize;
+        this.maxLag = maxLag;
+        this.lagCheckInterval = lagCheckInterval;
+        this.guardEnabled = guardEnabled;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!"dataSource".equals(beanName) || !(bean instanceof DataSource primary)
+                || bean instanceof ReplicaRoutingDataSource) {
+            return bean;
+        }
+
+        List<DataSource> replicas = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            replicas.add(replicaPool(i, urls.get(i), primary));
+        }
+        return new ReplicaRoutingDataSourceImpl(
+                primary,
+                replicas,
+                readRouting.getObject(),
+                maxLag,
+                lagCheckInterval
+        );
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    private DataSource replicaPool(int index, String url, DataSource primary) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("replica-" + index);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setReadOnly(true);
+        // Start even when a replica is down; it stays out of rotation until the lag monitor reaches it.
+        config.setInitializationFailTimeout(-1);
+        HikariDataSource primaryPool = unwrapHikari(primary);
+        if (primaryPool != null) {
+            config.setConnectionTimeout(primaryPool.getConnectionTimeout());
+        }
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            config.setMetricRegistry(registry);
+        }
+
+        HikariDataSource pool = new HikariDataSource(config);
+        if (!guardEnabled) {
+            return pool;
+        }
+        return new GuardedDataSourceImpl(pool, maximumPoolSize, Duration.ofMillis(pool.getConnectionTimeout()));
+    }
+
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari;
+        }
+        if (dataSource instanceof GuardedDataSourceImpl guarded) {
+            return unwrapHikari(guarded.getTargetDataSource());
+        }
+        return null;
+    }
+}
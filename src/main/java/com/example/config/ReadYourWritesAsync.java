@@ -0,0 +1,17 @@
+package com.example.config;
+
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * MVC configuration contract that carries a request's pin to the primary database over to the thread that finishes
+ * an async request, such as a streaming export.
+ *
+ * <p>Usage example:
+ * {@code
+ * POST /api/users/register -> Set-Cookie: app-last-write=...
+ * GET /api/users/export    -> streamed from the primary while the cookie is younger than the window
+ * }
+ */
+public interface ReadYourWritesAsync extends WebMvcConfigurer, CallableProcessingInterceptor {
+}
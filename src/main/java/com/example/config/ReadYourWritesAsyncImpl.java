@@ -0,0 +1,65 @@
+package com.example.config;
+
+import com.example.repository.ReadRoutingImpl;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+
+import java.util.concurrent.Callable;
+
+/**
+ * {@link ReadYourWritesAsync} for the async requests of Spring MVC, which include every
+ * {@code StreamingResponseBody} export. {@link ReadYourWritesFilterImpl} pins the request thread, but the body of an
+ * async request runs later on an executor thread that {@link ReadRoutingImpl} knows nothing about. Before the request
+ * goes async, the pin is recorded in the {@value #PINNED_ATTRIBUTE} request attribute; the executor thread pins
+ * itself from it before running the body and unpins once the body has finished, however it finished. Active together
+ * with replica routing on the servlet stack.
+ *
+ * <p>Usage example:
+ * {@code
+ * readYourWritesAsync.beforeConcurrentHandling(request, task); // request thread: records the pin
+ * readYourWritesAsync.preProcess(request, task);               // executor thread: pins if recorded
+ * readYourWritesAsync.postProcess(request, task, result);      // executor thread: unpins
+ * }
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReadYourWritesAsyncImpl implements ReadYourWritesAsync {
+
+    static final String PINNED_ATTRIBUTE = ReadYourWritesAsyncImpl.class.getName() + ".pinned";
+
+    private final ReadRoutingImpl readRouting;
+
+    public ReadYourWritesAsyncImpl(ReadRoutingImpl readRouting) {
+        this.readRouting = readRouting;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(this);
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        if (readRouting.pinnedToPrimary()) {
+            request.setAttribute(PINNED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        if (request.getAttribute(PINNED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            readRouting.pinToPrimary();
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        // Executor threads are pooled, so the pin must not outlive this request.
+        readRouting.unpin();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.config;
+
+import jakarta.servlet.Filter;
+
+/**
+ * Servlet filter contract that pins requests to the primary database while their client's last write may not have
+ * reached the read replicas yet.
+ *
+ * <p>Usage example:
+ * {@code
+ * ReadYourWritesFilter filter = new ReadYourWritesFilterImpl(
+ *         readRouting, Duration.ofSeconds(1), Duration.ofMillis(500), List.of("/api/users/by-emails"));
+ * filter.doFilter(request, response, chain);
+ * }
+ */
+public interface ReadYourWritesFilter extends Filter {
+}
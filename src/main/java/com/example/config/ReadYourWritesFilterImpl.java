@@ -0,0 +1,113 @@
+package com.example.config;
+
+import com.example.repository.ReadRoutingImpl;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ReadYourWritesFilter} that tracks a client's last write in the {@value #LAST_WRITE_COOKIE} cookie.
+ * A POST, PUT, PATCH or DELETE request is pinned to the primary with {@link ReadRoutingImpl#pinToPrimary} and stamps
+ * the cookie with the current time; any later request that carries a stamp younger than the read-your-writes window
+ * is pinned as well. Lookups that take their keys in a POST body are listed in
+ * {@code app.datasource.replicas.read-only-paths} and are treated like reads. The window is {@code app.datasource.replicas.max-lag} plus
+ * {@code app.datasource.replicas.lag-check-interval}: a replica that is routed to was at most {@code max-lag} behind
+ * when it was last measured, which was at most one interval ago. Clients that drop cookies still get replica reads
+ * no staler than that window. Active together with replica routing on the servlet stack.
+ *
+ * <p>Usage example:
+ * {@code
+ * POST /api/products/create            -> Set-Cookie: app-last-write=1700000000000; Max-Age=2
+ * GET /api/products/by-title?title=... -> served by the primary while the cookie is younger than the window
+ * }
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReadYourWritesFilterImpl extends OncePerRequestFilter implements ReadYourWritesFilter {
+
+    public static final String LAST_WRITE_COOKIE = "app-last-write";
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final ReadRoutingImpl readRouting;
+    private final Duration window;
+    private final Set<String> readOnlyPaths;
+
+    public ReadYourWritesFilterImpl(
+            ReadRoutingImpl readRouting,
+            @Value("${app.datasource.replicas.max-lag:PT1S}") Duration maxLag,
+            @Value("${app.datasource.replicas.lag-check-interval:PT0.5S}") Duration lagCheckInterval,
+            @Value("${app.datasource.replicas.read-only-paths:}") List<String> readOnlyPaths) {
+        this.readRouting = readRouting;
+        this.window = maxLag.plus(lagCheckInterval);
+        this.readOnlyPaths = readOnlyPaths.stream().map(String::trim).filter(path -> !path.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        if (isWrite(request)) {
+            // Set before the chain runs, since the response may be committed by the time it returns.
+            response.addCookie(lastWriteCookie(now));
+            readRouting.pinToPrimary();
+        } else if (wroteRecently(request, now)) {
+            readRouting.pinToPrimary();
+        }
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            readRouting.unpin();
+        }
+    }
+
+    private boolean isWrite(HttpServletRequest request) {
+        if (!WRITE_METHODS.contains(request.getMethod())) {
+            return false;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !readOnlyPaths.contains(path);
+    }
+
+    private boolean wroteRecently(HttpServletRequest request, long now) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (LAST_WRITE_COOKIE.equals(cookie.getName())) {
+                try {
+                    long written = Long.parseLong(cookie.getValue());
+                    return now - written < window.toMillis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Cookie lastWriteCookie(long now) {
+        Cookie cookie = new Cookie(LAST_WRITE_COOKIE, Long.toString(now));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, (window.toMillis() + 999) / 1000));
+        return cookie;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.config;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * {@link DataSource} that serves read-only work from replica pools and everything else from the primary.
+ *
+ * <p>Usage example:
+ * {@code
+ * ReplicaRoutingDataSource routing = new ReplicaRoutingDataSourceImpl(
+ *         primary, List.of(replica), readRouting, Duration.ofSeconds(1), Duration.ofMillis(500));
+ * Duration lag = routing.replicaLag(0);
+ * boolean eligible = routing.replicaEligible(0);
+ * }
+ */
+public interface ReplicaRoutingDataSource extends DataSource, AutoCloseable {
+
+    DataSource primary();
+
+    int replicaCount();
+
+    Duration replicaLag(int replica);
+
+    boolean replicaEligible(int replica);
+
+    Duration maxLag();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,198 @@
+package com.example.config;
+
+import com.example.repository.ReadRoutingImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * {@link ReplicaRoutingDataSource} that picks a connection source per {@link #getConnection()} call.
+ * Inside {@link ReadRoutingImpl#onReplica} on a thread that is not pinned to the primary, connections come from the
+ * replicas in round-robin order, skipping every replica whose replay lag is unknown or above {@code maxLag}; when no
+ * replica qualifies the read falls back to the primary. All other connections come from the primary.
+ * The lag of each replica is measured every {@code lagCheckInterval} on a single daemon thread: zero when the replica
+ * has replayed everything it received (or is not in recovery at all), otherwise the age of the last replayed
+ * transaction. A replica that cannot be reached counts as lagging until the next successful check; the first failed
+ * check is logged at WARN with its exception and the recovery at INFO, so a replica that stays down is logged once.
+ *
+ * <p>Usage example:
+ * {@code
+ * ReplicaRoutingDataSourceImpl routing = new ReplicaRoutingDataSourceImpl(
+ *         primary, List.of(replica), readRouting, Duration.ofSeconds(1), Duration.ofMillis(500));
+ * JdbcTemplate jdbcTemplate = new JdbcTemplate(routing);
+ * readRouting.onReplica(() -> jdbcTemplate.queryForObject("SELECT count(*) FROM users", Long.class));
+ * }
+ */
+public class ReplicaRoutingDataSourceImpl extends DelegatingDataSource implements ReplicaRoutingDataSource {
+
+    static final String LAG_SQL = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE CAST(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 AS bigint)
+            END
+            """;
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSourceImpl.class);
+    private static final long UNKNOWN_LAG = -1;
+
+    private final List<DataSource> replicas;
+    private final ReadRoutingImpl readRouting;
+    private final Duration maxLag;
+    private final AtomicLongArray lagMillis;
+    private final boolean[] unreachable;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ScheduledExecutorService lagMonitor;
+
+    public ReplicaRoutingDataSourceImpl(
+            DataSource primary,
+            List<DataSource> replicas,
+            ReadRoutingImpl readRouting,
+            Duration maxLag,
+            Duration lagCheckInterval) {
+        super(primary);
+        if (replicas == null || replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica is required");
+        }
+        if (maxLag == null || maxLag.isNegative()) {
+            throw new IllegalArgumentException("Max lag must not be negative");
+        }
+        if (lagCheckInterval == null || lagCheckInterval.isNegative() || lagCheckInterval.isZero()) {
+            throw new IllegalArgumentException("Lag check interval must be positive");
+        }
+        this.replicas = List.copyOf(replicas);
+        this.readRouting = readRouting;
+        this.maxLag = maxLag;
+        this.lagMillis = new AtomicLongArray(replicas.size());
+        this.unreachable = new boolean[replicas.size()];
+        for (int i = 0; i < replicas.size(); i++) {
+            lagMillis.set(i, UNKNOWN_LAG);
+        }
+
+        checkLag();
+        this.lagMonitor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = lagCheckInterval.toMillis();
+        lagMonitor.scheduleWithFixedDelay(this::checkLag, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource replica = replicaForRead();
+        return replica != null ? replica.getConnection() : super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        DataSource replica = replicaForRead();
+        return replica != null ? replica.getConnection(username, password) : super.getConnection(username, password);
+    }
+
+    @Override
+    public DataSource primary() {
+        return getTargetDataSource();
+    }
+
+    @Override
+    public int replicaCount() {
+        return replicas.size();
+    }
+
+    @Override
+    public Duration replicaLag(int replica) {
+        long lag = lagMillis.get(replica);
+        return lag == UNKNOWN_LAG ? null : Duration.ofMillis(lag);
+    }
+
+    @Override
+    public boolean replicaEligible(int replica) {
+        long lag = lagMillis.get(replica);
+        return lag != UNKNOWN_LAG && lag <= maxLag.toMillis();
+    }
+
+    @Override
+    public Duration maxLag() {
+        return maxLag;
+    }
+
+    @Override
+    public void close() {
+        lagMonitor.shutdownNow();
+        closeQuietly(getTargetDataSource());
+        replicas.forEach(ReplicaRoutingDataSourceImpl::closeQuietly);
+    }
+
+    /**
+     * Measures the replay lag of every replica once; also run by the monitor thread.
+     */
+    synchronized void checkLag() {
+        for (int i = 0; i < replicas.size(); i++) {
+            lagMillis.set(i, measureLag(i));
+        }
+    }
+
+    private DataSource replicaForRead() {
+        if (!readRouting.replicaAllowed()) {
+            return null;
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int offset = 0; offset < replicas.size(); offset++) {
+            int replica = (start + offset) % replicas.size();
+            if (replicaEligible(replica)) {
+                return replicas.get(replica);
+            }
+        }
+        return null;
+    }
+
+    private long measureLag(int replica) {
+        try (Connection connection = replicas.get(replica).getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_SQL)) {
+            rs.next();
+            long lag = rs.getLong(1);
+            // No transaction replayed yet since the replica started: its lag cannot be told.
+            long measured = rs.wasNull() ? UNKNOWN_LAG : Math.max(lag, 0);
+            if (unreachable[replica]) {
+                unreachable[replica] = false;
+                log.info("Replica {} answers lag checks again", replica);
+            }
+            return measured;
+        } catch (SQLException | RuntimeException e) {
+            // Logged on the change only; the check repeats every interval while the replica is down.
+            if (!unreachable[replica]) {
+                unreachable[replica] = true;
+                log.warn("Replica {} lag check failed, reads skip it until it answers", replica, e);
+            }
+            return UNKNOWN_LAG;
+        }
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        try {
+            if (dataSource instanceof DelegatingDataSource delegating) {
+                closeQuietly(delegating.getTargetDataSource());
+            } else if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        } catch (Exception e) {
+            // Shutting down anyway; the remaining pools must still be closed.
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Post-processor contract that verifies the database schema is at the changelog's version before the
+ * {@link javax.sql.DataSource} is handed to any repository.
+ *
+ * <p>Usage example:
+ * {@code
+ * SchemaVersionCheck check = new SchemaVersionCheckImpl("classpath:db/changelog/db.changelog-master.yaml");
+ * check.postProcessAfterInitialization(dataSource, "dataSource"); // throws if a changeset is not applied
+ * }
+ */
+public interface SchemaVersionCheck extends BeanPostProcessor {
+}
@@ -0,0 +1,149 @@
+package com.example.config;
+
+import liquibase.changelog.ChangeLogParameters;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.exception.LiquibaseException;
+import liquibase.parser.ChangeLogParser;
+import liquibase.parser.ChangeLogParserFactory;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import liquibase.resource.ResourceAccessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Refuses to start an instance whose database is behind the Liquibase changelog bundled with it.
+ * Active when {@code spring.liquibase.enabled=false}, the default: schema changes are applied by the separate
+ * {@code migrate} run mode ({@link com.example.SchemaMigrationImpl}), and regular instances neither take the
+ * Liquibase lock nor compute checksums. Instead, as soon as the {@code dataSource} bean is initialized, the check
+ * parses the changelog from the classpath and reads the applied changesets with a single query in a read-only
+ * connection; if any changeset of the changelog is missing the context fails with an {@link IllegalStateException}
+ * before a repository touches the tables. Changesets are matched by id and author; the recorded file path depends on
+ * how the changelog was referenced when it was applied. A database ahead of the instance (a newer release already
+ * migrated it) is accepted, so migrations must stay backward compatible for one release, unless one of the applied
+ * changesets the instance does not know carries the {@value #BREAKING_LABEL} Liquibase label: such a changeset
+ * changes the schema in a way older code would misread or corrupt (for example a column's type or unit), and the
+ * instance refuses to start rather than run against it.
+ *
+ * <p>Usage example:
+ * {@code
+ * // application.properties
+ * spring.liquibase.enabled=false
+ * // java -jar app.jar migrate, then start the instances; an unmigrated database fails startup with
+ * // IllegalStateException: Database schema is behind the changelog: 1 changeset(s) not applied ...
+ * // an instance of an older release against a database with a newer "labels: breaking" changeset fails with
+ * // IllegalStateException: Database schema has changeset(s) this release is incompatible with ...
+ * }
+ */
+@Component
+@ConditionalOnProperty(name = "spring.liquibase.enabled", havingValue = "false")
+public class SchemaVersionCheckImpl implements SchemaVersionCheck {
+
+    public static final String BREAKING_LABEL = "breaking";
+
+    private static final String APPLIED_SQL = "SELECT id, author, labels FROM databasechangelog";
+    private static final String CLASSPATH_PREFIX = "classpath:";
+
+    private final String changeLog;
+
+    public SchemaVersionCheckImpl(
+            @Value("${spring.liquibase.change-log:classpath:/db/changelog/db.changelog-master.yaml}") String changeLog) {
+        this.changeLog = changeLog.startsWith(CLASSPATH_PREFIX)
+                ? changeLog.substring(CLASSPATH_PREFIX.length())
+                : changeLog;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+            verify(dataSource);
+        }
+        return bean;
+    }
+
+    void verify(DataSource dataSource) {
+        Set<String> expected = expectedChangeSets();
+        Map<String, String> applied = appliedChangeSets(dataSource);
+
+        Set<String> incompatible = new LinkedHashSet<>();
+        for (Map.Entry<String, String> changeSet : applied.entrySet()) {
+            if (!expected.contains(changeSet.getKey()) && isBreaking(changeSet.getValue())) {
+                incompatible.add(changeSet.getKey());
+            }
+        }
+        if (!incompatible.isEmpty()) {
+            throw new IllegalStateException("Database schema has changeset(s) this release is incompatible with "
+                    + incompatible + ", labelled '" + BREAKING_LABEL + "'. Deploy the release that contains them.");
+        }
+
+        Set<String> missing = new LinkedHashSet<>(expected);
+        missing.removeAll(applied.keySet());
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Database schema is behind the changelog: " + missing.size()
+                    + " changeset(s) not applied " + missing + ". Run the application with the 'migrate' argument"
+                    + " (or 'gradle migrate') before starting it.");
+        }
+    }
+
+    private Set<String> expectedChangeSets() {
+        try {
+            ResourceAccessor resources = new ClassLoaderResourceAccessor(getClass().getClassLoader());
+            ChangeLogParser parser = ChangeLogParserFactory.getInstance().getParser(changeLog, resources);
+            DatabaseChangeLog parsed = parser.parse(changeLog, new ChangeLogParameters(), resources);
+            Set<String> expected = new LinkedHashSet<>();
+            for (ChangeSet changeSet : parsed.getChangeSets()) {
+                expected.add(key(changeSet.getId(), changeSet.getAuthor()));
+            }
+            return expected;
+        } catch (LiquibaseException e) {
+            throw new IllegalStateException("Cannot parse Liquibase changelog " + changeLog, e);
+        }
+    }
+
+    private static Map<String, String> appliedChangeSets(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean readOnly = connection.isReadOnly();
+            connection.setReadOnly(true);
+            try (Statement statement = connection.createStatement();
+                 ResultSet rows = statement.executeQuery(APPLIED_SQL)) {
+                Map<String, String> applied = new HashMap<>();
+                while (rows.next()) {
+                    applied.put(key(rows.getString(1), rows.getString(2)), rows.getString(3));
+                }
+                return applied;
+            } finally {
+                connection.setReadOnly(readOnly);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot read the applied changesets; has the 'migrate' run mode been run"
+                    + " against this database?", e);
+        }
+    }
+
+    private static boolean isBreaking(String labels) {
+        if (labels == null) {
+            return false;
+        }
+        for (String label : labels.split(",")) {
+            if (label.trim().equals(BREAKING_LABEL)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String key(String id, String author) {
+        return id + "::" + author;
+    }
+}
@@ -1,12 +1,26 @@
 package com.example.controller;
 
+import com.example.io.ByteBufferPoolImpl;
+import com.example.io.JsonStreamTransformerImpl;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * REST controller exposing generic utility endpoints such as welcome, echo, info and transform.
+ * {@code /echo/stream} copies the request body to the response through {@link ByteBufferPoolImpl} without
+ * materializing it and reports the echo metadata in {@code X-Echo-Timestamp} and {@code X-Echo-Type} headers.
+ * {@code /transform/stream} answers like {@code /transform} in one pass over the tokens via
+ * {@link JsonStreamTransformerImpl}.
  *
  * <p>Usage example:
  * {@code
@@ -14,9 +28,20 @@ import java.util.Map;
  * }
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api")
 public class ApiController {
 
+	static final String ECHO_TIMESTAMP_HEADER = "X-Echo-Timestamp";
+	static final String ECHO_TYPE_HEADER = "X-Echo-Type";
+	static final String ECHO_TYPE = "echo_response";
+
+	@Autowired
+	private ByteBufferPoolImpl byteBufferPool;
+
+	@Autowired
+	private JsonStreamTransformerImpl jsonStreamTransformer;
+
 	@GetMapping("/welcome")
 	public ResponseEntity<Map<String, Object>> welcome() {
 		Map<String, Object> response = new HashMap<>();
@@ -31,10 +56,24 @@ public class ApiController {
 		Map<String, Object> response = new HashMap<>();
 		response.put("received", requestBody);
 		response.put("timestamp", System.currentTimeMillis());
-		response.put("type", "echo_response");
+		response.put("type", ECHO_TYPE);
 		return ResponseEntity.ok(response);
 	}
 
+	@PostMapping("/echo/stream")
+	public void echoStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		String contentType = request.getContentType();
+		response.setStatus(HttpServletResponse.SC_OK);
+		response.setContentType(contentType != null ? contentType : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+		long contentLength = request.getContentLengthLong();
+		if (contentLength >= 0) {
+			response.setContentLengthLong(contentLength);
+		}
+		response.setHeader(ECHO_TIMESTAMP_HEADER, String.valueOf(System.currentTimeMillis()));
+		response.setHeader(ECHO_TYPE_HEADER, ECHO_TYPE);
+		byteBufferPool.transfer(request.getInputStream(), response.getOutputStream());
+	}
+
 	@GetMapping("/info")
 	public ResponseEntity<Map<String, String>> info() {
 		Map<String, String> info = new HashMap<>();
@@ -55,4 +94,19 @@ public class ApiController {
 		result.put("processed", true);
 		return ResponseEntity.ok(result);
 	}
+
+	@PostMapping(value = "/transform/stream", consumes = MediaType.APPLICATION_JSON_VALUE)
+	public void transformStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		try {
+			jsonStreamTransformer.transform(request.getInputStream(), response.getOutputStream());
+		} catch (IllegalArgumentException | JsonProcessingException e) {
+			// Output is only buffered until the response commits; past that point the client sees a truncated body.
+			if (response.isCommitted()) {
+				throw e;
+			}
+			response.resetBuffer();
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+		}
+	}
 }
@@ -1,65 +1,162 @@
 package com.example.controller;
 
+import com.example.dto.KeyLookupImpl;
+import com.example.dto.MoneyImpl;
+import com.example.dto.ProductIngestResponseImpl;
 import com.example.dto.ProductRequestImpl;
 import com.example.dto.ProductResponseImpl;
+import com.example.dto.ProductStatisticsImpl;
+import com.example.dto.ProductWriteAckImpl;
+import com.example.dto.TitleMatchImpl;
+import com.example.register.ExportRegister;
+import com.example.register.ExportRegisterImpl;
+import com.example.register.ProductIngestRegisterImpl;
 import com.example.register.ProductRegisterImpl;
-import com.example.repository.ProductRepositoryImpl;
+import com.example.register.ProductWriteBehindImpl;
+import com.example.register.WriteBehindRejectedException;
+import com.example.repository.ProductRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
 
 /**
  * REST controller for product operations such as creation, discount application and statistics.
+ * With {@code app.products.write-behind.enabled=true}, creation and discount answer {@code 202 Accepted} with a
+ * tracking id and the product is persisted later by {@link ProductWriteBehindImpl}.
+ * Statistics are served from the aggregates the repository maintains on every write, not from a table scan.
  *
  * <p>Usage example:
  * {@code
  * ProductRequestImpl request = ProductRequestImpl.builder()
  *     .title("Phone")
- *     .price(100.0)
+ *     .price(10000)
  *     .quantity(2)
  *     .build();
- * ResponseEntity<ProductResponseImpl> response = productController.createProduct(request);
+ * ResponseEntity<?> response = productController.createProduct(request);
  * }
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/products")
 public class ProductController {
 
+	static final int DEFAULT_TITLE_LIMIT = 100;
+	static final int MAX_TITLE_LIMIT = 1000;
+	static final int MAX_LOOKUP_KEYS = 10_000;
+	static final int DEFAULT_SEARCH_LIMIT = 10;
+	static final int MAX_SEARCH_LIMIT = 100;
+	static final int MAX_SEARCH_QUERY_LENGTH = 255;
+	static final String DEPRECATION_HEADER = "Deprecation";
+
 	@Autowired
 	private ProductRegisterImpl productService;
 
 	@Autowired
-	private ProductRepositoryImpl productRepository;
+	@Qualifier("productRepository")
+	private ProductRepository productRepository;
+
+	@Autowired
+	private ProductIngestRegisterImpl productIngestService;
+
+	@Autowired
+	private ExportRegisterImpl exportService;
+
+	@Autowired(required = false)
+	private ProductWriteBehindImpl productWriteBehind;
 
 	@PostMapping("/create")
-	public ResponseEntity<ProductResponseImpl> createProduct(@RequestBody ProductRequestImpl request) {
+	public ResponseEntity<?> createProduct(@RequestBody ProductRequestImpl request) {
 		try {
+			if (productWriteBehind != null) {
+				return accepted(productWriteBehind.submitCreate(request));
+			}
 			ProductResponseImpl response = productService.createProduct(request);
 			return ResponseEntity.status(HttpStatus.CREATED).body(response);
 		} catch (IllegalArgumentException e) {
 			return ResponseEntity.badRequest().build();
+		} catch (WriteBehindRejectedException e) {
+			return writeBehindUnavailable();
 		}
 	}
 
 	@PostMapping("/discount")
-	public ResponseEntity<ProductResponseImpl> applyDiscount(
+	public ResponseEntity<?> applyDiscount(
 			@RequestBody ProductRequestImpl request,
-			@RequestParam(defaultValue = "10") double discount) {
+			@RequestParam(defaultValue = "10") String discount) {
 		try {
-			ProductResponseImpl response = productService.applyDiscount(request, discount);
+			// Percent with at most two decimals, parsed exactly into hundredths of a percent
+			long discountBasisPoints = MoneyImpl.parse(discount);
+			if (productWriteBehind != null) {
+				return accepted(productWriteBehind.submitDiscount(request, discountBasisPoints));
+			}
+			ProductResponseImpl response = productService.applyDiscount(request, discountBasisPoints);
 			return ResponseEntity.ok(response);
 		} catch (IllegalArgumentException e) {
 			return ResponseEntity.badRequest().build();
+		} catch (WriteBehindRejectedException e) {
+			return writeBehindUnavailable();
+		}
+	}
+
+	@GetMapping("/writes/{trackingId}")
+	public ResponseEntity<ProductWriteAckImpl> getWriteStatus(@PathVariable String trackingId) {
+		ProductWriteAckImpl status = productWriteBehind != null ? productWriteBehind.status(trackingId) : null;
+		if (status == null) {
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
 		}
+		return ResponseEntity.ok(status);
+	}
+
+	@GetMapping("/calculate")
+	public ResponseEntity<ProductStatisticsImpl> calculateStats() {
+		return ResponseEntity.ok(productRepository.statistics());
 	}
 
+	@Deprecated
 	@PostMapping("/calculate")
-	public ResponseEntity<ProductResponseImpl> calculateStats(@RequestBody ProductRequestImpl request) {
+	public ResponseEntity<ProductStatisticsImpl> calculateStatsPost() {
+		// Former POST form, which created a product from the body; the body is now ignored.
+		return ResponseEntity.ok()
+				.header(DEPRECATION_HEADER, "true")
+				.header(HttpHeaders.LINK, "</api/products/calculate>; rel=\"successor-version\"")
+				.body(productRepository.statistics());
+	}
+
+	@PostMapping(value = "/ingest", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<ProductIngestResponseImpl> ingestNdjson(InputStream body) {
 		try {
-			ProductResponseImpl response = productService.createProduct(request);
-			return ResponseEntity.ok(response);
+			return ResponseEntity.ok(productIngestService.ingestNdjson(body));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		}
+	}
+
+	@PostMapping(value = "/ingest", consumes = "text/csv")
+	public ResponseEntity<ProductIngestResponseImpl> ingestCsv(InputStream body) {
+		try {
+			return ResponseEntity.ok(productIngestService.ingestCsv(body));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		}
+	}
+
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> exportProducts(
+			@RequestParam(defaultValue = ExportRegister.FORMAT_NDJSON) String format) {
+		try {
+			return ResponseEntity.ok()
+					.contentType(MediaType.parseMediaType(exportService.contentType(format)))
+					.body(out -> exportService.exportProducts(format, out));
 		} catch (IllegalArgumentException e) {
 			return ResponseEntity.badRequest().build();
 		}
@@ -71,15 +168,53 @@ public class ProductController {
 	}
 
 	@GetMapping("/by-title")
-	public ResponseEntity<ProductResponseImpl> getByTitle(@RequestParam String title) {
-		if (title == null || title.isEmpty()) {
+	public ResponseEntity<List<ProductResponseImpl>> getByTitle(
+			@RequestParam String title,
+			@RequestParam(defaultValue = "" + DEFAULT_TITLE_LIMIT) int limit) {
+		if (title == null || title.isEmpty() || limit < 1 || limit > MAX_TITLE_LIMIT) {
 			return ResponseEntity.badRequest().build();
 		}
-		try {
-			ProductResponseImpl response = productRepository.findByTitle(title);
-			return ResponseEntity.ok(response);
-		} catch (EmptyResultDataAccessException e) {
+		List<ProductResponseImpl> response = productRepository.findAllByTitle(title, limit);
+		if (response.isEmpty()) {
 			return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
 		}
+		return ResponseEntity.ok(response);
+	}
+
+	@GetMapping("/search")
+	public ResponseEntity<List<TitleMatchImpl>> searchTitles(
+			@RequestParam String q,
+			@RequestParam(defaultValue = "" + DEFAULT_SEARCH_LIMIT) int limit,
+			@RequestParam(defaultValue = "true") boolean fuzzy) {
+		if (q == null || q.isBlank() || q.length() > MAX_SEARCH_QUERY_LENGTH || limit < 1 || limit > MAX_SEARCH_LIMIT) {
+			return ResponseEntity.badRequest().build();
+		}
+		return ResponseEntity.ok(productRepository.searchTitles(q, limit, fuzzy));
+	}
+
+	@PostMapping("/by-titles")
+	public ResponseEntity<KeyLookupImpl<List<ProductResponseImpl>>> getByTitles(
+			@RequestBody List<String> titles,
+			@RequestParam(defaultValue = "" + DEFAULT_TITLE_LIMIT) int limit) {
+		if (titles == null || titles.isEmpty() || titles.size() > MAX_LOOKUP_KEYS || limit < 1 || limit > MAX_TITLE_LIMIT) {
+			return ResponseEntity.badRequest().build();
+		}
+		try {
+			return ResponseEntity.ok(KeyLookupImpl.of(titles, productRepository.findByTitles(titles, limit)));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		}
+	}
+
+	private ResponseEntity<ProductWriteAckImpl> accepted(ProductWriteAckImpl ack) {
+		return ResponseEntity.accepted()
+				.location(URI.create("/api/products/writes/" + ack.trackingId))
+				.body(ack);
+	}
+
+	private ResponseEntity<ProductWriteAckImpl> writeBehindUnavailable() {
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, "1")
+				.build();
 	}
 }
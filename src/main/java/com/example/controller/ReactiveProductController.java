@@ -0,0 +1,79 @@
+package com.example.controller;
+
+import com.example.dto.MoneyImpl;
+import com.example.dto.ProductRequestImpl;
+import com.example.dto.ProductResponseImpl;
+import com.example.register.ProductRegisterImpl;
+import com.example.repository.ReactiveProductRepositoryImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * WebFlux variant of {@link ProductController} for the {@code reactive} profile: the same paths, request bodies,
+ * JSON responses and status codes for product creation, discounts and lookup by title, served on the event loop
+ * with R2DBC. Derivations are {@link ProductRegisterImpl#prepareProduct} and {@link ProductRegisterImpl#prepareDiscount};
+ * only persistence differs. Write-behind mode is not available here.
+ *
+ * <p>Usage example:
+ * {@code
+ * ProductRequestImpl request = ProductRequestImpl.builder()
+ *     .title("Phone")
+ *     .price(10000)
+ *     .quantity(2)
+ *     .build();
+ * Mono<ResponseEntity<ProductResponseImpl>> response = reactiveProductController.createProduct(request);
+ * }
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/products")
+public class ReactiveProductController {
+
+	@Autowired
+	private ProductRegisterImpl productService;
+
+	@Autowired
+	private ReactiveProductRepositoryImpl productRepository;
+
+	@PostMapping("/create")
+	public Mono<ResponseEntity<ProductResponseImpl>> createProduct(@RequestBody ProductRequestImpl request) {
+		return Mono.fromSupplier(() -> productService.prepareProduct(request))
+				.flatMap(productRepository::save)
+				.map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response))
+				.onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+	}
+
+	@PostMapping("/discount")
+	public Mono<ResponseEntity<ProductResponseImpl>> applyDiscount(
+			@RequestBody ProductRequestImpl request,
+			@RequestParam(defaultValue = "10") String discount) {
+		return Mono.fromSupplier(() -> productService.prepareDiscount(request, MoneyImpl.parse(discount)))
+				.flatMap(productRepository::save)
+				.map(ResponseEntity::ok)
+				.onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+	}
+
+	@GetMapping("/health")
+	public Mono<ResponseEntity<String>> health() {
+		return Mono.just(ResponseEntity.ok("Product service is healthy"));
+	}
+
+	@GetMapping("/by-title")
+	public Mono<ResponseEntity<List<ProductResponseImpl>>> getByTitle(
+			@RequestParam String title,
+			@RequestParam(defaultValue = "" + ProductController.DEFAULT_TITLE_LIMIT) int limit) {
+		if (title == null || title.isEmpty() || limit < 1 || limit > ProductController.MAX_TITLE_LIMIT) {
+			return Mono.just(ResponseEntity.badRequest().build());
+		}
+		return productRepository.findAllByTitle(title, limit)
+				.map(products -> products.isEmpty()
+						? ResponseEntity.status(HttpStatus.NOT_FOUND).<List<ProductResponseImpl>>build()
+						: ResponseEntity.ok(products));
+	}
+}
@@ -0,0 +1,83 @@
+package com.example.controller;
+
+import com.example.dto.UserRequestImpl;
+import com.example.dto.UserResponseImpl;
+import com.example.register.UserRegisterImpl;
+import com.example.repository.ReactiveUserRepositoryImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux variant of {@link UserController} for the {@code reactive} profile: the same paths, request bodies,
+ * JSON responses and status codes for processing, validation, registration and lookup by email, served on the
+ * event loop with R2DBC instead of a thread per request. Validation and transformation are
+ * {@link UserRegisterImpl#prepareUser} and {@link UserRegisterImpl#prepareValidatedUser}; only persistence differs.
+ *
+ * <p>Usage example:
+ * {@code
+ * UserRequestImpl request = UserRequestImpl.builder()
+ *     .name("Alice")
+ *     .email("alice@example.com")
+ *     .age(30)
+ *     .build();
+ * Mono<ResponseEntity<UserResponseImpl>> response = reactiveUserController.registerUser(request);
+ * }
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/users")
+public class ReactiveUserController {
+
+	@Autowired
+	private UserRegisterImpl userService;
+
+	@Autowired
+	private ReactiveUserRepositoryImpl userRepository;
+
+	@PostMapping("/process")
+	public Mono<ResponseEntity<UserResponseImpl>> processUser(@RequestBody UserRequestImpl request) {
+		return Mono.fromSupplier(() -> userService.prepareUser(request))
+				.flatMap(userRepository::save)
+				.map(ResponseEntity::ok)
+				.onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+	}
+
+	@PostMapping("/validate")
+	public Mono<ResponseEntity<UserResponseImpl>> validateUser(@RequestBody UserRequestImpl request) {
+		return Mono.fromSupplier(() -> userService.prepareValidatedUser(request))
+				.flatMap(userRepository::save)
+				.map(ResponseEntity::ok)
+				.onErrorResume(IllegalArgumentException.class,
+						e -> Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).build()));
+	}
+
+	@PostMapping("/register")
+	public Mono<ResponseEntity<UserResponseImpl>> registerUser(@RequestBody UserRequestImpl request) {
+		if (request.name == null || request.email == null) {
+			return Mono.just(ResponseEntity.badRequest().build());
+		}
+
+		return Mono.fromSupplier(() -> userService.prepareUser(request))
+				.flatMap(userRepository::save)
+				.map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+	}
+
+	@GetMapping("/health")
+	public Mono<ResponseEntity<String>> health() {
+		return Mono.just(ResponseEntity.ok("User service is healthy"));
+	}
+
+	@GetMapping("/by-email")
+	public Mono<ResponseEntity<UserResponseImpl>> getByEmail(@RequestParam String email) {
+		if (email == null || email.isEmpty()) {
+			return Mono.just(ResponseEntity.badRequest().build());
+		}
+		return userRepository.findByEmail(email)
+				.map(ResponseEntity::ok)
+				.defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+	}
+}
@@ -1,14 +1,31 @@
 package com.example.controller;
 
+import com.example.config.BinaryFormatsImpl;
+import com.example.dto.KeyLookupImpl;
+import com.example.dto.UserBatchResponseImpl;
 import com.example.dto.UserRequestImpl;
 import com.example.dto.UserResponseImpl;
+import com.example.register.ExportRegister;
+import com.example.register.ExportRegisterImpl;
 import com.example.register.UserRegisterImpl;
-import com.example.repository.UserRepositoryImpl;
+import com.example.repository.UserCacheImpl;
+import com.example.repository.UserRepository;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
 
 /**
  * REST controller for basic user operations such as processing, validation and registration.
@@ -24,14 +41,27 @@ import org.springframework.web.bind.annotation.*;
  * }
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/users")
 public class UserController {
 
+	static final int MAX_LOOKUP_KEYS = 10_000;
+
 	@Autowired
 	private UserRegisterImpl userService;
 
 	@Autowired
-	private UserRepositoryImpl userRepository;
+	@Qualifier("userRepository")
+	private UserRepository userRepository;
+
+	@Autowired
+	private UserCacheImpl userCache;
+
+	@Autowired
+	private ExportRegisterImpl exportService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
 
 	@PostMapping("/process")
 	public ResponseEntity<UserResponseImpl> processUser(@RequestBody UserRequestImpl request) {
@@ -63,6 +93,29 @@ public class UserController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(response);
 	}
 
+	@PostMapping(value = "/register/batch", consumes = {
+			MediaType.APPLICATION_JSON_VALUE,
+			BinaryFormatsImpl.APPLICATION_SMILE_VALUE,
+			BinaryFormatsImpl.APPLICATION_CBOR_VALUE
+	})
+	public ResponseEntity<UserBatchResponseImpl> registerUsers(@RequestBody List<UserRequestImpl> requests) {
+		if (requests == null) {
+			return ResponseEntity.badRequest().build();
+		}
+		return ResponseEntity.ok(userService.registerUsers(requests));
+	}
+
+	@PostMapping(value = "/register/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<UserBatchResponseImpl> registerUsersNdjson(InputStream body) {
+		List<UserRequestImpl> requests;
+		try (MappingIterator<UserRequestImpl> lines = objectMapper.readerFor(UserRequestImpl.class).readValues(body)) {
+			requests = lines.readAll();
+		} catch (IOException e) {
+			return ResponseEntity.badRequest().build();
+		}
+		return ResponseEntity.ok(userService.registerUsers(requests));
+	}
+
 	@GetMapping("/health")
 	public ResponseEntity<String> health() {
 		return ResponseEntity.ok("User service is healthy");
@@ -80,4 +133,33 @@ public class UserController {
 			return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
 		}
 	}
+
+	@PostMapping("/by-emails")
+	public ResponseEntity<KeyLookupImpl<UserResponseImpl>> getByEmails(@RequestBody List<String> emails) {
+		if (emails == null || emails.isEmpty() || emails.size() > MAX_LOOKUP_KEYS) {
+			return ResponseEntity.badRequest().build();
+		}
+		try {
+			return ResponseEntity.ok(KeyLookupImpl.of(emails, userRepository.findByEmails(emails)));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		}
+	}
+
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> exportUsers(
+			@RequestParam(defaultValue = ExportRegister.FORMAT_NDJSON) String format) {
+		try {
+			return ResponseEntity.ok()
+					.contentType(MediaType.parseMediaType(exportService.contentType(format)))
+					.body(out -> exportService.exportUsers(format, out));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		}
+	}
+
+	@GetMapping("/cache/stats")
+	public ResponseEntity<Map<String, Object>> cacheStats() {
+		return ResponseEntity.ok(userCache.stats());
+	}
 }
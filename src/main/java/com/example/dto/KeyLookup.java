@@ -0,0 +1,15 @@
+package com.example.dto;
+
+/**
+ * Interface for the response of a multi-key lookup: every requested key mapped to its record, or to
+ * {@code null} when nothing matches, plus the list of missing keys.
+ * Implementations must expose data via public fields, not getters/setters.
+ *
+ * <p>Usage example:
+ * {@code
+ * KeyLookupImpl<UserResponseImpl> lookup = KeyLookupImpl.of(emails, userRepository.findByEmails(emails));
+ * UserResponseImpl alice = lookup.results.get("alice@example.com");
+ * }
+ */
+public interface KeyLookup {
+}
@@ -0,0 +1,53 @@
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation for the multi-key lookup DTO using public fields and Lombok builder.
+ * {@code results} keeps the request order of the distinct keys; missing keys map to {@code null} and are also
+ * listed in {@code missing}.
+ *
+ * <p>Usage example:
+ * {@code
+ * KeyLookupImpl<List<ProductResponseImpl>> lookup = KeyLookupImpl.of(titles, repository.findByTitles(titles, 20));
+ * List<String> missing = lookup.missing;
+ * }
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KeyLookupImpl<T> implements KeyLookup {
+    public int requested;
+    public int found;
+    public Map<String, T> results;
+    public List<String> missing;
+
+    public static <T> KeyLookupImpl<T> of(Collection<String> keys, Map<String, T> found) {
+        Map<String, T> results = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String key : keys) {
+            if (results.containsKey(key)) {
+                continue;
+            }
+            T record = found.get(key);
+            results.put(key, record);
+            if (record == null) {
+                missing.add(key);
+            }
+        }
+        return KeyLookupImpl.<T>builder()
+                .requested(results.size())
+                .found(results.size() - missing.size())
+                .results(results)
+                .missing(missing)
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.dto;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code long} or {@code Long} field that holds an amount of money in minor units (see {@link Money}).
+ * JSON shows it as a decimal number with two fraction digits ({@code 19999} is written as {@code 199.99}), and
+ * reads decimal numbers or strings back exactly, rejecting more than two fraction digits.
+ *
+ * <p>Usage example:
+ * {@code
+ * @MinorUnits
+ * public long price;        // "price": 199.99 <-> 19999
+ * }
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+@JacksonAnnotationsInside
+@JsonSerialize(using = MoneyImpl.Serializer.class)
+@JsonDeserialize(using = MoneyImpl.Deserializer.class)
+public @interface MinorUnits {
+}
@@ -0,0 +1,16 @@
+package com.example.dto;
+
+/**
+ * Fixed-point money: amounts are primitive {@code long} counts of minor units (cents), so {@code 199.99} is
+ * {@code 19999}. Fields holding such amounts are annotated with {@link MinorUnits}.
+ *
+ * <p>Usage example:
+ * {@code
+ * long price = MoneyImpl.parse("199.99");                 // 19999
+ * long discounted = MoneyImpl.scale(price, 85, 100);     // 16999, 169.9915 rounded half-even
+ * String text = MoneyImpl.format(discounted);            // "169.99"
+ * }
+ */
+public interface Money {
+    // Marker interface for the money helpers.
+}
@@ -0,0 +1,269 @@
+package com.example.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Implementation of {@link Money}: parsing, formatting and half-even rounded arithmetic on {@code long} minor units
+ * with {@value #SCALE} fraction digits, without {@code BigDecimal} or {@code double} intermediates.
+ * Overflowing arithmetic throws {@link ArithmeticException}; malformed or over-precise text throws
+ * {@link IllegalArgumentException}. {@link Serializer} and {@link Deserializer} are the Jackson codecs behind
+ * {@link MinorUnits}: text formats such as JSON carry the exact decimal, binary formats (Smile, CBOR), which have no
+ * cheap decimal type, carry the nearest {@code double}, which {@link #parse} reads back exactly.
+ *
+ * <p>Usage example:
+ * {@code
+ * long price = MoneyImpl.parse("19.99");                 // 1999
+ * long total = MoneyImpl.times(price, 3);                // 5997
+ * long average = MoneyImpl.divide(total, 4);             // 1499, 14.9925 rounded half-even
+ * StringBuilder csv = MoneyImpl.append(new StringBuilder(), total);  // "59.97"
+ * }
+ */
+public class MoneyImpl implements Money {
+
+    /** Fraction digits of an amount. */
+    public static final int SCALE = 2;
+
+    /** Minor units per major unit, {@code 10^SCALE}. */
+    public static final long MINOR_PER_UNIT = 100;
+
+    /** Longest formatted amount: sign, 17 integer digits, point and {@value #SCALE} fraction digits. */
+    static final int MAX_FORMATTED_LENGTH = 21;
+
+    private MoneyImpl() {
+    }
+
+    /** Parses a plain or exponent decimal such as {@code "-12.5"} or {@code "1.5E2"} into minor units. */
+    public static long parse(String text) {
+        return parse(text.toCharArray(), 0, text.length());
+    }
+
+    /** Parses {@code length} characters from {@code offset} like {@link #parse(String)}, without copying them. */
+    public static long parse(char[] chars, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+            negative = chars[i] == '-';
+            i++;
+        }
+
+        long unscaled = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        int trailingZeros = 0;
+        boolean point = false;
+        try {
+            for (; i < end; i++) {
+                char c = chars[i];
+                if (c == '.' && !point) {
+                    point = true;
+                    continue;
+                }
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                digits++;
+                if (point) {
+                    fractionDigits++;
+                    // Zeros after the point only count once a non-zero digit follows them
+                    if (c == '0') {
+                        trailingZeros++;
+                        continue;
+                    }
+                    for (; trailingZeros > 0; trailingZeros--) {
+                        unscaled = Math.multiplyExact(unscaled, 10);
+                    }
+                }
+                unscaled = Math.addExact(Math.multiplyExact(unscaled, 10), c - '0');
+            }
+
+            int exponent = 0;
+            if (digits > 0 && i < end && (chars[i] == 'e' || chars[i] == 'E')) {
+                i++;
+                boolean negativeExponent = false;
+                if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+                    negativeExponent = chars[i] == '-';
+                    i++;
+                }
+                int exponentDigits = 0;
+                for (; i < end && chars[i] >= '0' && chars[i] <= '9'; i++, exponentDigits++) {
+                    exponent = Math.min(exponent * 10 + (chars[i] - '0'), 10_000);
+                }
+                if (exponentDigits == 0) {
+                    digits = 0;
+                }
+                if (negativeExponent) {
+                    exponent = -exponent;
+                }
+            }
+            if (digits == 0 || i != end) {
+                throw new IllegalArgumentException("Amount is not a decimal number: " + text(chars, offset, length));
+            }
+            if (unscaled == 0) {
+                return 0;
+            }
+
+            int scale = fractionDigits - trailingZeros - exponent;
+            for (; scale > SCALE && unscaled % 10 == 0; scale--) {
+                unscaled /= 10;
+            }
+            if (scale > SCALE) {
+                throw new IllegalArgumentException(
+                        "Amount must have at most " + SCALE + " decimal places: " + text(chars, offset, length));
+            }
+            if (SCALE - scale > 18) {
+                throw new ArithmeticException("long overflow");
+            }
+            for (; scale < SCALE; scale++) {
+                unscaled = Math.multiplyExact(unscaled, 10);
+            }
+            return negative ? -unscaled : unscaled;
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount is out of range: " + text(chars, offset, length));
+        }
+    }
+
+    /** Formats minor units as a decimal with exactly {@value #SCALE} fraction digits, e.g. {@code "-0.05"}. */
+    public static String format(long amount) {
+        char[] chars = new char[MAX_FORMATTED_LENGTH];
+        int start = formatTo(chars, amount);
+        return new String(chars, start, chars.length - start);
+    }
+
+    /** Appends {@link #format(long)} of {@code amount} to {@code out} and returns {@code out}. */
+    public static StringBuilder append(StringBuilder out, long amount) {
+        char[] chars = new char[MAX_FORMATTED_LENGTH];
+        int start = formatTo(chars, amount);
+        return out.append(chars, start, chars.length - start);
+    }
+
+    /**
+     * Writes {@link #format(long)} of {@code amount} right-aligned into {@code out}, which needs
+     * {@link #MAX_FORMATTED_LENGTH} characters, and returns the index of its first character.
+     */
+    static int formatTo(char[] out, long amount) {
+        int i = out.length;
+        // Digits are taken from the non-positive value, which also covers Long.MIN_VALUE
+        long rest = amount < 0 ? amount : -amount;
+        for (int digit = 0; digit < SCALE; digit++) {
+            out[--i] = (char) ('0' - rest % 10);
+            rest /= 10;
+        }
+        out[--i] = '.';
+        do {
+            out[--i] = (char) ('0' - rest % 10);
+            rest /= 10;
+        } while (rest != 0);
+        if (amount < 0) {
+            out[--i] = '-';
+        }
+        return i;
+    }
+
+    /** The {@code double} nearest to the decimal value of {@code amount}. */
+    public static double toDouble(long amount) {
+        return amount / (double) MINOR_PER_UNIT;
+    }
+
+    /** {@code amount * quantity}, throwing {@link ArithmeticException} on overflow. */
+    public static long times(long amount, long quantity) {
+        return Math.multiplyExact(amount, quantity);
+    }
+
+    /** {@code amount * numerator / denominator} rounded half-even, e.g. a discount of 15 % is (85, 100). */
+    public static long scale(long amount, long numerator, long denominator) {
+        return divide(Math.multiplyExact(amount, numerator), denominator);
+    }
+
+    /** {@code dividend / divisor} rounded half-even; {@code divisor} must be positive. */
+    public static long divide(long dividend, long divisor) {
+        if (divisor <= 0) {
+            throw new IllegalArgumentException("Divisor must be positive");
+        }
+        long quotient = dividend / divisor;
+        long remainder = Math.abs(dividend % divisor);
+        int half = Long.compare(remainder, divisor - remainder);
+        if (half > 0 || (half == 0 && (quotient & 1) != 0)) {
+            return dividend < 0 ? quotient - 1 : quotient + 1;
+        }
+        return quotient;
+    }
+
+    private static String text(char[] chars, int offset, int length) {
+        return new String(chars, offset, length);
+    }
+
+    /** Writes minor units as a decimal number, or as the nearest {@code double} where decimals cannot be written. */
+    public static class Serializer extends StdSerializer<Long> {
+
+        public Serializer() {
+            super(Long.class);
+        }
+
+        @Override
+        public void serialize(Long amount, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            if (generator.canWriteFormattedNumbers()) {
+                char[] chars = new char[MAX_FORMATTED_LENGTH];
+                int start = formatTo(chars, amount);
+                generator.writeNumber(chars, start, chars.length - start);
+            } else {
+                generator.writeNumber(toDouble(amount));
+            }
+        }
+    }
+
+    /**
+     * Reads a decimal number or string into minor units with {@link #parse(char[], int, int)}. {@code null} becomes
+     * {@code 0} for primitive fields, like Jackson's own handling of primitives.
+     */
+    public static class Deserializer extends StdDeserializer<Long> implements ContextualDeserializer {
+
+        private final boolean primitive;
+
+        public Deserializer() {
+            this(false);
+        }
+
+        private Deserializer(boolean primitive) {
+            super(Long.class);
+            this.primitive = primitive;
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext context, BeanProperty property) {
+            boolean primitiveProperty = property != null && property.getType().isPrimitive();
+            return primitiveProperty == primitive ? this : new Deserializer(primitiveProperty);
+        }
+
+        @Override
+        public Long deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonToken token = parser.currentToken();
+            if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT
+                    && token != JsonToken.VALUE_STRING) {
+                return (Long) context.handleUnexpectedToken(Long.class, parser);
+            }
+            try {
+                return parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            } catch (IllegalArgumentException e) {
+                throw InvalidFormatException.from(parser, e.getMessage(), parser.getText(), Long.class);
+            }
+        }
+
+        @Override
+        public Long getNullValue(DeserializationContext context) {
+            return primitive ? 0L : null;
+        }
+    }
+}
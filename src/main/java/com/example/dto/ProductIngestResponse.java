@@ -0,0 +1,17 @@
+package com.example.dto;
+
+/**
+ * Interface for streaming product ingest response DTO.
+ * Implementations must expose data via public fields, not getters/setters.
+ *
+ * <p>Usage example:
+ * {@code
+ * ProductIngestResponseImpl response = ProductIngestResponseImpl.builder()
+ *     .ingested(1000L)
+ *     .rejected(2L)
+ *     .build();
+ * }
+ */
+public interface ProductIngestResponse {
+    // Marker interface for product ingest response DTO.
+}
@@ -0,0 +1,29 @@
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Implementation for streaming product ingest response DTO using public fields and Lombok builder.
+ * {@code errors} lists the first rejected records as {@code "line N: reason"}; it is capped, the counters are not.
+ *
+ * <p>Usage example:
+ * {@code
+ * ProductIngestResponseImpl response = ProductIngestResponseImpl.builder()
+ *     .ingested(1000L)
+ *     .rejected(1L)
+ *     .errors(List.of("line 7: Price cannot be negative"))
+ *     .build();
+ * }
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductIngestResponseImpl implements ProductIngestResponse {
+    public long ingested;
+    public long rejected;
+    public List<String> errors;
+}
@@ -8,7 +8,7 @@ package com.example.dto;
  * {@code
  * ProductRequestImpl request = ProductRequestImpl.builder()
  *     .title("Phone")
- *     .price(100.0)
+ *     .price(10000)
  *     .quantity(2)
  *     .build();
  * }
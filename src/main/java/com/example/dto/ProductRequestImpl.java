@@ -6,13 +6,14 @@ import lombok.NoArgsConstructor;
 
 /**
  * Implementation for product request DTO using public fields and Lombok builder.
+ * {@code price} is {@link MinorUnits}: JSON {@code "price": 100.0} is read exactly as {@code 10000}.
  *
  * <p>Usage example:
  * {@code
  * ProductRequestImpl request = ProductRequestImpl.builder()
  *     .title("Phone")
  *     .description("Smartphone")
- *     .price(100.0)
+ *     .price(10000)
  *     .quantity(2)
  *     .build();
  * }
@@ -23,6 +24,7 @@ import lombok.NoArgsConstructor;
 public class ProductRequestImpl implements ProductRequest {
     public String title;
     public String description;
-    public double price;
+    @MinorUnits
+    public long price;
     public int quantity;
 }
@@ -9,7 +9,7 @@ package com.example.dto;
  * ProductResponseImpl response = ProductResponseImpl.builder()
  *     .id(1L)
  *     .title("Phone")
- *     .totalValue(200.0)
+ *     .totalValue(20000)
  *     .build();
  * }
  */
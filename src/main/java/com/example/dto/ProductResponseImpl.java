@@ -1,11 +1,16 @@
 package com.example.dto;
 
+import com.example.processor.JdbcId;
+import com.example.processor.JdbcRow;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 
 /**
  * Implementation for product response DTO using public fields and Lombok builder.
+ * {@link JdbcRow} generates {@code ProductResponseImplJdbc}, the index-based row mapper and statement binder the
+ * JDBC repository uses; the field order is the column order of its queries.
+ * {@code price} and {@code totalValue} are {@link MinorUnits} ({@code 19999} is {@code 199.99} in JSON).
  *
  * <p>Usage example:
  * {@code
@@ -13,9 +18,9 @@ import lombok.NoArgsConstructor;
  *     .id(1L)
  *     .title("Phone")
  *     .description("Smartphone")
- *     .price(100.0)
+ *     .price(10000)
  *     .quantity(2)
- *     .totalValue(200.0)
+ *     .totalValue(20000)
  *     .category("GENERAL")
  *     .available(true)
  *     .build();
@@ -24,13 +29,17 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JdbcRow
 public class ProductResponseImpl implements ProductResponse {
+    @JdbcId
     public Long id;
     public String title;
     public String description;
-    public double price;
+    @MinorUnits
+    public long price;
     public int quantity;
-    public double totalValue;
+    @MinorUnits
+    public long totalValue;
     public String category;
     public boolean available;
 }
@@ -0,0 +1,17 @@
+package com.example.dto;
+
+/**
+ * Interface for catalog statistics DTO: product count, inventory value, price range and availability,
+ * for the whole catalog and per category.
+ * Implementations must expose data via public fields, not getters/setters.
+ *
+ * <p>Usage example:
+ * {@code
+ * ProductStatisticsImpl statistics = ProductStatisticsImpl.builder()
+ *     .count(2)
+ *     .totalValue(30000)
+ *     .build();
+ * }
+ */
+public interface ProductStatistics {
+}
@@ -0,0 +1,50 @@
+package com.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Implementation for the catalog statistics DTO using public fields and Lombok builder.
+ * {@code minPrice}, {@code maxPrice} and {@code avgPrice} are {@code null} while there are no products.
+ * The money figures are {@link MinorUnits}; {@code avgPrice} is rounded half-even to the minor unit.
+ * {@code categories} holds the same figures per category and is only set on the catalog-wide totals.
+ *
+ * <p>Usage example:
+ * {@code
+ * ProductStatisticsImpl general = ProductStatisticsImpl.builder()
+ *     .count(2)
+ *     .availableCount(1)
+ *     .unavailableCount(1)
+ *     .totalValue(30000)
+ *     .minPrice(5000L)
+ *     .maxPrice(10000L)
+ *     .avgPrice(7500L)
+ *     .build();
+ * ProductStatisticsImpl totals = ProductStatisticsImpl.builder()
+ *     .count(2)
+ *     .categories(Map.of("GENERAL", general))
+ *     .build();
+ * }
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductStatisticsImpl implements ProductStatistics {
+    public long count;
+    public long availableCount;
+    public long unavailableCount;
+    @MinorUnits
+    public long totalValue;
+    @MinorUnits
+    public Long minPrice;
+    @MinorUnits
+    public Long maxPrice;
+    @MinorUnits
+    public Long avgPrice;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Map<String, ProductStatisticsImpl> categories;
+}
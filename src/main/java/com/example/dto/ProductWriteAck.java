@@ -0,0 +1,20 @@
+package com.example.dto;
+
+/**
+ * Interface for the acknowledgment and status of a product write accepted in write-behind mode.
+ * Implementations must expose data via public fields, not getters/setters.
+ *
+ * <p>Usage example:
+ * {@code
+ * ProductWriteAckImpl ack = ProductWriteAckImpl.builder()
+ *     .trackingId("5f0c3c2e-6f43-4c55-9a63-3c1b8f1f4a10")
+ *     .status(ProductWriteAck.STATUS_PENDING)
+ *     .build();
+ * }
+ */
+public interface ProductWriteAck {
+
+    String STATUS_PENDING = "PENDING";
+    String STATUS_PERSISTED = "PERSISTED";
+    String STATUS_FAILED = "FAILED";
+}
@@ -0,0 +1,28 @@
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+
+/**
+ * Implementation for the write-behind acknowledgment DTO using public fields and Lombok builder.
+ * {@code productId} is set once the product is {@code PERSISTED}; {@code error} once it is {@code FAILED}.
+ *
+ * <p>Usage example:
+ * {@code
+ * ProductWriteAckImpl ack = ProductWriteAckImpl.builder()
+ *     .trackingId("5f0c3c2e-6f43-4c55-9a63-3c1b8f1f4a10")
+ *     .status(ProductWriteAck.STATUS_PERSISTED)
+ *     .productId(42L)
+ *     .build();
+ * }
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductWriteAckImpl implements ProductWriteAck {
+    public String trackingId;
+    public String status;
+    public Long productId;
+    public String error;
+}
@@ -0,0 +1,19 @@
+package com.example.dto;
+
+/**
+ * Interface for one ranked product title search result.
+ * Implementations must expose data via public fields, not getters/setters.
+ *
+ * <p>Usage example:
+ * {@code
+ * TitleMatchImpl match = TitleMatchImpl.builder()
+ *     .title("Phone")
+ *     .match(TitleMatch.MATCH_PREFIX)
+ *     .build();
+ * }
+ */
+public interface TitleMatch {
+
+    String MATCH_PREFIX = "PREFIX";
+    String MATCH_FUZZY = "FUZZY";
+}
@@ -0,0 +1,30 @@
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+
+/**
+ * Implementation for the title search result DTO using public fields and Lombok builder.
+ * {@code products} is the number of products with this title; {@code score} is the share of the title covered by the
+ * query for {@code PREFIX} matches and the trigram similarity (0..1) for {@code FUZZY} matches.
+ *
+ * <p>Usage example:
+ * {@code
+ * TitleMatchImpl match = TitleMatchImpl.builder()
+ *     .title("Phone")
+ *     .products(3)
+ *     .score(0.6)
+ *     .match(TitleMatch.MATCH_PREFIX)
+ *     .build();
+ * }
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TitleMatchImpl implements TitleMatch {
+    public String title;
+    public long products;
+    public double score;
+    public String match;
+}
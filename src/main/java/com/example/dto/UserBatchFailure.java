@@ -0,0 +1,18 @@
+package com.example.dto;
+
+/**
+ * Interface for a single failed entry of a batch user registration.
+ * Implementations must expose data via public fields, not getters/setters.
+ *
+ * <p>Usage example:
+ * {@code
+ * UserBatchFailureImpl failure = UserBatchFailureImpl.builder()
+ *     .index(3)
+ *     .email("broken@example.com")
+ *     .error("Name is required")
+ *     .build();
+ * }
+ */
+public interface UserBatchFailure {
+    // Marker interface for batch registration failure DTO.
+}
@@ -0,0 +1,27 @@
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+
+/**
+ * Implementation for batch registration failure DTO using public fields and Lombok builder.
+ * {@code index} is the zero-based position of the failed entry in the request.
+ *
+ * <p>Usage example:
+ * {@code
+ * UserBatchFailureImpl failure = UserBatchFailureImpl.builder()
+ *     .index(3)
+ *     .email("broken@example.com")
+ *     .error("Name is required")
+ *     .build();
+ * }
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserBatchFailureImpl implements UserBatchFailure {
+    public int index;
+    public String email;
+    public String error;
+}
@@ -0,0 +1,18 @@
+package com.example.dto;
+
+/**
+ * Interface for batch user registration response DTO.
+ * Implementations must expose data via public fields, not getters/setters.
+ *
+ * <p>Usage example:
+ * {@code
+ * UserBatchResponseImpl response = UserBatchResponseImpl.builder()
+ *     .total(2)
+ *     .succeeded(1)
+ *     .failed(1)
+ *     .build();
+ * }
+ */
+public interface UserBatchResponse {
+    // Marker interface for batch registration response DTO.
+}
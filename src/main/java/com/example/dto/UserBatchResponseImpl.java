@@ -0,0 +1,34 @@
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Implementation for batch user registration response DTO using public fields and Lombok builder.
+ * {@code users} holds one entry per request item in input order ({@code null} where the item failed);
+ * {@code failures} describes every failed item.
+ *
+ * <p>Usage example:
+ * {@code
+ * UserBatchResponseImpl response = UserBatchResponseImpl.builder()
+ *     .total(2)
+ *     .succeeded(1)
+ *     .failed(1)
+ *     .users(Arrays.asList(savedUser, null))
+ *     .failures(List.of(failure))
+ *     .build();
+ * }
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserBatchResponseImpl implements UserBatchResponse {
+    public int total;
+    public int succeeded;
+    public int failed;
+    public List<UserResponseImpl> users;
+    public List<UserBatchFailureImpl> failures;
+}
@@ -1,5 +1,7 @@
 package com.example.dto;
 
+import com.example.processor.JdbcId;
+import com.example.processor.JdbcRow;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
@@ -7,6 +9,8 @@ import java.time.LocalDateTime;
 
 /**
  * Implementation for user response DTO using public fields and Lombok builder.
+ * {@link JdbcRow} generates {@code UserResponseImplJdbc}, the index-based row mapper and statement binder the
+ * JDBC repository uses; the field order is the column order of its queries.
  *
  * <p>Usage example:
  * {@code
@@ -23,7 +27,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JdbcRow
 public class UserResponseImpl implements UserResponse {
+    @JdbcId
     public Long id;
     public String name;
     public String email;
@@ -0,0 +1,29 @@
+package com.example.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Bounded pool of fixed-size byte buffers used to move request bodies to responses without materializing them.
+ *
+ * <p>Usage example:
+ * {@code
+ * long copied = byteBufferPool.transfer(request.getInputStream(), response.getOutputStream());
+ * ByteBuffer buffer = byteBufferPool.acquire();
+ * byteBufferPool.release(buffer);
+ * }
+ */
+public interface ByteBufferPool {
+
+    ByteBuffer acquire();
+
+    void release(ByteBuffer buffer);
+
+    long transfer(InputStream in, OutputStream out) throws IOException;
+
+    int bufferSize();
+
+    int pooledCount();
+}
@@ -0,0 +1,101 @@
+package com.example.io;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Implementation of {@link ByteBufferPool} keeping at most {@code app.io.buffer-pool.max-pooled} idle buffers of
+ * {@code app.io.buffer-pool.buffer-size} bytes. Buffers are heap-backed: servlet streams only accept byte arrays,
+ * so a direct buffer would need one more copy per chunk. An empty pool allocates a fresh buffer and a full pool
+ * drops released ones, so callers never block on the pool.
+ * {@link #transfer} streams with a single buffer, which keeps heap use per call at one buffer whatever the
+ * payload size.
+ *
+ * <p>Usage example:
+ * {@code
+ * ByteBufferPool pool = new ByteBufferPoolImpl(64 * 1024, 64);
+ * long copied = pool.transfer(in, out);
+ * }
+ */
+@Component
+public class ByteBufferPoolImpl implements ByteBufferPool {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    public static final int DEFAULT_MAX_POOLED = 64;
+
+    private final int bufferSize;
+    private final BlockingQueue<ByteBuffer> idle;
+
+    public ByteBufferPoolImpl() {
+        this(DEFAULT_BUFFER_SIZE, DEFAULT_MAX_POOLED);
+    }
+
+    @Autowired
+    public ByteBufferPoolImpl(
+            @Value("${app.io.buffer-pool.buffer-size:65536}") int bufferSize,
+            @Value("${app.io.buffer-pool.max-pooled:64}") int maxPooled) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be positive");
+        }
+        if (maxPooled < 1) {
+            throw new IllegalArgumentException("Maximum pooled buffers must be positive");
+        }
+        this.bufferSize = bufferSize;
+        this.idle = new ArrayBlockingQueue<>(maxPooled);
+    }
+
+    @Override
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = idle.poll();
+        return buffer != null ? buffer : ByteBuffer.allocate(bufferSize);
+    }
+
+    @Override
+    public void release(ByteBuffer buffer) {
+        if (buffer == null || buffer.capacity() != bufferSize || !buffer.hasArray()) {
+            return;
+        }
+        buffer.clear();
+        idle.offer(buffer);
+    }
+
+    @Override
+    public long transfer(InputStream in, OutputStream out) throws IOException {
+        if (in == null || out == null) {
+            throw new IllegalArgumentException("Streams must not be null");
+        }
+
+        ByteBuffer buffer = acquire();
+        try {
+            byte[] array = buffer.array();
+            int offset = buffer.arrayOffset();
+            long total = 0;
+            int read;
+            while ((read = in.read(array, offset, bufferSize)) != -1) {
+                out.write(array, offset, read);
+                total += read;
+            }
+            return total;
+        } finally {
+            release(buffer);
+        }
+    }
+
+    @Override
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    @Override
+    public int pooledCount() {
+        return idle.size();
+    }
+}
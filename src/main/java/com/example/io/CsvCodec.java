@@ -0,0 +1,20 @@
+package com.example.io;
+
+import java.util.List;
+
+/**
+ * Codec for single-line RFC 4180 style CSV records (comma separated, double-quote escaping).
+ *
+ * <p>Usage example:
+ * {@code
+ * List<String> fields = csvCodec.parseLine("Phone,\"Smart, black\",100.0,2");
+ * StringBuilder row = new StringBuilder();
+ * csvCodec.appendField(row, "Smart, black");
+ * }
+ */
+public interface CsvCodec {
+
+    List<String> parseLine(String line);
+
+    void appendField(StringBuilder out, String value);
+}
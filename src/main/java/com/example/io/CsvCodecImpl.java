@@ -0,0 +1,75 @@
+package com.example.io;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of {@link CsvCodec} for records that fit on one line.
+ * A {@code null} value is written as an empty unquoted field and any other value is always quoted,
+ * which matches the {@code NULL} convention of PostgreSQL {@code COPY ... (FORMAT csv)}.
+ *
+ * <p>Usage example:
+ * {@code
+ * CsvCodec codec = new CsvCodecImpl();
+ * List<String> fields = codec.parseLine("Phone,\"Smart, black\",100.0,2");
+ * }
+ */
+public class CsvCodecImpl implements CsvCodec {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    @Override
+    public List<String> parseLine(String line) {
+        if (line == null) {
+            throw new IllegalArgumentException("CSV line must not be null");
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == QUOTE && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else if (c == QUOTE) {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == QUOTE) {
+                quoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+            i++;
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted CSV field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @Override
+    public void appendField(StringBuilder out, String value) {
+        if (value == null) {
+            return;
+        }
+        out.append(QUOTE);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == QUOTE) {
+                out.append(QUOTE);
+            }
+            out.append(c);
+        }
+        out.append(QUOTE);
+    }
+}
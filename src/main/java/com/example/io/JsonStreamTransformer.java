@@ -0,0 +1,19 @@
+package com.example.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Single-pass JSON transform: copies a top-level object to the output as {@code input} and appends its key names,
+ * key count and a {@code processed} flag, without building a tree of the document.
+ *
+ * <p>Usage example:
+ * {@code
+ * int keys = jsonStreamTransformer.transform(request.getInputStream(), response.getOutputStream());
+ * }
+ */
+public interface JsonStreamTransformer {
+
+    int transform(InputStream in, OutputStream out) throws IOException;
+}
@@ -0,0 +1,90 @@
+package com.example.io;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Jackson streaming implementation of {@link JsonStreamTransformer}.
+ * Tokens are copied from {@link JsonParser} to {@link JsonGenerator} as they are read, so memory use is bounded by
+ * the largest scalar and the set of top-level key names rather than by the document. The generator follows the
+ * application {@link ObjectMapper} settings (e.g. indentation) but never completes, flushes or closes the output
+ * stream, so a malformed document cannot produce a response that looks valid and a caller can still discard
+ * whatever is buffered.
+ * Duplicate top-level keys are copied as they appear and counted once, like the map-based transform.
+ *
+ * <p>Usage example:
+ * {@code
+ * JsonStreamTransformer transformer = new JsonStreamTransformerImpl(objectMapper);
+ * int keys = transformer.transform(in, out);
+ * }
+ */
+@Component
+public class JsonStreamTransformerImpl implements JsonStreamTransformer {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+
+    public JsonStreamTransformerImpl() {
+        this(new ObjectMapper());
+    }
+
+    @Autowired
+    public JsonStreamTransformerImpl(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+    }
+
+    @Override
+    public int transform(InputStream in, OutputStream out) throws IOException {
+        if (in == null || out == null) {
+            throw new IllegalArgumentException("Streams must not be null");
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(in);
+             JsonGenerator generator = writer.createGenerator(out)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Transform input must be a JSON object");
+            }
+
+            Set<String> keys = new LinkedHashSet<>();
+            generator.writeStartObject();
+            generator.writeFieldName("input");
+            generator.writeStartObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = parser.currentName();
+                keys.add(key);
+                generator.writeFieldName(key);
+                parser.nextToken();
+                generator.copyCurrentStructure(parser);
+            }
+            generator.writeEndObject();
+            if (parser.nextToken() != null) {
+                throw new IllegalArgumentException("Unexpected content after the JSON object");
+            }
+
+            generator.writeNumberField("keys_count", keys.size());
+            generator.writeArrayFieldStart("keys");
+            for (String key : keys) {
+                generator.writeString(key);
+            }
+            generator.writeEndArray();
+            generator.writeBooleanField("processed", true);
+            generator.writeEndObject();
+            return keys.size();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.metrics;
+
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+/**
+ * Observation convention that adds a {@code result} tag to the {@code http.server.requests} metric.
+ *
+ * <p>Usage example:
+ * {@code
+ * // http_server_requests_seconds_count{method="POST",result="validation_error",status="400",uri="/api/users/register"} 1
+ * String result = convention.result(400);
+ * }
+ */
+public interface HttpResultConvention extends ServerRequestObservationConvention {
+
+    String result(int status);
+}
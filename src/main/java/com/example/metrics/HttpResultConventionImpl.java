@@ -0,0 +1,47 @@
+package com.example.metrics;
+
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link HttpResultConvention} built on Spring's default server convention, so the standard {@code uri},
+ * {@code method}, {@code status}, {@code outcome} and {@code exception} tags are kept. The extra {@code result}
+ * tag uses the same values as {@link MethodMetrics}: controllers answer an {@link IllegalArgumentException}
+ * with 400, which becomes {@code validation_error}, and 404 becomes {@code not_found}, so rejected input
+ * can be told apart from slow or failing requests.
+ *
+ * <p>Usage example:
+ * {@code
+ * HttpResultConventionImpl convention = new HttpResultConventionImpl();
+ * convention.result(404); // "not_found"
+ * }
+ */
+@Component
+public class HttpResultConventionImpl extends DefaultServerRequestObservationConvention implements HttpResultConvention {
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        int status = context.getResponse() != null ? context.getResponse().getStatus() : 0;
+        String result = context.getError() != null && status < 400 ? MethodMetrics.RESULT_ERROR : result(status);
+        return super.getLowCardinalityKeyValues(context).and("result", result);
+    }
+
+    @Override
+    public String result(int status) {
+        if (status >= 200 && status < 400) {
+            return MethodMetrics.RESULT_SUCCESS;
+        }
+        if (status == 400) {
+            return MethodMetrics.RESULT_VALIDATION_ERROR;
+        }
+        if (status == 404) {
+            return MethodMetrics.RESULT_NOT_FOUND;
+        }
+        if (status > 400 && status < 500) {
+            return MethodMetrics.RESULT_CLIENT_ERROR;
+        }
+        return MethodMetrics.RESULT_ERROR;
+    }
+}
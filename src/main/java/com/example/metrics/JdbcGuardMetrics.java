@@ -0,0 +1,15 @@
+package com.example.metrics;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Meter binder for the JDBC concurrency guard that complements the connection pool metrics.
+ *
+ * <p>Usage example:
+ * {@code
+ * // app_jdbc_guard_queued_threads 12.0
+ * jdbcGuardMetrics.bindTo(meterRegistry);
+ * }
+ */
+public interface JdbcGuardMetrics extends MeterBinder {
+}
@@ -0,0 +1,53 @@
+package com.example.metrics;
+
+import com.example.config.GuardedDataSource;
+import com.example.config.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * {@link JdbcGuardMetrics} that exposes permit usage of the {@link GuardedDataSource} when the JDBC concurrency
+ * guard is active: {@code app.jdbc.guard.available.permits} and {@code app.jdbc.guard.queued.threads}.
+ * Pool metrics themselves ({@code hikaricp_*}) come from Spring Boot, which unwraps the guard.
+ * With replica routing enabled the gauges describe the primary's guard.
+ * Binds nothing when the guard is disabled or no DataSource exists (in-memory profile).
+ *
+ * <p>Usage example:
+ * {@code
+ * JdbcGuardMetricsImpl metrics = new JdbcGuardMetricsImpl(dataSourceProvider);
+ * metrics.bindTo(meterRegistry);
+ * }
+ */
+@Component
+public class JdbcGuardMetricsImpl implements JdbcGuardMetrics {
+
+    private final ObjectProvider<DataSource> dataSource;
+
+    public JdbcGuardMetricsImpl(ObjectProvider<DataSource> dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        DataSource primary = dataSource.getIfUnique();
+        if (primary instanceof ReplicaRoutingDataSource routing) {
+            primary = routing.primary();
+        }
+        if (!(primary instanceof GuardedDataSource guarded)) {
+            return;
+        }
+        Gauge.builder("app.jdbc.guard.available.permits", guarded, GuardedDataSource::availablePermits)
+                .description("JDBC concurrency permits currently free")
+                .register(registry);
+        Gauge.builder("app.jdbc.guard.queued.threads", guarded, GuardedDataSource::queuedThreads)
+                .description("Threads waiting for a JDBC concurrency permit")
+                .register(registry);
+        Gauge.builder("app.jdbc.guard.max.concurrency", guarded, GuardedDataSource::maxConcurrency)
+                .description("Maximum number of concurrent JDBC callers")
+                .register(registry);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+
+/**
+ * Times register and repository method calls and tags each call with its result.
+ *
+ * <p>Usage example:
+ * {@code
+ * // Applied automatically as an aspect; every public method of a *RegisterImpl or *RepositoryImpl bean
+ * // records the "app.method.calls" timer with layer, class, method and result tags.
+ * Object value = methodMetrics.timeCall(joinPoint);
+ * }
+ */
+public interface MethodMetrics {
+
+    String METRIC_NAME = "app.method.calls";
+
+    String RESULT_SUCCESS = "success";
+    String RESULT_VALIDATION_ERROR = "validation_error";
+    String RESULT_NOT_FOUND = "not_found";
+    String RESULT_CLIENT_ERROR = "client_error";
+    String RESULT_ERROR = "error";
+    String RESULT_CANCELLED = "cancelled";
+
+    Object timeCall(ProceedingJoinPoint joinPoint) throws Throwable;
+}
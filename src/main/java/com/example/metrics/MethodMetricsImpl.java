@@ -0,0 +1,93 @@
+package com.example.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Aspect implementation of {@link MethodMetrics} around every public method of the {@code *RegisterImpl} and
+ * {@code *RepositoryImpl} beans. Each call records the {@value #METRIC_NAME} timer (with a percentile histogram)
+ * tagged by {@code layer} ({@code register} or {@code repository}), {@code class}, {@code method} and
+ * {@code result}: {@code success}, {@code validation_error} for {@link IllegalArgumentException},
+ * {@code not_found} for {@link EmptyResultDataAccessException} and {@code error} for anything else.
+ * Methods returning a {@link Mono} are timed until the {@code Mono} completes or fails, not until it is assembled;
+ * a {@code Mono} whose subscriber cancels first, such as after a client disconnect, is recorded as {@code cancelled}.
+ * Timers are cached per tag combination so the hot path does not rebuild meter ids.
+ *
+ * <p>Usage example:
+ * {@code
+ * // metrics exported on /actuator/prometheus
+ * app_method_calls_seconds_count{class="UserRegisterImpl",layer="register",method="processUser",result="validation_error"} 3
+ * }
+ */
+@Aspect
+@Component
+public class MethodMetricsImpl implements MethodMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public MethodMetricsImpl(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    @Around("execution(public * com.example.register.*RegisterImpl.*(..))"
+            + " || execution(public * com.example.repository.*RepositoryImpl.*(..))")
+    public Object timeCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object value;
+        try {
+            value = joinPoint.proceed();
+        } catch (Throwable e) {
+            sample.stop(timer(joinPoint, resultOf(e)));
+            throw e;
+        }
+        if (value instanceof Mono<?> mono) {
+            // Reactive methods return before the work is done: stop the timer when the Mono terminates instead.
+            return mono
+                    .doOnSuccess(ignored -> sample.stop(timer(joinPoint, RESULT_SUCCESS)))
+                    .doOnError(e -> sample.stop(timer(joinPoint, resultOf(e))))
+                    .doOnCancel(() -> sample.stop(timer(joinPoint, RESULT_CANCELLED)));
+        }
+        sample.stop(timer(joinPoint, RESULT_SUCCESS));
+        return value;
+    }
+
+    private String resultOf(Throwable e) {
+        if (e instanceof IllegalArgumentException) {
+            return RESULT_VALIDATION_ERROR;
+        }
+        if (e instanceof EmptyResultDataAccessException) {
+            return RESULT_NOT_FOUND;
+        }
+        return RESULT_ERROR;
+    }
+
+    private Timer timer(ProceedingJoinPoint joinPoint, String result) {
+        Class<?> type = joinPoint.getSignature().getDeclaringType();
+        String method = joinPoint.getSignature().getName();
+        String key = type.getName() + '#' + method + '#' + result;
+        return timers.computeIfAbsent(key, ignored -> Timer.builder(METRIC_NAME)
+                .description("Duration of register and repository method calls")
+                .tag("layer", layer(type))
+                .tag("class", type.getSimpleName())
+                .tag("method", method)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private String layer(Class<?> type) {
+        String packageName = type.getPackageName();
+        return packageName.substring(packageName.lastIndexOf('.') + 1);
+    }
+}
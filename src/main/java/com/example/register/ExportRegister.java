@@ -0,0 +1,22 @@
+package com.example.register;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Use-case boundary for streaming all users or products to an output stream as NDJSON or CSV.
+ *
+ * <p>Usage example:
+ * {@code
+ * String contentType = exportRegister.contentType(ExportRegister.FORMAT_CSV);
+ * long exported = exportRegister.exportProducts(ExportRegister.FORMAT_CSV, responseBody);
+ * }
+ */
+public interface ExportRegister {
+	String FORMAT_NDJSON = "ndjson";
+	String FORMAT_CSV = "csv";
+
+	String contentType(String format);
+	long exportUsers(String format, OutputStream out) throws IOException;
+	long exportProducts(String format, OutputStream out) throws IOException;
+}
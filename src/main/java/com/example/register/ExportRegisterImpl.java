@@ -0,0 +1,178 @@
+package com.example.register;
+
+import com.example.dto.MoneyImpl;
+import com.example.dto.ProductResponseImpl;
+import com.example.dto.UserResponseImpl;
+import com.example.io.CsvCodecImpl;
+import com.example.repository.ProductRepository;
+import com.example.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Service implementation of {@link ExportRegister} that writes every row handed out by
+ * {@link UserRepository#exportAll} or {@link ProductRepository#exportAll} straight to the output stream,
+ * so only the current row and the writer buffers are held in memory.
+ * NDJSON rows are serialized with the application {@link ObjectMapper} (without indentation, one object per line);
+ * CSV starts with a header row and escapes text fields with {@link CsvCodecImpl}; money is written as a decimal with
+ * {@link MoneyImpl#append}, like JSON.
+ * A failed write, typically because the client went away, is rethrown as the original {@link IOException} after the
+ * repository has stopped reading and released its connection.
+ *
+ * <p>Usage example:
+ * {@code
+ * ExportRegister register = new ExportRegisterImpl(userRepository, productRepository, objectMapper);
+ * long exported = register.exportUsers(ExportRegister.FORMAT_NDJSON, responseBody);
+ * }
+ */
+@Service
+public class ExportRegisterImpl implements ExportRegister {
+
+	static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+	static final String CSV_CONTENT_TYPE = "text/csv;charset=UTF-8";
+	static final String USER_CSV_HEADER = "id,name,email,age,status,createdAt";
+	static final String PRODUCT_CSV_HEADER = "id,title,description,price,quantity,totalValue,category,available";
+
+	private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+	private final UserRepository userRepository;
+	private final ProductRepository productRepository;
+	private final ObjectWriter rowWriter;
+	private final CsvCodecImpl csvCodec = new CsvCodecImpl();
+
+	@Autowired
+	public ExportRegisterImpl(
+			@Qualifier("userRepository") UserRepository userRepository,
+			@Qualifier("productRepository") ProductRepository productRepository,
+			ObjectMapper objectMapper) {
+		this.userRepository = userRepository;
+		this.productRepository = productRepository;
+		this.rowWriter = objectMapper.writer()
+				.without(SerializationFeature.INDENT_OUTPUT)
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+				.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+	}
+
+	@Override
+	public String contentType(String format) {
+		if (FORMAT_NDJSON.equals(format)) {
+			return NDJSON_CONTENT_TYPE;
+		}
+		if (FORMAT_CSV.equals(format)) {
+			return CSV_CONTENT_TYPE;
+		}
+		throw new IllegalArgumentException("Unsupported export format: " + format);
+	}
+
+	@Override
+	public long exportUsers(String format, OutputStream out) throws IOException {
+		return export(format, out, USER_CSV_HEADER, this::appendUserRow, userRepository::exportAll);
+	}
+
+	@Override
+	public long exportProducts(String format, OutputStream out) throws IOException {
+		return export(format, out, PRODUCT_CSV_HEADER, this::appendProductRow, productRepository::exportAll);
+	}
+
+	private <T> long export(
+			String format,
+			OutputStream out,
+			String csvHeader,
+			BiConsumer<StringBuilder, T> csvRow,
+			ToLongFunction<Consumer<T>> rows) throws IOException {
+		if (out == null) {
+			throw new IllegalArgumentException("Output stream must not be null");
+		}
+		try {
+			if (FORMAT_NDJSON.equals(format)) {
+				return exportNdjson(out, rows);
+			}
+			if (FORMAT_CSV.equals(format)) {
+				return exportCsv(out, csvHeader, csvRow, rows);
+			}
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		throw new IllegalArgumentException("Unsupported export format: " + format);
+	}
+
+	private <T> long exportNdjson(OutputStream out, ToLongFunction<Consumer<T>> rows) throws IOException {
+		try (JsonGenerator generator = rowWriter.createGenerator(out)) {
+			generator.setRootValueSeparator(null);
+			return rows.applyAsLong(row -> {
+				try {
+					rowWriter.writeValue(generator, row);
+					generator.writeRaw('\n');
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		}
+	}
+
+	private <T> long exportCsv(
+			OutputStream out,
+			String header,
+			BiConsumer<StringBuilder, T> csvRow,
+			ToLongFunction<Consumer<T>> rows) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+		writer.write(header);
+		writer.write('\n');
+		StringBuilder line = new StringBuilder(256);
+		long exported = rows.applyAsLong(row -> {
+			line.setLength(0);
+			csvRow.accept(line, row);
+			line.append('\n');
+			try {
+				writer.append(line);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		writer.flush();
+		return exported;
+	}
+
+	private void appendUserRow(StringBuilder line, UserResponseImpl user) {
+		line.append(user.id).append(',');
+		csvCodec.appendField(line, user.name);
+		line.append(',');
+		csvCodec.appendField(line, user.email);
+		line.append(',').append(user.age).append(',');
+		csvCodec.appendField(line, user.status);
+		line.append(',');
+		if (user.createdAt != null) {
+			line.append(user.createdAt);
+		}
+	}
+
+	private void appendProductRow(StringBuilder line, ProductResponseImpl product) {
+		line.append(product.id).append(',');
+		csvCodec.appendField(line, product.title);
+		line.append(',');
+		csvCodec.appendField(line, product.description);
+		line.append(',');
+		MoneyImpl.append(line, product.price);
+		line.append(',').append(product.quantity);
+		line.append(',');
+		MoneyImpl.append(line, product.totalValue).append(',');
+		csvCodec.appendField(line, product.category);
+		line.append(',').append(product.available);
+	}
+}
@@ -0,0 +1,18 @@
+package com.example.register;
+
+import com.example.dto.ProductIngestResponseImpl;
+
+import java.io.InputStream;
+
+/**
+ * Use-case boundary for streaming bulk product ingest from NDJSON or CSV request bodies.
+ *
+ * <p>Usage example:
+ * {@code
+ * ProductIngestResponseImpl result = productIngestRegister.ingestNdjson(requestBody);
+ * }
+ */
+public interface ProductIngestRegister {
+	ProductIngestResponseImpl ingestNdjson(InputStream body);
+	ProductIngestResponseImpl ingestCsv(InputStream body);
+}
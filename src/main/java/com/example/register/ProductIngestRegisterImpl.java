@@ -0,0 +1,210 @@
+package com.example.register;
+
+import com.example.dto.MoneyImpl;
+import com.example.dto.ProductIngestResponseImpl;
+import com.example.dto.ProductRequestImpl;
+import com.example.dto.ProductResponseImpl;
+import com.example.io.CsvCodecImpl;
+import com.example.repository.ProductRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Service implementation of {@link ProductIngestRegister} that reads the request body line by line,
+ * runs every record through {@link ProductRegisterImpl#prepareProduct} and streams the accepted products
+ * into the repository with {@link ProductRepository#copyIn} (PostgreSQL {@code COPY} for the JDBC backend),
+ * so memory use stays constant for any body size.
+ * CSV bodies must start with a header row naming the {@code title}, {@code description}, {@code price}
+ * and {@code quantity} columns (in any order). Prices are read exactly, as in JSON, with {@link MoneyImpl#parse}.
+ *
+ * <p>Usage example:
+ * {@code
+ * ProductIngestRegister register = new ProductIngestRegisterImpl(productRegister, productRepository, objectMapper);
+ * ProductIngestResponseImpl result = register.ingestCsv(requestBody);
+ * }
+ */
+@Service
+public class ProductIngestRegisterImpl implements ProductIngestRegister {
+
+	static final int MAX_REPORTED_ERRORS = 100;
+
+	private static final int MAX_TITLE_LENGTH = 255;
+
+	private final ProductRegisterImpl productRegister;
+	private final ProductRepository productRepository;
+	private final ObjectReader productReader;
+	private final CsvCodecImpl csvCodec = new CsvCodecImpl();
+
+	@Autowired
+	public ProductIngestRegisterImpl(
+			ProductRegisterImpl productRegister,
+			@Qualifier("productRepository") ProductRepository productRepository,
+			ObjectMapper objectMapper) {
+		this.productRegister = productRegister;
+		this.productRepository = productRepository;
+		this.productReader = objectMapper.readerFor(ProductRequestImpl.class);
+	}
+
+	@Override
+	public ProductIngestResponseImpl ingestNdjson(InputStream body) {
+		BufferedReader reader = openReader(body);
+		return ingest(reader, 0, this::parseJsonRecord);
+	}
+
+	@Override
+	public ProductIngestResponseImpl ingestCsv(InputStream body) {
+		BufferedReader reader = openReader(body);
+		long headerLine = 0;
+		String header;
+		try {
+			do {
+				header = reader.readLine();
+				headerLine++;
+			} while (header != null && header.isBlank());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		if (header == null) {
+			return emptyResponse();
+		}
+
+		Map<String, Integer> columns = parseCsvHeader(header);
+		return ingest(reader, headerLine, line -> parseCsvRecord(line, columns));
+	}
+
+	private BufferedReader openReader(InputStream body) {
+		if (body == null) {
+			throw new IllegalArgumentException("Request body is required");
+		}
+		return new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+	}
+
+	private ProductIngestResponseImpl ingest(
+			BufferedReader reader,
+			long firstLineNumber,
+			Function<String, ProductRequestImpl> parser) {
+		ProductIngestResponseImpl response = emptyResponse();
+		long[] lineNumber = {firstLineNumber};
+
+		Iterator<ProductResponseImpl> products = reader.lines()
+				.map(line -> toProduct(line, ++lineNumber[0], parser, response))
+				.filter(Objects::nonNull)
+				.iterator();
+
+		response.ingested = productRepository.copyIn(products);
+		return response;
+	}
+
+	private ProductResponseImpl toProduct(
+			String line,
+			long lineNumber,
+			Function<String, ProductRequestImpl> parser,
+			ProductIngestResponseImpl response) {
+		if (line.isBlank()) {
+			return null;
+		}
+		try {
+			ProductResponseImpl product = productRegister.prepareProduct(parser.apply(line));
+			checkColumnLimits(product);
+			return product;
+		} catch (IllegalArgumentException e) {
+			response.rejected++;
+			if (response.errors.size() < MAX_REPORTED_ERRORS) {
+				response.errors.add("line " + lineNumber + ": " + e.getMessage());
+			}
+			return null;
+		}
+	}
+
+	private ProductRequestImpl parseJsonRecord(String line) {
+		try {
+			ProductRequestImpl request = productReader.readValue(line);
+			if (request == null) {
+				throw new IllegalArgumentException("Record must be a JSON object");
+			}
+			return request;
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Malformed JSON record: " + e.getOriginalMessage());
+		}
+	}
+
+	private Map<String, Integer> parseCsvHeader(String header) {
+		List<String> names = csvCodec.parseLine(header);
+		Map<String, Integer> columns = new HashMap<>();
+		for (int i = 0; i < names.size(); i++) {
+			columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+		}
+		for (String required : List.of("title", "price", "quantity")) {
+			if (!columns.containsKey(required)) {
+				throw new IllegalArgumentException("CSV header must contain column '" + required + "'");
+			}
+		}
+		return columns;
+	}
+
+	private ProductRequestImpl parseCsvRecord(String line, Map<String, Integer> columns) {
+		List<String> fields = csvCodec.parseLine(line);
+		return ProductRequestImpl.builder()
+				.title(csvField(fields, columns, "title"))
+				.description(csvField(fields, columns, "description"))
+				.price(MoneyImpl.parse(requiredCsvField(fields, columns, "price")))
+				.quantity(Integer.parseInt(requiredCsvField(fields, columns, "quantity")))
+				.build();
+	}
+
+	private String requiredCsvField(List<String> fields, Map<String, Integer> columns, String name) {
+		String value = csvField(fields, columns, name);
+		if (value == null || value.isBlank()) {
+			throw new IllegalArgumentException("Column '" + name + "' is required");
+		}
+		return value.trim();
+	}
+
+	private String csvField(List<String> fields, Map<String, Integer> columns, String name) {
+		Integer index = columns.get(name);
+		if (index == null || index >= fields.size()) {
+			return null;
+		}
+		return fields.get(index);
+	}
+
+	private void checkColumnLimits(ProductResponseImpl product) {
+		// A single out-of-range row would abort the whole COPY, so column limits are checked up front;
+		// prepareProduct has already rejected out-of-range prices and total values.
+		if (product.title.length() > MAX_TITLE_LENGTH) {
+			throw new IllegalArgumentException("Title must be at most " + MAX_TITLE_LENGTH + " characters");
+		}
+		// PostgreSQL text cannot hold NUL, which a JSON escape or a raw CSV byte can carry.
+		if (product.title.indexOf('\0') >= 0
+				|| (product.description != null && product.description.indexOf('\0') >= 0)) {
+			throw new IllegalArgumentException("Title and description must not contain NUL characters");
+		}
+	}
+
+	private ProductIngestResponseImpl emptyResponse() {
+		return ProductIngestResponseImpl.builder()
+				.ingested(0L)
+				.rejected(0L)
+				.errors(new ArrayList<>())
+				.build();
+	}
+}
@@ -5,13 +5,18 @@ import com.example.dto.ProductResponseImpl;
 
 /**
  * Use-case boundary for creating products and applying discounts.
+ * {@link #prepareProduct} and {@link #prepareDiscount} run the validation and derivations without persisting the result.
  *
  * <p>Usage example:
  * {@code
  * ProductResponseImpl response = productRegister.createProduct(request);
+ * ProductResponseImpl derived = productRegister.prepareProduct(request);
+ * ProductResponseImpl discounted = productRegister.prepareDiscount(request, 1500); // 15 %
  * }
  */
 public interface ProductRegister {
 	ProductResponseImpl createProduct(ProductRequestImpl request);
-	ProductResponseImpl applyDiscount(ProductRequestImpl request, double discountPercent);
+	ProductResponseImpl prepareProduct(ProductRequestImpl request);
+	ProductResponseImpl applyDiscount(ProductRequestImpl request, long discountBasisPoints);
+	ProductResponseImpl prepareDiscount(ProductRequestImpl request, long discountBasisPoints);
 }
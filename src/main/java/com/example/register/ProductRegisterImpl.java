@@ -1,13 +1,19 @@
 package com.example.register;
 
+import com.example.dto.MoneyImpl;
 import com.example.dto.ProductRequestImpl;
 import com.example.dto.ProductResponseImpl;
-import com.example.repository.ProductRepositoryImpl;
+import com.example.repository.ProductRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 /**
  * Service implementation of {@link ProductRegister} that builds product responses and persists them if a repository is available.
+ * Prices are {@code long} minor units (see {@link MoneyImpl}), so totals are exact. A discount is applied in
+ * hundredths of a percent (basis points, {@code 0..10000}), which callers parse exactly from the percentage text
+ * with {@link MoneyImpl#parse}, and the discounted price is rounded half-even to the minor unit.
+ * Prices of {@link #MAX_PRICE} and totals of {@link #MAX_TOTAL_VALUE} minor units or more are rejected.
  *
  * <p>Usage example:
  * {@code
@@ -18,10 +24,18 @@ import org.springframework.stereotype.Service;
 @Service
 public class ProductRegisterImpl implements ProductRegister {
 
-	private final ProductRepositoryImpl productRepository;
+	/** Exclusive price limit in minor units: 10 000 000 000.00, the former {@code NUMERIC(12, 2)} range. */
+	static final long MAX_PRICE = 1_000_000_000_000L;
+
+	/** Exclusive total value limit in minor units: 1 000 000 000 000.00, the former {@code NUMERIC(14, 2)} range. */
+	static final long MAX_TOTAL_VALUE = 100_000_000_000_000L;
+
+	private static final long BASIS_POINTS = 10_000;
+
+	private final ProductRepository productRepository;
 
 	@Autowired
-	public ProductRegisterImpl(ProductRepositoryImpl productRepository) {
+	public ProductRegisterImpl(@Qualifier("productRepository") ProductRepository productRepository) {
 		this.productRepository = productRepository;
 	}
 
@@ -31,6 +45,11 @@ public class ProductRegisterImpl implements ProductRegister {
 
 	@Override
 	public ProductResponseImpl createProduct(ProductRequestImpl request) {
+		return saveIfRepositoryPresent(prepareProduct(request));
+	}
+
+	@Override
+	public ProductResponseImpl prepareProduct(ProductRequestImpl request) {
 		if (request.title == null || request.title.isEmpty()) {
 			throw new IllegalArgumentException("Product title is required");
 		}
@@ -38,10 +57,10 @@ public class ProductRegisterImpl implements ProductRegister {
 			throw new IllegalArgumentException("Price cannot be negative");
 		}
 
-		double totalValue = request.price * request.quantity;
+		long totalValue = totalValue(request.price, request.quantity);
 		boolean available = request.quantity > 0;
 
-		ProductResponseImpl response = new ProductResponseImpl(
+		return new ProductResponseImpl(
 				null,
 				request.title,
 				request.description,
@@ -51,20 +70,25 @@ public class ProductRegisterImpl implements ProductRegister {
 				"GENERAL",
 				available
 		);
+	}
 
-		return saveIfRepositoryPresent(response);
+	@Override
+	public ProductResponseImpl applyDiscount(ProductRequestImpl request, long discountBasisPoints) {
+		return saveIfRepositoryPresent(prepareDiscount(request, discountBasisPoints));
 	}
 
 	@Override
-	public ProductResponseImpl applyDiscount(ProductRequestImpl request, double discountPercent) {
-		if (discountPercent < 0 || discountPercent > 100) {
+	public ProductResponseImpl prepareDiscount(ProductRequestImpl request, long discountBasisPoints) {
+		if (discountBasisPoints < 0 || discountBasisPoints > BASIS_POINTS) {
 			throw new IllegalArgumentException("Discount must be between 0 and 100");
 		}
 
-		double discountedPrice = request.price * (1 - discountPercent / 100.0);
-		double totalValue = discountedPrice * request.quantity;
+		checkPrice(request.price);
+
+		long discountedPrice = MoneyImpl.scale(request.price, BASIS_POINTS - discountBasisPoints, BASIS_POINTS);
+		long totalValue = totalValue(discountedPrice, request.quantity);
 
-		ProductResponseImpl response = new ProductResponseImpl(
+		return new ProductResponseImpl(
 				null,
 				request.title,
 				request.description,
@@ -74,8 +98,25 @@ public class ProductRegisterImpl implements ProductRegister {
 				"DISCOUNTED",
 				request.quantity > 0
 		);
+	}
 
-		return saveIfRepositoryPresent(response);
+	private static void checkPrice(long price) {
+		if (Math.abs(price) >= MAX_PRICE) {
+			throw new IllegalArgumentException("Price is out of range");
+		}
+	}
+
+	private static long totalValue(long price, int quantity) {
+		checkPrice(price);
+		try {
+			long totalValue = MoneyImpl.times(price, quantity);
+			if (Math.abs(totalValue) < MAX_TOTAL_VALUE) {
+				return totalValue;
+			}
+		} catch (ArithmeticException e) {
+			// reported below
+		}
+		throw new IllegalArgumentException("Total value is out of range");
 	}
 
 	private ProductResponseImpl saveIfRepositoryPresent(ProductResponseImpl response) {
@@ -0,0 +1,27 @@
+package com.example.register;
+
+import com.example.dto.ProductRequestImpl;
+import com.example.dto.ProductWriteAckImpl;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Write-behind boundary for product creation: products are validated synchronously, acknowledged with a
+ * tracking id and persisted later in batches. A submit that cannot be queued throws
+ * {@link WriteBehindRejectedException}.
+ *
+ * <p>Usage example:
+ * {@code
+ * ProductWriteAckImpl ack = productWriteBehind.submitCreate(request);
+ * ProductWriteAckImpl current = productWriteBehind.status(ack.trackingId);
+ * }
+ */
+public interface ProductWriteBehind extends SmartLifecycle {
+
+	ProductWriteAckImpl submitCreate(ProductRequestImpl request);
+
+	ProductWriteAckImpl submitDiscount(ProductRequestImpl request, long discountBasisPoints);
+
+	ProductWriteAckImpl status(String trackingId);
+
+	int queueDepth();
+}
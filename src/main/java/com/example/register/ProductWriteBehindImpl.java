@@ -0,0 +1,317 @@
+package com.example.register;
+
+import com.example.dto.ProductRequestImpl;
+import com.example.dto.ProductResponseImpl;
+import com.example.dto.ProductWriteAck;
+import com.example.dto.ProductWriteAckImpl;
+import com.example.repository.ProductRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Implementation of {@link ProductWriteBehind}, active when {@code app.products.write-behind.enabled=true}.
+ * Validated products go into a bounded {@link ArrayBlockingQueue}; a single background flusher drains up to
+ * {@code batch-size} products at a time and persists them with {@link ProductRepository#saveAll}, falling back
+ * to row-by-row saves when the database rejects a batch. Any other failure marks the affected rows failed and the
+ * flusher keeps running. When the queue is full a submit waits at most
+ * {@code offer-timeout} and then fails with {@link WriteBehindRejectedException}, which the controller maps to
+ * {@code 503 Service Unavailable}. Write statuses are kept for {@code status-ttl} in a bounded Caffeine cache.
+ *
+ * <p>The bean runs in lifecycle phase 0, after the web server's graceful shutdown phase, so on shutdown
+ * in-flight requests finish first, then intake is closed and everything still queued is flushed before the
+ * DataSource is closed.
+ *
+ * <p>Metrics: {@code app.product.writes.queue.depth}, {@code app.product.writes.flush} (timer),
+ * {@code app.product.writes.batch.size}, and counters {@code app.product.writes.persisted},
+ * {@code app.product.writes.failed} and {@code app.product.writes.rejected}.
+ *
+ * <p>Usage example:
+ * {@code
+ * ProductWriteBehindImpl writeBehind = new ProductWriteBehindImpl(register, repository, meterRegistry,
+ *     10_000, 500, Duration.ofMillis(100), Duration.ofMinutes(10), Duration.ofSeconds(30));
+ * writeBehind.start();
+ * ProductWriteAckImpl ack = writeBehind.submitCreate(request);
+ * }
+ */
+@Service
+@ConditionalOnProperty(name = "app.products.write-behind.enabled", havingValue = "true")
+public class ProductWriteBehindImpl implements ProductWriteBehind {
+
+	static final long STATUS_MAXIMUM_SIZE = 1_000_000;
+	private static final long POLL_MILLIS = 100;
+
+	private final ProductRegisterImpl productRegister;
+	private final ProductRepository productRepository;
+	private final BlockingQueue<Map.Entry<String, ProductResponseImpl>> queue;
+	private final int batchSize;
+	private final Duration offerTimeout;
+	private final Duration shutdownTimeout;
+	private final Cache<String, ProductWriteAckImpl> statuses;
+	private final ReadWriteLock intakeLock = new ReentrantReadWriteLock();
+
+	private final Timer flushTimer;
+	private final DistributionSummary batchSizes;
+	private final Counter persisted;
+	private final Counter failed;
+	private final Counter rejected;
+
+	private volatile boolean accepting = true;
+	private volatile boolean running;
+	private Thread flusher;
+
+	@Autowired
+	public ProductWriteBehindImpl(
+			ProductRegisterImpl productRegister,
+			@Qualifier("productRepository") ProductRepository productRepository,
+			MeterRegistry meterRegistry,
+			@Value("${app.products.write-behind.queue-capacity:10000}") int queueCapacity,
+			@Value("${app.products.write-behind.batch-size:500}") int batchSize,
+			@Value("${app.products.write-behind.offer-timeout:PT0.1S}") Duration offerTimeout,
+			@Value("${app.products.write-behind.status-ttl:PT10M}") Duration statusTtl,
+			@Value("${app.products.write-behind.shutdown-timeout:PT30S}") Duration shutdownTimeout) {
+		if (queueCapacity < 1 || batchSize < 1) {
+			throw new IllegalArgumentException("Queue capacity and batch size must be positive");
+		}
+		if (offerTimeout.isNegative() || shutdownTimeout.isNegative() || statusTtl.isNegative() || statusTtl.isZero()) {
+			throw new IllegalArgumentException("Write-behind timeouts must not be negative and the status TTL must be positive");
+		}
+		this.productRegister = productRegister;
+		this.productRepository = productRepository;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.batchSize = batchSize;
+		this.offerTimeout = offerTimeout;
+		this.shutdownTimeout = shutdownTimeout;
+		this.statuses = Caffeine.newBuilder()
+				.maximumSize(STATUS_MAXIMUM_SIZE)
+				.expireAfterWrite(statusTtl)
+				.build();
+
+		Gauge.builder("app.product.writes.queue.depth", queue, BlockingQueue::size)
+				.description("Products accepted in write-behind mode and not yet flushed")
+				.register(meterRegistry);
+		this.flushTimer = Timer.builder("app.product.writes.flush")
+				.description("Duration of one write-behind batch flush")
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+		this.batchSizes = DistributionSummary.builder("app.product.writes.batch.size")
+				.description("Number of products per write-behind flush")
+				.register(meterRegistry);
+		this.persisted = Counter.builder("app.product.writes.persisted").register(meterRegistry);
+		this.failed = Counter.builder("app.product.writes.failed").register(meterRegistry);
+		this.rejected = Counter.builder("app.product.writes.rejected")
+				.description("Submits rejected because the queue stayed full or intake was closed")
+				.register(meterRegistry);
+	}
+
+	@Override
+	public ProductWriteAckImpl submitCreate(ProductRequestImpl request) {
+		return enqueue(productRegister.prepareProduct(request));
+	}
+
+	@Override
+	public ProductWriteAckImpl submitDiscount(ProductRequestImpl request, long discountBasisPoints) {
+		return enqueue(productRegister.prepareDiscount(request, discountBasisPoints));
+	}
+
+	@Override
+	public ProductWriteAckImpl status(String trackingId) {
+		ProductWriteAckImpl ack = trackingId != null ? statuses.getIfPresent(trackingId) : null;
+		return ack != null ? copyOf(ack) : null;
+	}
+
+	@Override
+	public int queueDepth() {
+		return queue.size();
+	}
+
+	@Override
+	public synchronized void start() {
+		if (running) {
+			return;
+		}
+		accepting = true;
+		running = true;
+		flusher = Thread.ofPlatform().name("product-write-behind").daemon().start(this::runFlusher);
+	}
+
+	@Override
+	public synchronized void stop() {
+		intakeLock.writeLock().lock();
+		try {
+			accepting = false;
+		} finally {
+			intakeLock.writeLock().unlock();
+		}
+		running = false;
+		if (flusher != null) {
+			try {
+				flusher.join(shutdownTimeout);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			flusher = null;
+		}
+		drainQueue();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	@Override
+	public int getPhase() {
+		return 0;
+	}
+
+	private ProductWriteAckImpl enqueue(ProductResponseImpl product) {
+		String trackingId = UUID.randomUUID().toString();
+		ProductWriteAckImpl ack = ack(trackingId, ProductWriteAck.STATUS_PENDING, null, null);
+		statuses.put(trackingId, ack);
+
+		boolean queued = false;
+		intakeLock.readLock().lock();
+		try {
+			if (!accepting) {
+				throw new WriteBehindRejectedException("Write-behind intake is closed");
+			}
+			if (!queue.offer(Map.entry(trackingId, product), offerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+				throw new WriteBehindRejectedException("Write-behind queue is full");
+			}
+			queued = true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new WriteBehindRejectedException("Interrupted while waiting for write-behind queue space", e);
+		} finally {
+			intakeLock.readLock().unlock();
+			if (!queued) {
+				statuses.invalidate(trackingId);
+				rejected.increment();
+			}
+		}
+		return copyOf(ack);
+	}
+
+	private void runFlusher() {
+		List<Map.Entry<String, ProductResponseImpl>> batch = new ArrayList<>(batchSize);
+		while (running) {
+			try {
+				Map.Entry<String, ProductResponseImpl> first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, batchSize - 1);
+				flushSettled(batch);
+				batch.clear();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private void drainQueue() {
+		List<Map.Entry<String, ProductResponseImpl>> batch = new ArrayList<>(batchSize);
+		while (queue.drainTo(batch, batchSize) > 0) {
+			flushSettled(batch);
+			batch.clear();
+		}
+	}
+
+	private void flushSettled(List<Map.Entry<String, ProductResponseImpl>> batch) {
+		try {
+			flushBatch(batch);
+		} catch (RuntimeException e) {
+			// The flusher is the queue's only consumer, so nothing may escape it: fail what is still pending.
+			for (Map.Entry<String, ProductResponseImpl> entry : batch) {
+				ProductWriteAckImpl status = statuses.getIfPresent(entry.getKey());
+				if (status != null && ProductWriteAck.STATUS_PENDING.equals(status.status)) {
+					markFailed(entry, e.getMessage());
+				}
+			}
+		}
+	}
+
+	private void flushBatch(List<Map.Entry<String, ProductResponseImpl>> batch) {
+		Timer.Sample sample = Timer.start();
+		List<ProductResponseImpl> products = new ArrayList<>(batch.size());
+		for (Map.Entry<String, ProductResponseImpl> entry : batch) {
+			products.add(entry.getValue());
+		}
+		try {
+			productRepository.saveAll(products);
+			for (Map.Entry<String, ProductResponseImpl> entry : batch) {
+				markPersisted(entry);
+			}
+		} catch (DataAccessException e) {
+			// Isolate the offending rows: retry the rejected batch one product at a time.
+			for (Map.Entry<String, ProductResponseImpl> entry : batch) {
+				persistSingle(entry);
+			}
+		} catch (RuntimeException e) {
+			for (Map.Entry<String, ProductResponseImpl> entry : batch) {
+				markFailed(entry, e.getMessage());
+			}
+		} finally {
+			sample.stop(flushTimer);
+			batchSizes.record(batch.size());
+		}
+	}
+
+	private void persistSingle(Map.Entry<String, ProductResponseImpl> entry) {
+		try {
+			productRepository.save(entry.getValue());
+			markPersisted(entry);
+		} catch (DataAccessException e) {
+			markFailed(entry, e.getMostSpecificCause().getMessage());
+		} catch (RuntimeException e) {
+			markFailed(entry, e.getMessage());
+		}
+	}
+
+	private void markPersisted(Map.Entry<String, ProductResponseImpl> entry) {
+		statuses.put(entry.getKey(), ack(entry.getKey(), ProductWriteAck.STATUS_PERSISTED, entry.getValue().id, null));
+		persisted.increment();
+	}
+
+	private void markFailed(Map.Entry<String, ProductResponseImpl> entry, String error) {
+		statuses.put(entry.getKey(), ack(entry.getKey(), ProductWriteAck.STATUS_FAILED, null, error));
+		failed.increment();
+	}
+
+	private ProductWriteAckImpl ack(String trackingId, String status, Long productId, String error) {
+		return ProductWriteAckImpl.builder()
+				.trackingId(trackingId)
+				.status(status)
+				.productId(productId)
+				.error(error)
+				.build();
+	}
+
+	private ProductWriteAckImpl copyOf(ProductWriteAckImpl ack) {
+		return ack(ack.trackingId, ack.status, ack.productId, ack.error);
+	}
+}
@@ -1,17 +1,26 @@
 package com.example.register;
 
+import com.example.dto.UserBatchResponseImpl;
 import com.example.dto.UserRequestImpl;
 import com.example.dto.UserResponseImpl;
 
+import java.util.List;
+
 /**
- * Use-case boundary for processing and validating user data.
+ * Use-case boundary for processing, validating and batch-registering user data.
+ * {@link #prepareUser} and {@link #prepareValidatedUser} run the validation and transformation without persisting the result.
  *
  * <p>Usage example:
  * {@code
  * UserResponseImpl response = userRegister.processUser(request);
+ * UserResponseImpl prepared = userRegister.prepareUser(request);
+ * UserBatchResponseImpl batch = userRegister.registerUsers(requests);
  * }
  */
 public interface UserRegister {
 	UserResponseImpl processUser(UserRequestImpl request);
+	UserResponseImpl prepareUser(UserRequestImpl request);
 	UserResponseImpl validateUser(UserRequestImpl request);
+	UserResponseImpl prepareValidatedUser(UserRequestImpl request);
+	UserBatchResponseImpl registerUsers(List<UserRequestImpl> requests);
 }
@@ -1,29 +1,41 @@
 package com.example.register;
 
+import com.example.dto.UserBatchFailureImpl;
+import com.example.dto.UserBatchResponseImpl;
 import com.example.dto.UserRequestImpl;
 import com.example.dto.UserResponseImpl;
-import com.example.repository.UserRepositoryImpl;
+import com.example.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Service implementation of {@link UserRegister} that validates and transforms user data and persists it if a repository is available.
+ * Batch registration persists valid entries in chunks and falls back to row-by-row saves for a chunk the database rejects,
+ * so a single bad entry never fails the whole batch.
  *
  * <p>Usage example:
  * {@code
  * UserRegister register = new UserRegisterImpl(userRepository);
  * UserResponseImpl response = register.processUser(request);
+ * UserBatchResponseImpl batch = register.registerUsers(requests);
  * }
  */
 @Service
 public class UserRegisterImpl implements UserRegister {
 
-	private final UserRepositoryImpl userRepository;
+	static final int BATCH_CHUNK_SIZE = 500;
+
+	private final UserRepository userRepository;
 
 	@Autowired
-	public UserRegisterImpl(UserRepositoryImpl userRepository) {
+	public UserRegisterImpl(@Qualifier("userRepository") UserRepository userRepository) {
 		this.userRepository = userRepository;
 	}
 
@@ -33,44 +45,143 @@ public class UserRegisterImpl implements UserRegister {
 
 	@Override
 	public UserResponseImpl processUser(UserRequestImpl request) {
+		return saveIfRepositoryPresent(prepareUser(request));
+	}
+
+	@Override
+	public UserResponseImpl prepareUser(UserRequestImpl request) {
+		return prepareProcessedUser(request);
+	}
+
+	@Override
+	public UserResponseImpl validateUser(UserRequestImpl request) {
+		return saveIfRepositoryPresent(prepareValidatedUser(request));
+	}
+
+	@Override
+	public UserResponseImpl prepareValidatedUser(UserRequestImpl request) {
 		if (request.name == null || request.name.isEmpty()) {
-			throw new IllegalArgumentException("Name is required");
+			throw new IllegalArgumentException("Name cannot be empty");
 		}
-		if (request.age < 0 || request.age > 150) {
-			throw new IllegalArgumentException("Age must be between 0 and 150");
+		if (request.email == null || !request.email.contains("@")) {
+			throw new IllegalArgumentException("Invalid email format");
 		}
 
-		UserResponseImpl response = UserResponseImpl.builder()
+		return UserResponseImpl.builder()
 				.id(null)
-				.name(request.name.toUpperCase())
+				.name(request.name)
 				.email(request.email)
 				.age(request.age)
-				.status("ACTIVE")
+				.status("VALIDATED")
 				.createdAt(LocalDateTime.now())
 				.build();
-
-		return saveIfRepositoryPresent(response);
 	}
 
 	@Override
-	public UserResponseImpl validateUser(UserRequestImpl request) {
+	public UserBatchResponseImpl registerUsers(List<UserRequestImpl> requests) {
+		if (requests == null) {
+			throw new IllegalArgumentException("Users are required");
+		}
+
+		UserResponseImpl[] results = new UserResponseImpl[requests.size()];
+		List<UserBatchFailureImpl> failures = new ArrayList<>();
+		List<Integer> pendingIndexes = new ArrayList<>(requests.size());
+
+		for (int i = 0; i < requests.size(); i++) {
+			UserRequestImpl request = requests.get(i);
+			try {
+				results[i] = prepareRegisteredUser(request);
+				pendingIndexes.add(i);
+			} catch (IllegalArgumentException e) {
+				failures.add(failure(i, request, e.getMessage()));
+			}
+		}
+
+		for (int from = 0; from < pendingIndexes.size(); from += BATCH_CHUNK_SIZE) {
+			List<Integer> chunk = pendingIndexes.subList(from, Math.min(from + BATCH_CHUNK_SIZE, pendingIndexes.size()));
+			persistChunk(requests, results, chunk, failures);
+		}
+
+		failures.sort((left, right) -> Integer.compare(left.index, right.index));
+		return UserBatchResponseImpl.builder()
+				.total(requests.size())
+				.succeeded(requests.size() - failures.size())
+				.failed(failures.size())
+				.users(Arrays.asList(results))
+				.failures(failures)
+				.build();
+	}
+
+	private UserResponseImpl prepareRegisteredUser(UserRequestImpl request) {
+		if (request == null) {
+			throw new IllegalArgumentException("User entry is required");
+		}
+		if (request.email == null) {
+			throw new IllegalArgumentException("Email is required");
+		}
+		return prepareProcessedUser(request);
+	}
+
+	private UserResponseImpl prepareProcessedUser(UserRequestImpl request) {
 		if (request.name == null || request.name.isEmpty()) {
-			throw new IllegalArgumentException("Name cannot be empty");
+			throw new IllegalArgumentException("Name is required");
 		}
-		if (request.email == null || !request.email.contains("@")) {
-			throw new IllegalArgumentException("Invalid email format");
+		if (request.age < 0 || request.age > 150) {
+			throw new IllegalArgumentException("Age must be between 0 and 150");
 		}
 
-		UserResponseImpl response = UserResponseImpl.builder()
+		return UserResponseImpl.builder()
 				.id(null)
-				.name(request.name)
+				.name(request.name.toUpperCase())
 				.email(request.email)
 				.age(request.age)
-				.status("VALIDATED")
+				.status("ACTIVE")
 				.createdAt(LocalDateTime.now())
 				.build();
+	}
+
+	private void persistChunk(
+			List<UserRequestImpl> requests,
+			UserResponseImpl[] results,
+			List<Integer> chunk,
+			List<UserBatchFailureImpl> failures) {
+		if (userRepository == null) {
+			return;
+		}
+
+		List<UserResponseImpl> users = new ArrayList<>(chunk.size());
+		for (int index : chunk) {
+			users.add(results[index]);
+		}
+		try {
+			userRepository.saveAll(users);
+		} catch (DataAccessException e) {
+			// Isolate the offending rows: retry the rejected chunk one user at a time.
+			for (int index : chunk) {
+				persistSingle(requests, results, index, failures);
+			}
+		}
+	}
 
-		return saveIfRepositoryPresent(response);
+	private void persistSingle(
+			List<UserRequestImpl> requests,
+			UserResponseImpl[] results,
+			int index,
+			List<UserBatchFailureImpl> failures) {
+		try {
+			userRepository.save(results[index]);
+		} catch (DataAccessException e) {
+			results[index] = null;
+			failures.add(failure(index, requests.get(index), e.getMostSpecificCause().getMessage()));
+		}
+	}
+
+	private UserBatchFailureImpl failure(int index, UserRequestImpl request, String error) {
+		return UserBatchFailureImpl.builder()
+				.index(index)
+				.email(request != null ? request.email : null)
+				.error(error)
+				.build();
 	}
 
 	private UserResponseImpl saveIfRepositoryPresent(UserResponseImpl response) {
@@ -0,0 +1,26 @@
+package com.example.register;
+
+/**
+ * Thrown by {@link ProductWriteBehind} when a product is not accepted for writing: the queue stayed full for the
+ * offer timeout, intake is closed for shutdown, or the request thread was interrupted while waiting. The controller
+ * maps it, and only it, to {@code 503 Service Unavailable}.
+ *
+ * <p>Usage example:
+ * {@code
+ * try {
+ *     productWriteBehind.submitCreate(request);
+ * } catch (WriteBehindRejectedException e) {
+ *     // retry later
+ * }
+ * }
+ */
+public class WriteBehindRejectedException extends RuntimeException {
+
+	public WriteBehindRejectedException(String message) {
+		super(message);
+	}
+
+	public WriteBehindRejectedException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
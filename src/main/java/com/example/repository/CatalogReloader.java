@@ -0,0 +1,23 @@
+package com.example.repository;
+
+import java.time.Duration;
+
+/**
+ * Periodic reconciliation of the catalog aggregates an instance keeps in memory with the {@code products} table, so
+ * that every instance converges on the same figures, including rows written by the other instances.
+ *
+ * <p>Usage example:
+ * {@code
+ * catalogReloader.reload();
+ * Duration staleness = catalogReloader.age();
+ * }
+ */
+public interface CatalogReloader extends AutoCloseable {
+
+    void reload();
+
+    Duration age();
+
+    @Override
+    void close();
+}
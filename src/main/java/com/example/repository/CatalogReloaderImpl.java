@@ -0,0 +1,99 @@
+package com.example.repository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of {@link CatalogReloader} for the JDBC repository.
+ * Every {@code app.products.catalog.reload-interval} a single daemon thread calls
+ * {@link ProductRepositoryImpl#reloadStatistics} and {@link ProductRepositoryImpl#reloadTitles}, so the statistics
+ * and the title search of an instance include the writes of all instances after at most one interval; a zero interval
+ * disables the schedule. Each reload runs two GROUP BY scans of the products table on a read replica when replicas are
+ * enabled (on the primary otherwise), so the interval trades staleness for scan load per instance. A failed reload is logged at WARN and keeps the previous figures and the schedule. The
+ * gauge {@code app.product.catalog.age} reports the seconds since the last successful reload (or since startup),
+ * which is the staleness bound for writes made by other instances.
+ *
+ * <p>Usage example:
+ * {@code
+ * CatalogReloaderImpl reloader = new CatalogReloaderImpl(repository, meterRegistry, Duration.ofMinutes(5));
+ * Duration staleness = reloader.age();
+ * reloader.close();
+ * }
+ */
+@Component
+@Profile("!in-memory")
+public class CatalogReloaderImpl implements CatalogReloader {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogReloaderImpl.class);
+
+    private final ProductRepositoryImpl productRepository;
+    private final ScheduledExecutorService scheduler;
+    private volatile long reloadedAtNanos = System.nanoTime();
+
+    @Autowired
+    public CatalogReloaderImpl(
+            ProductRepositoryImpl productRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.products.catalog.reload-interval:PT5M}") Duration reloadInterval) {
+        if (reloadInterval == null || reloadInterval.isNegative()) {
+            throw new IllegalArgumentException("Reload interval must not be negative");
+        }
+        this.productRepository = productRepository;
+
+        Gauge.builder("app.product.catalog.age", this, reloader -> reloader.age().toMillis() / 1000.0)
+                .description("Seconds since the catalog statistics and titles were last rebuilt from the products table")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        if (reloadInterval.isZero()) {
+            this.scheduler = null;
+            return;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-reloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = reloadInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::reloadQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void reload() {
+        productRepository.reloadStatistics();
+        productRepository.reloadTitles();
+        reloadedAtNanos = System.nanoTime();
+    }
+
+    @Override
+    public Duration age() {
+        return Duration.ofNanos(System.nanoTime() - reloadedAtNanos);
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            // An exception would cancel the schedule; keep the previous figures and try again next interval.
+            log.warn("Catalog reload failed, keeping figures from {} ago", age(), e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.repository;
+
+import com.example.dto.ProductResponseImpl;
+import com.example.dto.ProductStatisticsImpl;
+
+/**
+ * Running per-category aggregates of the product catalog, updated on every write instead of scanning the table.
+ * Money figures are {@code long} minor units.
+ *
+ * <p>Usage example:
+ * {@code
+ * statistics.record(savedProduct);
+ * statistics.add("GENERAL", 10, 7, 150000, 25000, 500, 6000);
+ * ProductStatisticsImpl snapshot = statistics.snapshot();
+ * }
+ */
+public interface CatalogStatistics {
+
+    void record(ProductResponseImpl product);
+
+    void add(String category, long count, long availableCount, long totalValue,
+             long priceSum, long minPrice, long maxPrice);
+
+    void merge(CatalogStatisticsImpl other);
+
+    void clear();
+
+    ProductStatisticsImpl snapshot();
+}
@@ -0,0 +1,142 @@
+package com.example.repository;
+
+import com.example.dto.MoneyImpl;
+import com.example.dto.ProductResponseImpl;
+import com.example.dto.ProductStatisticsImpl;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free implementation of {@link CatalogStatistics}.
+ * Every category keeps striped {@link LongAdder} sums and {@link LongAccumulator} minimum and maximum prices, all in
+ * minor units, so concurrent writers update separate cells instead of contending on one counter; a
+ * {@link #snapshot} only sums the cells of each category and never touches the {@code products} table.
+ * Products are never updated or deleted, so the minimum and maximum only ever move outwards.
+ * The figures of one snapshot are read one after another: while writes are in flight they may disagree by the
+ * products being recorded at that moment, and they are exact once those writes have completed. Sums are exact in any
+ * order; the average price is rounded half-even to the minor unit.
+ *
+ * <p>Usage example:
+ * {@code
+ * CatalogStatistics statistics = new CatalogStatisticsImpl();
+ * statistics.record(product);
+ * ProductStatisticsImpl snapshot = statistics.snapshot();
+ * long generalValue = snapshot.categories.get("GENERAL").totalValue;
+ * }
+ */
+public class CatalogStatisticsImpl implements CatalogStatistics {
+
+    private final ConcurrentMap<String, CategoryTotals> categories = new ConcurrentHashMap<>();
+
+    @Override
+    public void record(ProductResponseImpl product) {
+        add(product.category, 1, product.available ? 1 : 0, product.totalValue,
+                product.price, product.price, product.price);
+    }
+
+    @Override
+    public void add(String category, long count, long availableCount, long totalValue,
+                    long priceSum, long minPrice, long maxPrice) {
+        if (category == null) {
+            throw new IllegalArgumentException("Category must not be null");
+        }
+        if (count < 1) {
+            return;
+        }
+
+        CategoryTotals totals = categories.computeIfAbsent(category, name -> new CategoryTotals());
+        totals.availableCount.add(availableCount);
+        totals.totalValue.add(totalValue);
+        totals.priceSum.add(priceSum);
+        totals.minPrice.accumulate(minPrice);
+        totals.maxPrice.accumulate(maxPrice);
+        totals.count.add(count);
+    }
+
+    @Override
+    public void merge(CatalogStatisticsImpl other) {
+        for (Map.Entry<String, CategoryTotals> entry : other.categories.entrySet()) {
+            CategoryTotals totals = entry.getValue();
+            add(
+                    entry.getKey(),
+                    totals.count.sum(),
+                    totals.availableCount.sum(),
+                    totals.totalValue.sum(),
+                    totals.priceSum.sum(),
+                    totals.minPrice.get(),
+                    totals.maxPrice.get()
+            );
+        }
+    }
+
+    @Override
+    public void clear() {
+        categories.clear();
+    }
+
+    @Override
+    public ProductStatisticsImpl snapshot() {
+        Map<String, ProductStatisticsImpl> byCategory = new TreeMap<>();
+        long count = 0;
+        long availableCount = 0;
+        long totalValue = 0;
+        long priceSum = 0;
+        long minPrice = Long.MAX_VALUE;
+        long maxPrice = Long.MIN_VALUE;
+
+        for (Map.Entry<String, CategoryTotals> entry : categories.entrySet()) {
+            CategoryTotals totals = entry.getValue();
+            long categoryCount = totals.count.sum();
+            if (categoryCount == 0) {
+                continue;
+            }
+            long categoryAvailable = totals.availableCount.sum();
+            long categoryValue = totals.totalValue.sum();
+            long categoryPriceSum = totals.priceSum.sum();
+            long categoryMin = totals.minPrice.get();
+            long categoryMax = totals.maxPrice.get();
+
+            byCategory.put(entry.getKey(), statisticsOf(categoryCount, categoryAvailable, categoryValue,
+                    categoryPriceSum, categoryMin, categoryMax));
+
+            count += categoryCount;
+            availableCount += categoryAvailable;
+            totalValue += categoryValue;
+            priceSum += categoryPriceSum;
+            minPrice = Math.min(minPrice, categoryMin);
+            maxPrice = Math.max(maxPrice, categoryMax);
+        }
+
+        ProductStatisticsImpl statistics = statisticsOf(count, availableCount, totalValue, priceSum, minPrice, maxPrice);
+        statistics.categories = byCategory;
+        return statistics;
+    }
+
+    private static ProductStatisticsImpl statisticsOf(long count, long availableCount, long totalValue,
+                                                      long priceSum, long minPrice, long maxPrice) {
+        boolean empty = count == 0;
+        return ProductStatisticsImpl.builder()
+                .count(count)
+                .availableCount(Math.min(availableCount, count))
+                .unavailableCount(Math.max(count - availableCount, 0))
+                .totalValue(totalValue)
+                .minPrice(empty ? null : minPrice)
+                .maxPrice(empty ? null : maxPrice)
+                .avgPrice(empty ? null : MoneyImpl.divide(priceSum, count))
+                .build();
+    }
+
+    private static final class CategoryTotals {
+        final LongAdder count = new LongAdder();
+        final LongAdder availableCount = new LongAdder();
+        final LongAdder totalValue = new LongAdder();
+        final LongAdder priceSum = new LongAdder();
+        final LongAccumulator minPrice = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        final LongAccumulator maxPrice = new LongAccumulator(Math::max, Long.MIN_VALUE);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.repository;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.function.Consumer;
+
+/**
+ * Reads the rows of a query one fetch at a time through a server-side cursor and hands every mapped row to a sink.
+ *
+ * <p>Usage example:
+ * {@code
+ * long exported = cursorReader.forEach("SELECT ... FROM users ORDER BY id", USER_ROW_MAPPER, user -> write(user));
+ * }
+ */
+public interface CursorReader {
+
+    <T> long forEach(String sql, RowMapper<T> rowMapper, Consumer<? super T> sink);
+}
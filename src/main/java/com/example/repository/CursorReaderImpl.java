@@ -0,0 +1,76 @@
+package com.example.repository;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * JDBC implementation of {@link CursorReader} for PostgreSQL.
+ * pgjdbc only reads a result set through a cursor when autocommit is off and a fetch size is set, otherwise it
+ * loads every row before returning the first one. The query therefore runs in a transaction of its own on one
+ * connection with a fetch size of {@link #DEFAULT_FETCH_SIZE} rows, so at most one fetch is held in memory however
+ * large the table is. The transaction is rolled back and autocommit restored before the connection goes back to the
+ * pool, also when the sink throws, which is how a caller stops reading early.
+ *
+ * <p>Usage example:
+ * {@code
+ * CursorReader reader = new CursorReaderImpl(jdbcTemplate);
+ * long count = reader.forEach("SELECT id, title FROM products ORDER BY id", PRODUCT_ROW_MAPPER, sink);
+ * }
+ */
+public class CursorReaderImpl implements CursorReader {
+
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public CursorReaderImpl(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, DEFAULT_FETCH_SIZE);
+    }
+
+    public CursorReaderImpl(JdbcTemplate jdbcTemplate, int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("Fetch size must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public <T> long forEach(String sql, RowMapper<T> rowMapper, Consumer<? super T> sink) {
+        if (sql == null || rowMapper == null || sink == null) {
+            throw new IllegalArgumentException("Query, row mapper and sink must not be null");
+        }
+
+        Long count = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> read(connection, sql, rowMapper, sink));
+        return count != null ? count : 0L;
+    }
+
+    private <T> long read(Connection connection, String sql, RowMapper<T> rowMapper, Consumer<? super T> sink)
+            throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement(
+                sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(fetchSize);
+            try (ResultSet rs = statement.executeQuery()) {
+                long count = 0;
+                while (rs.next()) {
+                    sink.accept(rowMapper.mapRow(rs, (int) count));
+                    count++;
+                }
+                return count;
+            }
+        } finally {
+            connection.rollback();
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.repository;
+
+/**
+ * Hands out primary keys from blocks reserved on a database sequence, so inserts can carry their id
+ * instead of reading it back per row.
+ *
+ * <p>Usage example:
+ * {@code
+ * long id = idAllocator.nextId(ProductRepositoryImpl.ID_SEQUENCE);
+ * }
+ */
+public interface IdAllocator {
+
+    long nextId(String sequence);
+}
@@ -0,0 +1,88 @@
+package com.example.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pooled hi/lo implementation of {@link IdAllocator} backed by PostgreSQL sequences.
+ * Every {@code nextval} reserves the block of {@code INCREMENT BY} ids ending at the returned value, so the block size
+ * of each table is the increment of its sequence and is changed with a migration, never by the application.
+ * Ids of the current block are handed out with a single atomic increment; only the thread that finds the block
+ * exhausted takes the per-sequence lock to reserve the next one, which costs one round trip per block. The lock is a
+ * {@link ReentrantLock} rather than a monitor: the reservation may wait for a connection, and a virtual thread
+ * waiting inside {@code synchronized} would pin its carrier.
+ *
+ * <p>Usage example:
+ * {@code
+ * IdAllocator allocator = new IdAllocatorImpl(jdbcTemplate);
+ * long first = allocator.nextId("products_id_block_seq");
+ * long second = allocator.nextId("products_id_block_seq");
+ * }
+ */
+@Component
+@Profile("!in-memory")
+public class IdAllocatorImpl implements IdAllocator {
+
+    private static final String RESERVE_BLOCK_SQL = """
+            SELECT nextval(CAST(? AS regclass)) AS block_end,
+                   (SELECT increment_by
+                    FROM pg_sequences
+                    WHERE schemaname = current_schema() AND sequencename = ?) AS block_size
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Each block is (next id to hand out, last id of the block); the entry is replaced as a whole on refill.
+    private final Map<String, AtomicReference<Map.Entry<AtomicLong, Long>>> blocks = new ConcurrentHashMap<>();
+    private final Map<String, ReentrantLock> refillLocks = new ConcurrentHashMap<>();
+
+    public IdAllocatorImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public long nextId(String sequence) {
+        if (sequence == null || sequence.isEmpty()) {
+            throw new IllegalArgumentException("Sequence must not be null or empty");
+        }
+
+        AtomicReference<Map.Entry<AtomicLong, Long>> current = blocks.computeIfAbsent(
+                sequence,
+                name -> new AtomicReference<>(Map.entry(new AtomicLong(1), 0L))
+        );
+        while (true) {
+            Map.Entry<AtomicLong, Long> block = current.get();
+            long id = block.getKey().getAndIncrement();
+            if (id <= block.getValue()) {
+                return id;
+            }
+            ReentrantLock refillLock = refillLocks.computeIfAbsent(sequence, name -> new ReentrantLock());
+            refillLock.lock();
+            try {
+                if (current.get() == block) {
+                    current.set(reserveBlock(sequence));
+                }
+            } finally {
+                refillLock.unlock();
+            }
+        }
+    }
+
+    private Map.Entry<AtomicLong, Long> reserveBlock(String sequence) {
+        Map<String, Object> row = jdbcTemplate.queryForMap(RESERVE_BLOCK_SQL, sequence, sequence);
+        Number blockSize = (Number) row.get("block_size");
+        if (blockSize == null || blockSize.longValue() < 1) {
+            throw new IllegalStateException("Sequence " + sequence + " must be ascending to reserve id blocks");
+        }
+
+        long blockEnd = ((Number) row.get("block_end")).longValue();
+        return Map.entry(new AtomicLong(blockEnd - blockSize.longValue() + 1), blockEnd);
+    }
+}
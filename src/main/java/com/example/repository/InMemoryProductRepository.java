@@ -0,0 +1,18 @@
+package com.example.repository;
+
+/**
+ * {@link ProductRepository} kept entirely in memory, used when the {@code in-memory} profile is active.
+ *
+ * <p>Usage example:
+ * {@code
+ * InMemoryProductRepository repository = new InMemoryProductRepositoryImpl();
+ * ProductResponseImpl saved = repository.save(product);
+ * int count = repository.size();
+ * }
+ */
+public interface InMemoryProductRepository extends ProductRepository {
+
+    int size();
+
+    void clear();
+}
@@ -0,0 +1,224 @@
+package com.example.repository;
+
+import com.example.dto.ProductResponseImpl;
+import com.example.dto.ProductStatisticsImpl;
+import com.example.dto.TitleMatchImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * In-memory implementation of {@link ProductRepository} for profiling the web and service layers without PostgreSQL.
+ * Products are indexed by title in a {@link ConcurrentHashMap} whose values are id-ordered
+ * {@link ConcurrentSkipListMap}s, so title lookups return matches ordered by id like the indexed SQL query of
+ * {@link ProductRepositoryImpl}. Ids come from an {@link AtomicLong}; {@link #copyIn} simply saves every product.
+ * Statistics are recorded on every save in a {@link CatalogStatisticsImpl}, as in {@link ProductRepositoryImpl}.
+ * {@link #exportAll} visits products title by title, so not in id order.
+ * Saved titles are added to the shared {@link TitleIndexImpl} that serves {@link #searchTitles}.
+ *
+ * <p>Usage example:
+ * {@code
+ * // SPRING_PROFILES_ACTIVE=in-memory
+ * ProductRepository repository = new InMemoryProductRepositoryImpl();
+ * ProductResponseImpl saved = repository.save(product);
+ * List<ProductResponseImpl> matches = repository.findAllByTitle("Phone", 20);
+ * }
+ */
+@Repository("productRepository")
+@Profile("in-memory")
+public class InMemoryProductRepositoryImpl implements InMemoryProductRepository {
+
+    private final ConcurrentMap<String, NavigableMap<Long, ProductResponseImpl>> productsByTitle = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+    private final AtomicInteger size = new AtomicInteger();
+    private final CatalogStatisticsImpl statistics = new CatalogStatisticsImpl();
+    private final TitleIndexImpl titleIndex;
+
+    public InMemoryProductRepositoryImpl() {
+        this(new TitleIndexImpl());
+    }
+
+    @Autowired
+    public InMemoryProductRepositoryImpl(TitleIndexImpl titleIndex) {
+        this.titleIndex = titleIndex;
+    }
+
+    @Override
+    public ProductResponseImpl save(ProductResponseImpl product) {
+        if (product == null) {
+            throw new IllegalArgumentException("Product must not be null");
+        }
+        checkConstraints(product);
+
+        ProductResponseImpl row = copyOf(product);
+        row.id = ids.incrementAndGet();
+        productsByTitle.computeIfAbsent(row.title, title -> new ConcurrentSkipListMap<>()).put(row.id, row);
+        size.incrementAndGet();
+        statistics.record(row);
+        titleIndex.add(row.title, 1);
+
+        product.id = row.id;
+        return product;
+    }
+
+    @Override
+    public List<ProductResponseImpl> saveAll(List<ProductResponseImpl> products) {
+        if (products == null) {
+            throw new IllegalArgumentException("Products must not be null");
+        }
+
+        for (ProductResponseImpl product : products) {
+            save(product);
+        }
+        return products;
+    }
+
+    @Override
+    public long copyIn(Iterator<ProductResponseImpl> products) {
+        if (products == null) {
+            throw new IllegalArgumentException("Products must not be null");
+        }
+
+        long copied = 0;
+        while (products.hasNext()) {
+            save(products.next());
+            copied++;
+        }
+        return copied;
+    }
+
+    @Override
+    public ProductResponseImpl findByTitle(String title) {
+        List<ProductResponseImpl> matches = findAllByTitle(title, 1);
+        if (matches.isEmpty()) {
+            throw new EmptyResultDataAccessException(1);
+        }
+        return matches.get(0);
+    }
+
+    @Override
+    public List<ProductResponseImpl> findAllByTitle(String title, int limit) {
+        if (title == null || title.isEmpty()) {
+            throw new IllegalArgumentException("Title must not be null or empty");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+
+        NavigableMap<Long, ProductResponseImpl> byId = productsByTitle.get(title);
+        if (byId == null) {
+            return List.of();
+        }
+        List<ProductResponseImpl> result = new ArrayList<>(Math.min(limit, 16));
+        for (ProductResponseImpl product : byId.values()) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(copyOf(product));
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, List<ProductResponseImpl>> findByTitles(Collection<String> titles, int limit) {
+        if (titles == null) {
+            throw new IllegalArgumentException("Titles must not be null");
+        }
+
+        Map<String, List<ProductResponseImpl>> found = new HashMap<>();
+        for (String title : titles) {
+            List<ProductResponseImpl> matches = findAllByTitle(title, limit);
+            if (!matches.isEmpty()) {
+                found.put(title, matches);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public ProductStatisticsImpl statistics() {
+        return statistics.snapshot();
+    }
+
+    @Override
+    public void reloadStatistics() {
+        // The maps are the only copy of the catalog, so the statistics already cover every write.
+    }
+
+    @Override
+    public void reloadTitles() {
+        // Same as the statistics: the title index already covers every write.
+    }
+
+    @Override
+    public long exportAll(Consumer<ProductResponseImpl> sink) {
+        if (sink == null) {
+            throw new IllegalArgumentException("Sink must not be null");
+        }
+
+        long exported = 0;
+        for (NavigableMap<Long, ProductResponseImpl> byId : productsByTitle.values()) {
+            for (ProductResponseImpl product : byId.values()) {
+                sink.accept(copyOf(product));
+                exported++;
+            }
+        }
+        return exported;
+    }
+
+    @Override
+    public List<TitleMatchImpl> searchTitles(String query, int limit, boolean fuzzy) {
+        return titleIndex.search(query, limit, fuzzy);
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public void clear() {
+        productsByTitle.clear();
+        size.set(0);
+        statistics.clear();
+        titleIndex.clear();
+    }
+
+    private void checkConstraints(ProductResponseImpl product) {
+        if (product.title == null || product.category == null) {
+            throw new DataIntegrityViolationException("null value in a not-null column of relation \"products\"");
+        }
+        if (product.title.length() > 255 || product.category.length() > 50) {
+            throw new DataIntegrityViolationException("value too long for type character varying");
+        }
+    }
+
+    private ProductResponseImpl copyOf(ProductResponseImpl product) {
+        return ProductResponseImpl.builder()
+                .id(product.id)
+                .title(product.title)
+                .description(product.description)
+                .price(product.price)
+                .quantity(product.quantity)
+                .totalValue(product.totalValue)
+                .category(product.category)
+                .available(product.available)
+                .build();
+    }
+}
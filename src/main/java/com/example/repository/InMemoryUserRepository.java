@@ -0,0 +1,18 @@
+package com.example.repository;
+
+/**
+ * {@link UserRepository} kept entirely in memory, used when the {@code in-memory} profile is active.
+ *
+ * <p>Usage example:
+ * {@code
+ * InMemoryUserRepository repository = new InMemoryUserRepositoryImpl();
+ * UserResponseImpl saved = repository.save(user);
+ * int count = repository.size();
+ * }
+ */
+public interface InMemoryUserRepository extends UserRepository {
+
+    int size();
+
+    void clear();
+}
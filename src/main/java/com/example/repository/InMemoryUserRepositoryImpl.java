@@ -0,0 +1,157 @@
+package com.example.repository;
+
+import com.example.dto.UserResponseImpl;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * In-memory implementation of {@link UserRepository} for profiling the web and service layers without PostgreSQL.
+ * Users are indexed by email in a {@link ConcurrentHashMap}; a save is an atomic per-email upsert that keeps the
+ * existing id and overwrites the other columns, exactly like the {@code ON CONFLICT (email) DO UPDATE} statement of
+ * {@link UserRepositoryImpl}. Ids come from an {@link AtomicLong}. The {@code users} table constraints are checked
+ * so rejected rows surface as {@link DataIntegrityViolationException}, and a missing user as
+ * {@link EmptyResultDataAccessException}, like the JDBC implementation. {@link #exportAll} visits users in no
+ * particular order.
+ *
+ * <p>Usage example:
+ * {@code
+ * // SPRING_PROFILES_ACTIVE=in-memory
+ * UserRepository repository = new InMemoryUserRepositoryImpl();
+ * UserResponseImpl saved = repository.save(user);
+ * UserResponseImpl loaded = repository.findByEmail("user@example.com");
+ * }
+ */
+@Repository("userRepository")
+@Profile("in-memory")
+public class InMemoryUserRepositoryImpl implements InMemoryUserRepository {
+
+    private final ConcurrentMap<String, UserResponseImpl> usersByEmail = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    @Override
+    public UserResponseImpl save(UserResponseImpl user) {
+        if (user == null) {
+            throw new IllegalArgumentException("User must not be null");
+        }
+        if (user.createdAt == null) {
+            user.createdAt = LocalDateTime.now();
+        }
+        checkConstraints(user);
+
+        UserResponseImpl stored = usersByEmail.compute(user.email, (email, existing) -> {
+            UserResponseImpl row = copyOf(user);
+            row.id = existing != null ? existing.id : ids.incrementAndGet();
+            return row;
+        });
+
+        user.id = stored.id;
+        return user;
+    }
+
+    @Override
+    public List<UserResponseImpl> saveAll(List<UserResponseImpl> users) {
+        if (users == null) {
+            throw new IllegalArgumentException("Users must not be null");
+        }
+
+        for (UserResponseImpl user : users) {
+            save(user);
+        }
+        return users;
+    }
+
+    @Override
+    public UserResponseImpl findByEmail(String email) {
+        if (email == null || email.isEmpty()) {
+            throw new IllegalArgumentException("Email must not be null or empty");
+        }
+
+        UserResponseImpl user = usersByEmail.get(email);
+        if (user == null) {
+            throw new EmptyResultDataAccessException(1);
+        }
+        return copyOf(user);
+    }
+
+    @Override
+    public Map<String, UserResponseImpl> findByEmails(Collection<String> emails) {
+        if (emails == null) {
+            throw new IllegalArgumentException("Emails must not be null");
+        }
+
+        Map<String, UserResponseImpl> found = new HashMap<>();
+        for (String email : emails) {
+            if (email == null || email.isEmpty()) {
+                throw new IllegalArgumentException("Email must not be null or empty");
+            }
+            UserResponseImpl user = usersByEmail.get(email);
+            if (user != null) {
+                found.put(email, copyOf(user));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public long exportAll(Consumer<UserResponseImpl> sink) {
+        if (sink == null) {
+            throw new IllegalArgumentException("Sink must not be null");
+        }
+
+        long exported = 0;
+        for (UserResponseImpl user : usersByEmail.values()) {
+            sink.accept(copyOf(user));
+            exported++;
+        }
+        return exported;
+    }
+
+    @Override
+    public int size() {
+        return usersByEmail.size();
+    }
+
+    @Override
+    public void clear() {
+        usersByEmail.clear();
+    }
+
+    private void checkConstraints(UserResponseImpl user) {
+        checkColumn("name", user.name, 255);
+        checkColumn("email", user.email, 255);
+        checkColumn("status", user.status, 50);
+    }
+
+    private void checkColumn(String column, String value, int maxLength) {
+        if (value == null) {
+            throw new DataIntegrityViolationException("null value in column \"" + column + "\" of relation \"users\"");
+        }
+        if (value.length() > maxLength) {
+            throw new DataIntegrityViolationException(
+                    "value too long for type character varying(" + maxLength + ") in column \"" + column + "\"");
+        }
+    }
+
+    private UserResponseImpl copyOf(UserResponseImpl user) {
+        return UserResponseImpl.builder()
+                .id(user.id)
+                .name(user.name)
+                .email(user.email)
+                .age(user.age)
+                .status(user.status)
+                .createdAt(user.createdAt)
+                .build();
+    }
+}
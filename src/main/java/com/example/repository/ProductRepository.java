@@ -1,19 +1,65 @@
 package com.example.repository;
 
 import com.example.dto.ProductResponseImpl;
+import com.example.dto.ProductStatisticsImpl;
+import com.example.dto.TitleMatchImpl;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Repository contract for persisting products.
+ * {@link ProductRepositoryImpl} persists to PostgreSQL through JdbcTemplate, {@link InMemoryProductRepositoryImpl}
+ * replaces it when the {@code in-memory} profile is active.
+ * {@link #findByTitles} returns, for every title that exists, the same products as {@link #findAllByTitle} with the
+ * same limit, keyed by title.
+ * {@link #statistics} returns catalog-wide and per-category aggregates that the repository maintains on every write,
+ * without scanning the stored products; {@link #reloadStatistics} rebuilds them from the stored products, which also
+ * picks up rows written by other instances.
+ * {@link #exportAll} hands every stored product to a sink one at a time, without loading them all into memory.
+ * {@link #searchTitles} answers prefix and, optionally, typo-tolerant title searches from the in-memory
+ * {@link TitleIndexImpl}, which the repository keeps in step with its writes; {@link #reloadTitles} rebuilds it from
+ * the stored products, like {@link #reloadStatistics}.
  *
  * <p>Usage example:
  * {@code
  * ProductResponseImpl saved = productRepository.save(product);
+ * List<ProductResponseImpl> savedBatch = productRepository.saveAll(products);
+ * long copied = productRepository.copyIn(products.iterator());
  * ProductResponseImpl loaded = productRepository.findByTitle("Phone");
+ * List<ProductResponseImpl> matches = productRepository.findAllByTitle("Phone", 20);
+ * Map<String, List<ProductResponseImpl>> found = productRepository.findByTitles(List.of("Phone", "Laptop"), 20);
+ * ProductStatisticsImpl statistics = productRepository.statistics();
+ * productRepository.reloadStatistics();
+ * productRepository.reloadTitles();
+ * long exported = productRepository.exportAll(product -> write(product));
+ * List<TitleMatchImpl> suggestions = productRepository.searchTitles("pho", 10, true);
  * }
  */
 public interface ProductRepository {
 
     ProductResponseImpl save(ProductResponseImpl product);
 
+    List<ProductResponseImpl> saveAll(List<ProductResponseImpl> products);
+
+    long copyIn(Iterator<ProductResponseImpl> products);
+
     ProductResponseImpl findByTitle(String title);
+
+    List<ProductResponseImpl> findAllByTitle(String title, int limit);
+
+    Map<String, List<ProductResponseImpl>> findByTitles(Collection<String> titles, int limit);
+
+    ProductStatisticsImpl statistics();
+
+    void reloadStatistics();
+
+    void reloadTitles();
+
+    long exportAll(Consumer<ProductResponseImpl> sink);
+
+    List<TitleMatchImpl> searchTitles(String query, int limit, boolean fuzzy);
 }
@@ -1,86 +1,488 @@
 package com.example.repository;
 
 import com.example.dto.ProductResponseImpl;
+import com.example.dto.ProductResponseImplJdbc;
+import com.example.dto.ProductStatisticsImpl;
+import com.example.dto.TitleMatchImpl;
+import com.example.io.CsvCodecImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * JDBC-based implementation of {@link ProductRepository} using Spring {@link JdbcTemplate}.
+ * Rows are mapped and bound by the generated {@code ProductResponseImplJdbc}, so the column lists of the queries
+ * below follow the field order of {@link ProductResponseImpl}; money is stored as {@code BIGINT} minor units.
+ * Statistics and title search are served from memory, and read-only queries run on a replica when one is configured.
  *
  * <p>Usage example:
  * {@code
- * ProductRepository repository = new ProductRepositoryImpl(jdbcTemplate);
+ * ProductRepository repository = new ProductRepositoryImpl(jdbcTemplate, idAllocator, meterRegistry, titleIndex);
  * ProductResponseImpl saved = repository.save(product);
+ * List<ProductResponseImpl> savedBatch = repository.saveAll(products);
+ * long copied = repository.copyIn(products.iterator());
  * ProductResponseImpl loaded = repository.findByTitle("Phone");
+ * List<ProductResponseImpl> matches = repository.findAllByTitle("Phone", 20);
+ * Map<String, List<ProductResponseImpl>> found = repository.findByTitles(List.of("Phone", "Laptop"), 20);
+ * ProductStatisticsImpl statistics = repository.statistics();
+ * repository.reloadStatistics();
+ * repository.reloadTitles();
+ * long exported = repository.exportAll(product -> write(product));
+ * List<TitleMatchImpl> suggestions = repository.searchTitles("pho", 10, true);
  * }
  */
-@Repository
+@Repository("productRepository")
+@Profile("!in-memory")
 public class ProductRepositoryImpl implements ProductRepository {
 
+    public static final String ID_SEQUENCE = "products_id_block_seq";
+
+    public static final int MAX_KEYS_PER_QUERY = 1000;
+
+    private static final String COPY_SQL = """
+            COPY products (id, title, description, price, quantity, total_value, category, available)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    static final String INSERT_SQL = """
+            INSERT INTO products (id, title, description, price, quantity, total_value, category, available)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    static final String FIND_ALL_BY_TITLE_SQL = """
+            SELECT id, title, description, price, quantity, total_value, category, available
+            FROM products
+            WHERE title = ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    static final String FIND_BY_TITLES_SQL = """
+            SELECT matches.*
+            FROM unnest(?::varchar[]) AS wanted(title)
+            CROSS JOIN LATERAL (
+                SELECT id, title, description, price, quantity, total_value, category, available
+                FROM products
+                WHERE products.title = wanted.title
+                ORDER BY id
+                LIMIT ?
+            ) AS matches
+            """;
+
+    static final String EXPORT_SQL = """
+            SELECT id, title, description, price, quantity, total_value, category, available
+            FROM products
+            ORDER BY id
+            """;
+
+    static final String TITLES_SQL = """
+            SELECT title, COUNT(*) AS product_count
+            FROM products
+            GROUP BY title
+            """;
+
+    static final String STATISTICS_SQL = """
+            SELECT category,
+                   COUNT(*) AS product_count,
+                   COUNT(*) FILTER (WHERE available) AS available_count,
+                   SUM(total_value)::BIGINT AS total_value,
+                   SUM(price)::BIGINT AS price_sum,
+                   MIN(price) AS min_price,
+                   MAX(price) AS max_price
+            FROM products
+            GROUP BY category
+            """;
+
+    static final RowMapper<ProductResponseImpl> PRODUCT_ROW_MAPPER = ProductResponseImplJdbc.ROW_MAPPER;
+
     private final JdbcTemplate jdbcTemplate;
+    private final IdAllocatorImpl idAllocator;
+    private final CursorReaderImpl cursorReader;
+    private final TitleIndexImpl titleIndex;
+    private final ReadRoutingImpl readRouting;
+    private final SingleFlightImpl<List<Object>> titleLookups = new SingleFlightImpl<>("products.by-title");
+    private volatile CatalogStatisticsImpl statistics;
+    private final CsvCodecImpl csvCodec = new CsvCodecImpl();
 
     public ProductRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, new IdAllocatorImpl(jdbcTemplate));
+    }
+
+    public ProductRepositoryImpl(JdbcTemplate jdbcTemplate, IdAllocatorImpl idAllocator) {
+        this(jdbcTemplate, idAllocator, new SimpleMeterRegistry());
+    }
+
+    public ProductRepositoryImpl(JdbcTemplate jdbcTemplate, IdAllocatorImpl idAllocator, MeterRegistry meterRegistry) {
+        this(jdbcTemplate, idAllocator, meterRegistry, new TitleIndexImpl());
+    }
+
+    public ProductRepositoryImpl(
+            JdbcTemplate jdbcTemplate,
+            IdAllocatorImpl idAllocator,
+            MeterRegistry meterRegistry,
+            TitleIndexImpl titleIndex) {
+        this(jdbcTemplate, idAllocator, meterRegistry, titleIndex, new ReadRoutingImpl());
+    }
+
+    @Autowired
+    public ProductRepositoryImpl(
+            JdbcTemplate jdbcTemplate,
+            IdAllocatorImpl idAllocator,
+            MeterRegistry meterRegistry,
+            TitleIndexImpl titleIndex,
+            ReadRoutingImpl readRouting) {
         this.jdbcTemplate = jdbcTemplate;
+        this.idAllocator = idAllocator;
+        this.cursorReader = new CursorReaderImpl(jdbcTemplate);
+        this.titleIndex = titleIndex;
+        this.readRouting = readRouting;
+        titleLookups.bindTo(meterRegistry);
+        this.statistics = loadStatistics();
+        loadTitles(titleIndex);
     }
 
+    /**
+     * Inserts one product under an id taken from a block of {@link #ID_SEQUENCE} reserved by
+     * {@link IdAllocatorImpl}, then records it in the statistics and title index and forgets the in-flight title
+     * lookups it may have changed.
+     */
     @Override
     public ProductResponseImpl save(ProductResponseImpl product) {
         if (product == null) {
             throw new IllegalArgumentException("Product must not be null");
         }
 
-        String sql = """
-                INSERT INTO products (title, description, price, quantity, total_value, category, available)
-                VALUES (?, ?, ?, ?, ?, ?, ?)
-                RETURNING id
-                """;
-
-        BigDecimal price = BigDecimal.valueOf(product.price);
-        BigDecimal totalValue = BigDecimal.valueOf(product.totalValue);
-
-        Long generatedId = jdbcTemplate.queryForObject(
-                sql,
-                Long.class,
-                product.title,
-                product.description,
-                price,
-                product.quantity,
-                totalValue,
-                product.category,
-                product.available
-        );
+        long id = idAllocator.nextId(ID_SEQUENCE);
+
+        jdbcTemplate.update(INSERT_SQL, ps -> {
+            ps.setLong(1, id);
+            ProductResponseImplJdbc.bind(ps, 2, product);
+        });
 
-        product.id = generatedId;
+        product.id = id;
+        statistics.record(product);
+        titleIndex.add(product.title, 1);
+        forgetTitle(product.title);
         return product;
     }
 
+    /**
+     * Inserts the products as one JDBC batch. Ids are assigned before writing, so no generated key is read back.
+     */
+    @Override
+    public List<ProductResponseImpl> saveAll(List<ProductResponseImpl> products) {
+        if (products == null) {
+            throw new IllegalArgumentException("Products must not be null");
+        }
+        for (ProductResponseImpl product : products) {
+            if (product == null) {
+                throw new IllegalArgumentException("Product must not be null");
+            }
+        }
+        if (products.isEmpty()) {
+            return products;
+        }
+
+        long[] ids = new long[products.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = idAllocator.nextId(ID_SEQUENCE);
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, ids[i]);
+                ProductResponseImplJdbc.bind(ps, 2, products.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return products.size();
+            }
+        });
+
+        for (int i = 0; i < ids.length; i++) {
+            products.get(i).id = ids[i];
+            statistics.record(products.get(i));
+            titleIndex.add(products.get(i).title, 1);
+            forgetTitle(products.get(i).title);
+        }
+        return products;
+    }
+
+    /**
+     * Streams the products into the table with the PostgreSQL {@code COPY} protocol, flushing a bounded text buffer
+     * so memory use does not depend on the number of rows. Statistics and titles are merged only after the whole
+     * {@code COPY} has succeeded.
+     */
+    @Override
+    public long copyIn(Iterator<ProductResponseImpl> products) {
+        if (products == null) {
+            throw new IllegalArgumentException("Products must not be null");
+        }
+
+        CatalogStatisticsImpl copiedStatistics = new CatalogStatisticsImpl();
+        TitleIndexImpl copiedTitles = new TitleIndexImpl();
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection ->
+                copyProducts(connection, products, copiedStatistics, copiedTitles));
+        // COPY is all-or-nothing, so the copied rows only count once the whole copy has succeeded.
+        statistics.merge(copiedStatistics);
+        titleIndex.merge(copiedTitles);
+        // The copied titles are not kept, so every in-flight title lookup may be stale now.
+        titleLookups.forgetIf(key -> true);
+        return copied != null ? copied : 0L;
+    }
+
+    private long copyProducts(
+            Connection connection,
+            Iterator<ProductResponseImpl> products,
+            CatalogStatisticsImpl copiedStatistics,
+            TitleIndexImpl copiedTitles) throws SQLException {
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+        try {
+            StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 1024);
+            while (products.hasNext()) {
+                ProductResponseImpl product = products.next();
+                appendCopyRow(buffer, product);
+                copiedStatistics.record(product);
+                copiedTitles.add(product.title, 1);
+                if (buffer.length() >= COPY_BUFFER_SIZE) {
+                    flushCopyBuffer(copyIn, buffer);
+                }
+            }
+            flushCopyBuffer(copyIn, buffer);
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private void appendCopyRow(StringBuilder buffer, ProductResponseImpl product) {
+        product.id = idAllocator.nextId(ID_SEQUENCE);
+        buffer.append(product.id).append(',');
+        csvCodec.appendField(buffer, product.title);
+        buffer.append(',');
+        csvCodec.appendField(buffer, product.description);
+        buffer.append(',').append(product.price);
+        buffer.append(',').append(product.quantity);
+        buffer.append(',').append(product.totalValue);
+        buffer.append(',');
+        csvCodec.appendField(buffer, product.category);
+        buffer.append(',').append(product.available);
+        buffer.append('\n');
+    }
+
+    private void flushCopyBuffer(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
     @Override
     public ProductResponseImpl findByTitle(String title) {
         if (title == null || title.isEmpty()) {
             throw new IllegalArgumentException("Title must not be null or empty");
         }
 
-        String sql = """
-                SELECT id, title, description, price, quantity, total_value, category, available
-                FROM products
-                WHERE title = ?
-                """;
-
-        return jdbcTemplate.queryForObject(
-                sql,
-                (rs, rowNum) -> ProductResponseImpl.builder()
-                        .id(rs.getLong("id"))
-                        .title(rs.getString("title"))
-                        .description(rs.getString("description"))
-                        .price(rs.getBigDecimal("price").doubleValue())
-                        .quantity(rs.getInt("quantity"))
-                        .totalValue(rs.getBigDecimal("total_value").doubleValue())
-                        .category(rs.getString("category"))
-                        .available(rs.getBoolean("available"))
-                        .build(),
-                title
+        List<ProductResponseImpl> products = findAllByTitle(title, 1);
+        if (products.isEmpty()) {
+            throw new EmptyResultDataAccessException(1);
+        }
+        return products.get(0);
+    }
+
+    /**
+     * Reads the first {@code limit} products with the title in id order from {@code idx_products_title_id}, on a
+     * replica. Concurrent lookups with the same title and limit share one query through {@link SingleFlightImpl};
+     * a request pinned to the primary after a write queries on its own, so it sees its writes.
+     */
+    @Override
+    public List<ProductResponseImpl> findAllByTitle(String title, int limit) {
+        if (title == null || title.isEmpty()) {
+            throw new IllegalArgumentException("Title must not be null or empty");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+
+        if (readRouting.pinnedToPrimary()) {
+            // Joining a lookup that another request runs on a replica could miss this request's own writes.
+            return jdbcTemplate.query(FIND_ALL_BY_TITLE_SQL, PRODUCT_ROW_MAPPER, title, limit);
+        }
+        return titleLookups.execute(
+                List.of(title, limit),
+                () -> readRouting.onReplica(
+                        () -> jdbcTemplate.query(FIND_ALL_BY_TITLE_SQL, PRODUCT_ROW_MAPPER, title, limit)),
+                ProductRepositoryImpl::copyOf
         );
     }
+
+    /**
+     * Resolves up to {@link #MAX_KEYS_PER_QUERY} distinct titles per query: a lateral join over the title array reads
+     * the first {@code limit} ids of each title from {@code idx_products_title_id}, exactly like
+     * {@link #findAllByTitle}.
+     */
+    @Override
+    public Map<String, List<ProductResponseImpl>> findByTitles(Collection<String> titles, int limit) {
+        if (titles == null) {
+            throw new IllegalArgumentException("Titles must not be null");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        for (String title : titles) {
+            if (title == null || title.isEmpty()) {
+                throw new IllegalArgumentException("Title must not be null or empty");
+            }
+        }
+
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(titles));
+        return readRouting.onReplica(() -> {
+            Map<String, List<ProductResponseImpl>> found = new HashMap<>();
+            for (int from = 0; from < distinct.size(); from += MAX_KEYS_PER_QUERY) {
+                Object[] chunk = distinct.subList(from, Math.min(from + MAX_KEYS_PER_QUERY, distinct.size())).toArray();
+                List<ProductResponseImpl> products = jdbcTemplate.query(
+                        FIND_BY_TITLES_SQL,
+                        ps -> {
+                            ps.setArray(1, ps.getConnection().createArrayOf("varchar", chunk));
+                            ps.setInt(2, limit);
+                        },
+                        PRODUCT_ROW_MAPPER
+                );
+                for (ProductResponseImpl product : products) {
+                    found.computeIfAbsent(product.title, title -> new ArrayList<>()).add(product);
+                }
+            }
+            return found;
+        });
+    }
+
+    /**
+     * Returns the figures of the {@link CatalogStatisticsImpl} that was aggregated from the table when the repository
+     * was created and has been updated by every successful write since, so no table scan happens here.
+     */
+    @Override
+    public ProductStatisticsImpl statistics() {
+        return statistics.snapshot();
+    }
+
+    /**
+     * Aggregates the table again on a replica and swaps the result in; run periodically by
+     * {@link CatalogReloaderImpl} so that writes of other instances are included after at most one interval. Writes
+     * in flight during a reload, or not yet replayed on the replica, may be counted twice or not at all until the
+     * next one.
+     */
+    @Override
+    public void reloadStatistics() {
+        statistics = readRouting.onReplica(this::loadStatistics);
+    }
+
+    /**
+     * Reads the whole table in id order through a server-side cursor of {@link CursorReaderImpl}, on a replica.
+     */
+    @Override
+    public long exportAll(Consumer<ProductResponseImpl> sink) {
+        if (sink == null) {
+            throw new IllegalArgumentException("Sink must not be null");
+        }
+
+        return readRouting.onReplica(() -> cursorReader.forEach(EXPORT_SQL, PRODUCT_ROW_MAPPER, sink));
+    }
+
+    /**
+     * Searches the in-memory {@link TitleIndexImpl}, which is loaded when the repository is created and updated by
+     * every successful write, so no query reaches the table.
+     */
+    @Override
+    public List<TitleMatchImpl> searchTitles(String query, int limit, boolean fuzzy) {
+        return titleIndex.search(query, limit, fuzzy);
+    }
+
+    /**
+     * Loads the distinct titles again on a replica into a separate index and replaces the counts of the live one,
+     * so titles written by other instances become searchable after at most one reload interval.
+     */
+    @Override
+    public void reloadTitles() {
+        TitleIndexImpl loaded = new TitleIndexImpl();
+        readRouting.onReplica(() -> {
+            loadTitles(loaded);
+            return loaded;
+        });
+        titleIndex.replaceWith(loaded);
+    }
+
+    private void loadTitles(TitleIndexImpl target) {
+        cursorReader.forEach(
+                TITLES_SQL,
+                (rs, rowNum) -> Map.entry(rs.getString("title"), rs.getLong("product_count")),
+                title -> target.add(title.getKey(), title.getValue())
+        );
+    }
+
+    private CatalogStatisticsImpl loadStatistics() {
+        CatalogStatisticsImpl loaded = new CatalogStatisticsImpl();
+        jdbcTemplate.query(STATISTICS_SQL, rs -> {
+            loaded.add(
+                    rs.getString("category"),
+                    rs.getLong("product_count"),
+                    rs.getLong("available_count"),
+                    rs.getLong("total_value"),
+                    rs.getLong("price_sum"),
+                    rs.getLong("min_price"),
+                    rs.getLong("max_price")
+            );
+        });
+        return loaded;
+    }
+
+    private void forgetTitle(String title) {
+        titleLookups.forgetIf(key -> key.get(0).equals(title));
+    }
+
+    private static List<ProductResponseImpl> copyOf(List<ProductResponseImpl> products) {
+        List<ProductResponseImpl> copies = new ArrayList<>(products.size());
+        for (ProductResponseImpl product : products) {
+            copies.add(ProductResponseImpl.builder()
+                    .id(product.id)
+                    .title(product.title)
+                    .description(product.description)
+                    .price(product.price)
+                    .quantity(product.quantity)
+                    .totalValue(product.totalValue)
+                    .category(product.category)
+                    .available(product.available)
+                    .build());
+        }
+        return copies;
+    }
 }
@@ -0,0 +1,17 @@
+package com.example.repository;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link IdAllocator}: hands out primary keys from the same sequence blocks, reserving
+ * a new block without holding a thread while the database answers.
+ *
+ * <p>Usage example:
+ * {@code
+ * Mono<Long> id = reactiveIdAllocator.nextId(ProductRepositoryImpl.ID_SEQUENCE);
+ * }
+ */
+public interface ReactiveIdAllocator {
+
+    Mono<Long> nextId(String sequence);
+}
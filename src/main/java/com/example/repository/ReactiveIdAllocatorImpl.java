@@ -0,0 +1,103 @@
+package com.example.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * R2DBC implementation of {@link ReactiveIdAllocator} over the pooled hi/lo sequences also used by
+ * {@link IdAllocatorImpl}, so ids handed out by both allocators never collide.
+ * Ids of the current block are handed out with a single atomic increment. Callers that find the block exhausted
+ * share the one reservation started for that block instead of taking a monitor: an event-loop thread must never
+ * wait.
+ *
+ * <p>Usage example:
+ * {@code
+ * ReactiveIdAllocator allocator = new ReactiveIdAllocatorImpl(databaseClient);
+ * allocator.nextId("users_id_block_seq").subscribe(id -> insert(id));
+ * }
+ */
+@Component
+@Profile("reactive")
+public class ReactiveIdAllocatorImpl implements ReactiveIdAllocator {
+
+    private static final String RESERVE_BLOCK_SQL = """
+            SELECT nextval(CAST($1 AS regclass)) AS block_end,
+                   (SELECT increment_by
+                    FROM pg_sequences
+                    WHERE schemaname = current_schema() AND sequencename = $1) AS block_size
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    private final Map<String, AtomicReference<Block>> blocks = new ConcurrentHashMap<>();
+
+    public ReactiveIdAllocatorImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Long> nextId(String sequence) {
+        if (sequence == null || sequence.isEmpty()) {
+            return Mono.error(new IllegalArgumentException("Sequence must not be null or empty"));
+        }
+
+        AtomicReference<Block> current = blocks.computeIfAbsent(
+                sequence,
+                name -> new AtomicReference<>(new Block(1, 0))
+        );
+        return Mono.defer(() -> {
+            Block block = current.get();
+            long id = block.next.getAndIncrement();
+            if (id <= block.last) {
+                return Mono.just(id);
+            }
+            return refill(sequence, current, block).then(Mono.defer(() -> nextId(sequence)));
+        });
+    }
+
+    private Mono<Block> refill(String sequence, AtomicReference<Block> current, Block exhausted) {
+        // The reservation belongs to the exhausted block, so a caller arriving after it completed finds the new
+        // block installed instead of a stale reservation. A failed reservation is not cached and is retried.
+        Mono<Block> reservation = exhausted.refill.get();
+        if (reservation == null) {
+            Mono<Block> created = reserveBlock(sequence)
+                    .doOnNext(block -> current.compareAndSet(exhausted, block))
+                    .cache(block -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO, () -> Duration.ZERO);
+            reservation = exhausted.refill.compareAndSet(null, created) ? created : exhausted.refill.get();
+        }
+        return reservation;
+    }
+
+    private Mono<Block> reserveBlock(String sequence) {
+        return databaseClient.sql(RESERVE_BLOCK_SQL)
+                .bind(0, sequence)
+                .map(row -> {
+                    Long blockSize = row.get("block_size", Long.class);
+                    if (blockSize == null || blockSize < 1) {
+                        throw new IllegalStateException("Sequence " + sequence + " must be ascending to reserve id blocks");
+                    }
+                    long blockEnd = row.get("block_end", Long.class);
+                    return new Block(blockEnd - blockSize + 1, blockEnd);
+                })
+                .one();
+    }
+
+    private static final class Block {
+        final AtomicLong next;
+        final long last;
+        final AtomicReference<Mono<Block>> refill = new AtomicReference<>();
+
+        Block(long first, long last) {
+            this.next = new AtomicLong(first);
+            this.last = last;
+        }
+    }
+}
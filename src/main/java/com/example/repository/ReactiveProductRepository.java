@@ -0,0 +1,24 @@
+package com.example.repository;
+
+import com.example.dto.ProductResponseImpl;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking repository contract for products, used by the WebFlux controllers of the {@code reactive} profile.
+ * {@link #findAllByTitle} follows {@link ProductRepository#findAllByTitle}: at most {@code limit} products with
+ * exactly this title in id order, and an empty list when there are none.
+ *
+ * <p>Usage example:
+ * {@code
+ * Mono<ProductResponseImpl> saved = reactiveProductRepository.save(product);
+ * Mono<List<ProductResponseImpl>> matches = reactiveProductRepository.findAllByTitle("Phone", 20);
+ * }
+ */
+public interface ReactiveProductRepository {
+
+    Mono<ProductResponseImpl> save(ProductResponseImpl product);
+
+    Mono<List<ProductResponseImpl>> findAllByTitle(String title, int limit);
+}
@@ -0,0 +1,106 @@
+package com.example.repository;
+
+import com.example.dto.ProductResponseImpl;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * R2DBC implementation of {@link ReactiveProductRepository} using Spring {@link DatabaseClient}.
+ * Statements match {@link ProductRepositoryImpl}, and ids come from the same {@link ProductRepositoryImpl#ID_SEQUENCE}
+ * blocks, reserved by {@link ReactiveIdAllocatorImpl}. Title lookups use the {@code idx_products_title_id} index.
+ * Writes made here are not seen by the catalog statistics and title index of the blocking repository.
+ *
+ * <p>Usage example:
+ * {@code
+ * ReactiveProductRepository repository = new ReactiveProductRepositoryImpl(databaseClient, reactiveIdAllocator);
+ * repository.findAllByTitle("Phone", 10).subscribe(products -> log(products.size()));
+ * }
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveProductRepositoryImpl implements ReactiveProductRepository {
+
+    static final String INSERT_SQL = """
+            INSERT INTO products (id, title, description, price, quantity, total_value, category, available)
+            VALUES ($1, $2, $3, $4, $5, $6, $7, $8)
+            """;
+
+    static final String FIND_ALL_BY_TITLE_SQL = """
+            SELECT id, title, description, price, quantity, total_value, category, available
+            FROM products
+            WHERE title = $1
+            ORDER BY id
+            LIMIT $2
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final ReactiveIdAllocatorImpl idAllocator;
+
+    public ReactiveProductRepositoryImpl(DatabaseClient databaseClient, ReactiveIdAllocatorImpl idAllocator) {
+        this.databaseClient = databaseClient;
+        this.idAllocator = idAllocator;
+    }
+
+    @Override
+    public Mono<ProductResponseImpl> save(ProductResponseImpl product) {
+        if (product == null) {
+            return Mono.error(new IllegalArgumentException("Product must not be null"));
+        }
+
+        return idAllocator.nextId(ProductRepositoryImpl.ID_SEQUENCE)
+                .flatMap(id -> {
+                    DatabaseClient.GenericExecuteSpec insert = databaseClient.sql(INSERT_SQL).bind(0, id);
+                    insert = ReactiveUserRepositoryImpl.bind(insert, 1, product.title, String.class);
+                    insert = ReactiveUserRepositoryImpl.bind(insert, 2, product.description, String.class);
+                    insert = insert.bind(3, product.price);
+                    insert = insert.bind(4, product.quantity);
+                    insert = insert.bind(5, product.totalValue);
+                    insert = ReactiveUserRepositoryImpl.bind(insert, 6, product.category, String.class);
+                    insert = insert.bind(7, product.available);
+                    return insert.fetch().rowsUpdated().thenReturn(id);
+                })
+                .map(id -> {
+                    product.id = id;
+                    return product;
+                });
+    }
+
+    @Override
+    public Mono<List<ProductResponseImpl>> findAllByTitle(String title, int limit) {
+        if (title == null || title.isEmpty()) {
+            return Mono.error(new IllegalArgumentException("Title must not be null or empty"));
+        }
+        if (limit < 1) {
+            return Mono.error(new IllegalArgumentException("Limit must be positive"));
+        }
+
+        return databaseClient.sql(FIND_ALL_BY_TITLE_SQL)
+                .bind(0, title)
+                .bind(1, limit)
+                .map(ReactiveProductRepositoryImpl::mapProduct)
+                .all()
+                .collectList();
+    }
+
+    static ProductResponseImpl mapProduct(Readable row) {
+        Long price = row.get("price", Long.class);
+        Integer quantity = row.get("quantity", Integer.class);
+        Long totalValue = row.get("total_value", Long.class);
+        Boolean available = row.get("available", Boolean.class);
+        return ProductResponseImpl.builder()
+                .id(row.get("id", Long.class))
+                .title(row.get("title", String.class))
+                .description(row.get("description", String.class))
+                .price(price != null ? price : 0)
+                .quantity(quantity != null ? quantity : 0)
+                .totalValue(totalValue != null ? totalValue : 0)
+                .category(row.get("category", String.class))
+                .available(available != null && available)
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.repository;
+
+import com.example.dto.UserResponseImpl;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking repository contract for users, used by the WebFlux controllers of the {@code reactive} profile.
+ * It follows {@link UserRepository}: saving a user whose email already exists updates that user and keeps its id.
+ * {@link #findByEmail} completes empty when no user has the email.
+ *
+ * <p>Usage example:
+ * {@code
+ * Mono<UserResponseImpl> saved = reactiveUserRepository.save(user);
+ * Mono<UserResponseImpl> loaded = reactiveUserRepository.findByEmail("user@example.com");
+ * }
+ */
+public interface ReactiveUserRepository {
+
+    Mono<UserResponseImpl> save(UserResponseImpl user);
+
+    Mono<UserResponseImpl> findByEmail(String email);
+}
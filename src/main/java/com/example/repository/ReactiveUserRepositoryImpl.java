@@ -0,0 +1,110 @@
+package com.example.repository;
+
+import com.example.dto.UserResponseImpl;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC implementation of {@link ReactiveUserRepository} using Spring {@link DatabaseClient}.
+ * Statements match {@link UserRepositoryImpl}: the same upsert on the email constraint and ids from the same
+ * {@link UserRepositoryImpl#ID_SEQUENCE} blocks, reserved by {@link ReactiveIdAllocatorImpl}. Lookups read the table
+ * directly; the user cache of the blocking repository is not consulted.
+ *
+ * <p>Usage example:
+ * {@code
+ * ReactiveUserRepository repository = new ReactiveUserRepositoryImpl(databaseClient, reactiveIdAllocator);
+ * repository.save(user).subscribe(saved -> log(saved.id));
+ * }
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveUserRepositoryImpl implements ReactiveUserRepository {
+
+    static final String UPSERT_SQL = """
+            INSERT INTO users (id, name, email, age, status, created_at)
+            VALUES ($1, $2, $3, $4, $5, $6)
+            ON CONFLICT (email) DO UPDATE
+            SET name = EXCLUDED.name,
+                age = EXCLUDED.age,
+                status = EXCLUDED.status,
+                created_at = EXCLUDED.created_at
+            RETURNING id
+            """;
+
+    static final String FIND_BY_EMAIL_SQL = """
+            SELECT id, name, email, age, status, created_at
+            FROM users
+            WHERE email = $1
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final ReactiveIdAllocatorImpl idAllocator;
+
+    public ReactiveUserRepositoryImpl(DatabaseClient databaseClient, ReactiveIdAllocatorImpl idAllocator) {
+        this.databaseClient = databaseClient;
+        this.idAllocator = idAllocator;
+    }
+
+    @Override
+    public Mono<UserResponseImpl> save(UserResponseImpl user) {
+        if (user == null) {
+            return Mono.error(new IllegalArgumentException("User must not be null"));
+        }
+        if (user.createdAt == null) {
+            user.createdAt = LocalDateTime.now();
+        }
+
+        return idAllocator.nextId(UserRepositoryImpl.ID_SEQUENCE)
+                .flatMap(id -> {
+                    DatabaseClient.GenericExecuteSpec upsert = databaseClient.sql(UPSERT_SQL).bind(0, id);
+                    upsert = bind(upsert, 1, user.name, String.class);
+                    upsert = bind(upsert, 2, user.email, String.class);
+                    upsert = upsert.bind(3, user.age);
+                    upsert = bind(upsert, 4, user.status, String.class);
+                    upsert = upsert.bind(5, user.createdAt);
+                    return upsert.map(row -> row.get("id", Long.class)).one();
+                })
+                .map(id -> {
+                    user.id = id;
+                    return user;
+                });
+    }
+
+    @Override
+    public Mono<UserResponseImpl> findByEmail(String email) {
+        if (email == null || email.isEmpty()) {
+            return Mono.error(new IllegalArgumentException("Email must not be null or empty"));
+        }
+
+        return databaseClient.sql(FIND_BY_EMAIL_SQL)
+                .bind(0, email)
+                .map(ReactiveUserRepositoryImpl::mapUser)
+                .one();
+    }
+
+    /**
+     * Binds {@code value}, or a typed SQL {@code NULL} when it is missing, so constraint violations surface from
+     * the database exactly as they do for the JDBC repositories.
+     */
+    static <T> DatabaseClient.GenericExecuteSpec bind(
+            DatabaseClient.GenericExecuteSpec spec, int index, T value, Class<T> type) {
+        return value != null ? spec.bind(index, value) : spec.bindNull(index, type);
+    }
+
+    static UserResponseImpl mapUser(Readable row) {
+        Integer age = row.get("age", Integer.class);
+        return UserResponseImpl.builder()
+                .id(row.get("id", Long.class))
+                .name(row.get("name", String.class))
+                .email(row.get("email", String.class))
+                .age(age != null ? age : 0)
+                .status(row.get("status", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.repository;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread routing context that tells a replica-routing {@link javax.sql.DataSource} which connections may be
+ * served by a read replica.
+ *
+ * <p>Usage example:
+ * {@code
+ * List<ProductResponseImpl> products = readRouting.onReplica(() -> jdbcTemplate.query(sql, mapper, title));
+ * readRouting.pinToPrimary(); // e.g. for the rest of a request that follows a write
+ * }
+ */
+public interface ReadRouting {
+
+    <T> T onReplica(Supplier<T> read);
+
+    boolean replicaAllowed();
+
+    boolean pinnedToPrimary();
+
+    void pinToPrimary();
+
+    void unpin();
+}
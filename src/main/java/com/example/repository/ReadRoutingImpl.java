@@ -0,0 +1,65 @@
+package com.example.repository;
+
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Thread-local implementation of {@link ReadRouting}.
+ * Repositories wrap their read-only queries in {@link #onReplica}; every other connection, including all writes and
+ * the startup loads, is taken from the primary. A thread pinned with {@link #pinToPrimary} reads from the primary
+ * even inside {@link #onReplica}, which is how a request that has just written reads its own writes. Without
+ * replica routing configured the context is still maintained but has no effect.
+ *
+ * <p>Usage example:
+ * {@code
+ * ReadRoutingImpl readRouting = new ReadRoutingImpl();
+ * readRouting.onReplica(() -> readRouting.replicaAllowed()); // true
+ * readRouting.pinToPrimary();
+ * readRouting.onReplica(() -> readRouting.replicaAllowed()); // false
+ * readRouting.unpin();
+ * }
+ */
+@Component
+public class ReadRoutingImpl implements ReadRouting {
+
+    private final ThreadLocal<Boolean> replicaScope = new ThreadLocal<>();
+    private final ThreadLocal<Boolean> pinned = new ThreadLocal<>();
+
+    @Override
+    public <T> T onReplica(Supplier<T> read) {
+        if (read == null) {
+            throw new IllegalArgumentException("Read must not be null");
+        }
+        if (replicaScope.get() != null) {
+            return read.get();
+        }
+
+        replicaScope.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            replicaScope.remove();
+        }
+    }
+
+    @Override
+    public boolean replicaAllowed() {
+        return replicaScope.get() != null && pinned.get() == null;
+    }
+
+    @Override
+    public boolean pinnedToPrimary() {
+        return pinned.get() != null;
+    }
+
+    @Override
+    public void pinToPrimary() {
+        pinned.set(Boolean.TRUE);
+    }
+
+    @Override
+    public void unpin() {
+        pinned.remove();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.repository;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Coalesces concurrent lookups of the same key into one execution whose result, or exception, is shared.
+ *
+ * <p>Usage example:
+ * {@code
+ * UserResponseImpl user = emailLookups.execute(email, () -> loadByEmail(email), UserCacheImpl::copyOf);
+ * emailLookups.forget(email);
+ * }
+ */
+public interface SingleFlight<K> extends MeterBinder {
+
+    <T> T execute(K key, Supplier<T> loader, UnaryOperator<T> copier);
+
+    void forget(K key);
+
+    void forgetIf(Predicate<? super K> keys);
+
+    long executedCount();
+
+    long coalescedCount();
+
+    int inFlightCount();
+}
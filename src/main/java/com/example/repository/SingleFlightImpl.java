@@ -0,0 +1,135 @@
+package com.example.repository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link SingleFlight} backed by a map of in-flight {@link CompletableFuture}s.
+ * The first caller of a key runs the loader on its own thread; callers arriving while it runs wait for the same
+ * future and receive {@code copier}'s copy of the result, so no two callers share a mutable DTO; a failure is
+ * rethrown to every caller of the execution. The entry is removed before the future completes, so a caller that arrives afterwards
+ * starts a fresh execution instead of reading a finished one. Writers call {@link #forget} once their change is
+ * visible, which sends later callers to a new execution even while an older one is still running.
+ * Metrics (tag {@code lookup}): {@code app.lookup.executions}, {@code app.lookup.coalesced},
+ * {@code app.lookup.in.flight}.
+ *
+ * <p>Usage example:
+ * {@code
+ * SingleFlightImpl<String> lookups = new SingleFlightImpl<>("users.by-email");
+ * lookups.bindTo(meterRegistry);
+ * UserResponseImpl user = lookups.execute(email, () -> loadByEmail(email), UserCacheImpl::copyOf);
+ * }
+ */
+public class SingleFlightImpl<K> implements SingleFlight<K> {
+
+    private final String name;
+    private final Map<K, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public SingleFlightImpl(String name) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Name must not be null or empty");
+        }
+        this.name = name;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T execute(K key, Supplier<T> loader, UnaryOperator<T> copier) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key must not be null");
+        }
+        if (loader == null || copier == null) {
+            throw new IllegalArgumentException("Loader and copier must not be null");
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            T shared = (T) await(existing);
+            return shared != null ? copier.apply(shared) : null;
+        }
+
+        executed.increment();
+        T value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        inFlight.remove(key, flight);
+        flight.complete(value);
+        return value;
+    }
+
+    private Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void forget(K key) {
+        if (key != null) {
+            inFlight.remove(key);
+        }
+    }
+
+    @Override
+    public void forgetIf(Predicate<? super K> keys) {
+        inFlight.keySet().removeIf(keys);
+    }
+
+    @Override
+    public long executedCount() {
+        return executed.sum();
+    }
+
+    @Override
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    @Override
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("app.lookup.executions", this, SingleFlightImpl::executedCount)
+                .description("Lookups that ran their query")
+                .tag("lookup", name)
+                .register(registry);
+        FunctionCounter.builder("app.lookup.coalesced", this, SingleFlightImpl::coalescedCount)
+                .description("Lookups that shared the result of an identical in-flight query")
+                .tag("lookup", name)
+                .register(registry);
+        Gauge.builder("app.lookup.in.flight", this, SingleFlightImpl::inFlightCount)
+                .description("Keys with a query currently in flight")
+                .tag("lookup", name)
+                .register(registry);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.repository;
+
+import com.example.dto.TitleMatchImpl;
+
+import java.util.List;
+
+/**
+ * In-memory search index over product titles for prefix (autocomplete) and typo-tolerant lookups.
+ *
+ * <p>Usage example:
+ * {@code
+ * titleIndex.add("Phone", 1);
+ * List<TitleMatchImpl> matches = titleIndex.search("pho", 10, true);
+ * titleIndex.replaceWith(reloaded);
+ * }
+ */
+public interface TitleIndex {
+
+    void add(String title, long products);
+
+    void merge(TitleIndexImpl other);
+
+    void replaceWith(TitleIndexImpl loaded);
+
+    void clear();
+
+    int size();
+
+    List<TitleMatchImpl> search(String query, int limit, boolean fuzzy);
+}
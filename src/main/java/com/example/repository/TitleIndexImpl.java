@@ -0,0 +1,326 @@
+package com.example.repository;
+
+import com.example.dto.TitleMatch;
+import com.example.dto.TitleMatchImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrent implementation of {@link TitleIndex}.
+ * Titles are normalized (lower case, single spaces) and kept once each in a {@link ConcurrentSkipListMap}, so a
+ * prefix search is one {@code O(log n)} seek followed by reading the next {@code limit} keys in order: an exact match
+ * comes first, then the longer completions alphabetically. Writers insert without locking the readers out.
+ * With {@code app.products.search.fuzzy.enabled=true} every title is also posted under its {@code pg_trgm}-style
+ * trigrams. When the prefix matches do not fill the limit, titles sharing trigrams with the query are ranked by
+ * trigram similarity ({@code shared / (query + title - shared)}) and kept at or above
+ * {@code app.products.search.similarity-threshold}. Candidates are collected from the rarest trigrams first and
+ * capped at {@link #MAX_FUZZY_CANDIDATES}, so a query costs the same however many titles share a common trigram.
+ * The trigram postings cost roughly 1-2 KB of heap per distinct title, which is why they are opt-in.
+ * {@link #replaceWith} brings the index in line with a freshly loaded one in place: counts are overwritten, new titles
+ * are added and titles missing from the loaded index are dropped, while searches keep running. A write that lands
+ * between loading and replacing may be missed or counted twice until the next replacement.
+ *
+ * <p>Usage example:
+ * {@code
+ * TitleIndex index = new TitleIndexImpl(true, 0.3);
+ * index.add("Smartphone X", 2);
+ * List<TitleMatchImpl> prefix = index.search("smart", 10, false);
+ * List<TitleMatchImpl> typo = index.search("smartfone", 10, true);
+ * index.replaceWith(loadedFromTheTable);
+ * }
+ */
+@Component
+public class TitleIndexImpl implements TitleIndex {
+
+    public static final double DEFAULT_SIMILARITY_THRESHOLD = 0.3;
+
+    static final int MAX_FUZZY_CANDIDATES = 256;
+
+    private static final long[] NO_TRIGRAMS = new long[0];
+
+    private final ConcurrentSkipListMap<String, TitleEntry> titles = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<Long, Set<TitleEntry>> postings = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final boolean fuzzyEnabled;
+    private final double similarityThreshold;
+
+    public TitleIndexImpl() {
+        this(false, DEFAULT_SIMILARITY_THRESHOLD);
+    }
+
+    @Autowired
+    public TitleIndexImpl(
+            @Value("${app.products.search.fuzzy.enabled:false}") boolean fuzzyEnabled,
+            @Value("${app.products.search.similarity-threshold:0.3}") double similarityThreshold) {
+        if (similarityThreshold <= 0 || similarityThreshold > 1) {
+            throw new IllegalArgumentException("Similarity threshold must be in (0, 1]");
+        }
+        this.fuzzyEnabled = fuzzyEnabled;
+        this.similarityThreshold = similarityThreshold;
+    }
+
+    @Override
+    public void add(String title, long products) {
+        if (title == null || products < 1) {
+            return;
+        }
+        String key = normalize(title);
+        if (key.isEmpty()) {
+            return;
+        }
+
+        entryOf(key, title).products.addAndGet(products);
+    }
+
+    @Override
+    public void merge(TitleIndexImpl other) {
+        for (TitleEntry entry : other.titles.values()) {
+            add(entry.title, entry.products.get());
+        }
+    }
+
+    @Override
+    public void replaceWith(TitleIndexImpl loaded) {
+        for (TitleEntry entry : loaded.titles.values()) {
+            entryOf(entry.key, entry.title).products.set(entry.products.get());
+        }
+        for (TitleEntry entry : titles.values()) {
+            if (!loaded.titles.containsKey(entry.key) && titles.remove(entry.key, entry)) {
+                size.decrementAndGet();
+                for (long trigram : entry.trigrams) {
+                    postings.computeIfPresent(trigram, (code, posting) -> {
+                        posting.remove(entry);
+                        return posting.isEmpty() ? null : posting;
+                    });
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        titles.clear();
+        postings.clear();
+        size.set(0);
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public List<TitleMatchImpl> search(String query, int limit, boolean fuzzy) {
+        if (query == null) {
+            throw new IllegalArgumentException("Query must not be null");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        String key = normalize(query);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        List<TitleMatchImpl> matches = new ArrayList<>(Math.min(limit, 16));
+        for (Map.Entry<String, TitleEntry> candidate : titles.tailMap(key).entrySet()) {
+            if (matches.size() == limit || !candidate.getKey().startsWith(key)) {
+                break;
+            }
+            double coverage = (double) key.length() / candidate.getKey().length();
+            matches.add(matchOf(candidate.getValue(), coverage, TitleMatch.MATCH_PREFIX));
+        }
+        if (fuzzy && fuzzyEnabled && matches.size() < limit) {
+            addFuzzyMatches(key, limit, matches);
+        }
+        return matches;
+    }
+
+    private void addFuzzyMatches(String key, int limit, List<TitleMatchImpl> matches) {
+        long[] queryTrigrams = trigramsOf(key);
+        List<Set<TitleEntry>> queryPostings = new ArrayList<>(queryTrigrams.length);
+        for (long trigram : queryTrigrams) {
+            Set<TitleEntry> posting = postings.get(trigram);
+            if (posting != null) {
+                queryPostings.add(posting);
+            }
+        }
+        queryPostings.sort(Comparator.comparingInt(Set::size));
+
+        // Postings hold the entries themselves, so scoring a candidate needs no lookup in the skip list.
+        Set<TitleEntry> candidates = new HashSet<>();
+        collect:
+        for (Set<TitleEntry> posting : queryPostings) {
+            for (TitleEntry candidate : posting) {
+                if (candidates.size() == MAX_FUZZY_CANDIDATES) {
+                    break collect;
+                }
+                candidates.add(candidate);
+            }
+        }
+
+        List<ScoredEntry> similar = new ArrayList<>();
+        for (TitleEntry candidate : candidates) {
+            // Prefix matches are already listed, since the prefix scan did not reach the limit.
+            if (candidate.key.startsWith(key)) {
+                continue;
+            }
+            int shared = sharedCount(queryTrigrams, candidate.trigrams);
+            double similarity = (double) shared / (queryTrigrams.length + candidate.trigrams.length - shared);
+            if (similarity >= similarityThreshold) {
+                similar.add(new ScoredEntry(candidate, similarity));
+            }
+        }
+        similar.sort(Comparator.comparingDouble((ScoredEntry scored) -> scored.similarity).reversed()
+                .thenComparing(scored -> scored.entry.key));
+
+        for (ScoredEntry scored : similar) {
+            if (matches.size() == limit) {
+                break;
+            }
+            matches.add(matchOf(scored.entry, scored.similarity, TitleMatch.MATCH_FUZZY));
+        }
+    }
+
+    private TitleEntry entryOf(String key, String title) {
+        TitleEntry entry = titles.get(key);
+        if (entry == null) {
+            long[] trigrams = fuzzyEnabled ? trigramsOf(key) : NO_TRIGRAMS;
+            TitleEntry created = new TitleEntry(key, title, trigrams);
+            entry = titles.putIfAbsent(key, created);
+            if (entry == null) {
+                entry = created;
+                size.incrementAndGet();
+                for (long trigram : trigrams) {
+                    postings.computeIfAbsent(trigram, code -> ConcurrentHashMap.newKeySet()).add(created);
+                }
+            }
+        }
+        return entry;
+    }
+
+    static String normalize(String title) {
+        StringBuilder key = new StringBuilder(title.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < title.length(); i++) {
+            char c = title.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = !key.isEmpty();
+                continue;
+            }
+            if (pendingSpace) {
+                key.append(' ');
+                pendingSpace = false;
+            }
+            key.append(Character.toLowerCase(c));
+        }
+        // Reuse the title itself when it is already normalized, so the index keeps one copy of the text.
+        return title.contentEquals(key) ? title : key.toString();
+    }
+
+    /**
+     * Distinct trigrams of every alphanumeric word padded with two leading blanks and one trailing blank, as
+     * {@code pg_trgm} builds them, each encoded as three 16-bit chars in a {@code long}.
+     */
+    static long[] trigramsOf(String key) {
+        long[] trigrams = new long[2 * key.length() + 1];
+        int count = 0;
+        int i = 0;
+        while (i < key.length()) {
+            while (i < key.length() && !Character.isLetterOrDigit(key.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < key.length() && Character.isLetterOrDigit(key.charAt(i))) {
+                i++;
+            }
+            if (start == i) {
+                break;
+            }
+            char first = ' ';
+            char second = ' ';
+            for (int j = start; j <= i; j++) {
+                char third = j < i ? key.charAt(j) : ' ';
+                trigrams[count++] = ((long) first << 32) | ((long) second << 16) | third;
+                first = second;
+                second = third;
+            }
+        }
+
+        Arrays.sort(trigrams, 0, count);
+        int distinct = 0;
+        for (int j = 0; j < count; j++) {
+            if (distinct == 0 || trigrams[distinct - 1] != trigrams[j]) {
+                trigrams[distinct++] = trigrams[j];
+            }
+        }
+        return Arrays.copyOf(trigrams, distinct);
+    }
+
+    /**
+     * Number of trigrams two sorted distinct arrays have in common, by a single merge pass.
+     */
+    static int sharedCount(long[] left, long[] right) {
+        int shared = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                shared++;
+                i++;
+                j++;
+            }
+        }
+        return shared;
+    }
+
+    private static TitleMatchImpl matchOf(TitleEntry entry, double score, String match) {
+        return TitleMatchImpl.builder()
+                .title(entry.title)
+                .products(entry.products.get())
+                .score(score)
+                .match(match)
+                .build();
+    }
+
+    private static final class ScoredEntry {
+        final TitleEntry entry;
+        final double similarity;
+
+        ScoredEntry(TitleEntry entry, double similarity) {
+            this.entry = entry;
+            this.similarity = similarity;
+        }
+    }
+
+    private static final class TitleEntry {
+        final String key;
+        final String title;
+        final long[] trigrams;
+        final AtomicLong products = new AtomicLong();
+
+        TitleEntry(String key, String title, long[] trigrams) {
+            this.key = key;
+            this.title = title;
+            this.trigrams = trigrams;
+        }
+    }
+}
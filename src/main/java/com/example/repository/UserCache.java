@@ -0,0 +1,25 @@
+package com.example.repository;
+
+import com.example.dto.UserResponseImpl;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of users keyed by email.
+ *
+ * <p>Usage example:
+ * {@code
+ * UserResponseImpl user = userCache.get("alice@example.com", this::loadByEmail);
+ * userCache.invalidate("alice@example.com");
+ * Map<String, Object> stats = userCache.stats();
+ * }
+ */
+public interface UserCache {
+
+    UserResponseImpl get(String email, Function<String, UserResponseImpl> loader);
+
+    void invalidate(String email);
+
+    Map<String, Object> stats();
+}
@@ -0,0 +1,100 @@
+package com.example.repository;
+
+import com.example.dto.UserResponseImpl;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Caffeine-based implementation of {@link UserCache}.
+ * Eviction uses Caffeine's frequency-aware W-TinyLFU policy bounded by {@code app.users.cache.maximum-size};
+ * entries expire {@code app.users.cache.ttl} after they were loaded. Loads go through Caffeine's per-key atomic
+ * compute, so an {@link #invalidate} issued after a write waits for an in-flight load of the same key and then
+ * removes it, which keeps a stale row from being cached after an upsert. Callers always receive a copy,
+ * so mutating a returned user never changes the cached entry.
+ *
+ * <p>Usage example:
+ * {@code
+ * UserCache cache = new UserCacheImpl(10_000, Duration.ofMinutes(5));
+ * UserResponseImpl user = cache.get("alice@example.com", email -> repository.loadByEmail(email));
+ * }
+ */
+@Component
+public class UserCacheImpl implements UserCache {
+
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+
+    private final Cache<String, UserResponseImpl> cache;
+
+    public UserCacheImpl() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TTL);
+    }
+
+    @Autowired
+    public UserCacheImpl(
+            @Value("${app.users.cache.maximum-size:10000}") long maximumSize,
+            @Value("${app.users.cache.ttl:PT5M}") Duration ttl) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Cache maximum size must not be negative");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache TTL must be positive");
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public UserResponseImpl get(String email, Function<String, UserResponseImpl> loader) {
+        return copyOf(cache.get(email, loader));
+    }
+
+    @Override
+    public void invalidate(String email) {
+        if (email != null) {
+            cache.invalidate(email);
+        }
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("evictions", stats.evictionCount());
+        result.put("hit_rate", stats.hitRate());
+        return result;
+    }
+
+    Cache<String, UserResponseImpl> nativeCache() {
+        return cache;
+    }
+
+    static UserResponseImpl copyOf(UserResponseImpl user) {
+        if (user == null) {
+            return null;
+        }
+        return UserResponseImpl.builder()
+                .id(user.id)
+                .name(user.name)
+                .email(user.email)
+                .age(user.age)
+                .status(user.status)
+                .createdAt(user.createdAt)
+                .build();
+    }
+}
@@ -2,19 +2,37 @@ package com.example.repository;
 
 import com.example.dto.UserResponseImpl;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
 /**
  * Repository contract for persisting users.
- * Implementations must use JDBC-based access (JdbcTemplate) and public-field DTOs.
+ * Implementations work with public-field DTOs: {@link UserRepositoryImpl} persists to PostgreSQL through
+ * JdbcTemplate, {@link InMemoryUserRepositoryImpl} replaces it when the {@code in-memory} profile is active.
+ * Saving a user whose email already exists updates that user and keeps its id.
+ * {@link #findByEmails} returns only the users that exist, keyed by email.
+ * {@link #exportAll} hands every stored user to a sink one at a time, without loading them all into memory.
  *
  * <p>Usage example:
  * {@code
  * UserResponseImpl saved = userRepository.save(user);
+ * List<UserResponseImpl> savedBatch = userRepository.saveAll(users);
  * UserResponseImpl loaded = userRepository.findByEmail(\"user@example.com\");
+ * Map<String, UserResponseImpl> found = userRepository.findByEmails(List.of(\"a@example.com\", \"b@example.com\"));
+ * long exported = userRepository.exportAll(user -> write(user));
  * }
  */
 public interface UserRepository {
 
     UserResponseImpl save(UserResponseImpl user);
 
+    List<UserResponseImpl> saveAll(List<UserResponseImpl> users);
+
     UserResponseImpl findByEmail(String email);
+
+    Map<String, UserResponseImpl> findByEmails(Collection<String> emails);
+
+    long exportAll(Consumer<UserResponseImpl> sink);
 }
@@ -1,29 +1,117 @@
 package com.example.repository;
 
 import com.example.dto.UserResponseImpl;
+import com.example.dto.UserResponseImplJdbc;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
-import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * JDBC-based implementation of {@link UserRepository} using Spring {@link JdbcTemplate}.
+ * Batch saves are written as multi-row upserts of at most {@link #MAX_BATCH_SIZE} rows per statement.
+ * Rows are mapped and upserts are bound by {@code UserResponseImplJdbc}, which the {@code @JdbcRow} annotation
+ * processor generates from {@link UserResponseImpl}, so column lists follow the DTO's field order.
+ * Lookups by email are served through {@link UserCacheImpl}; every save invalidates the saved emails after the
+ * upsert has been executed, so the upsert path never leaves a stale cached user behind.
+ * New rows take their id from blocks of {@link #ID_SEQUENCE} reserved by {@link IdAllocatorImpl}; the upsert still
+ * returns the id because a conflicting email keeps the id of the row that already exists.
+ * Concurrent lookups of the same email share one cache load, including a miss, through {@link SingleFlightImpl};
+ * saves forget the in-flight lookups of their emails together with the cache entries.
+ * {@link #findByEmails} reads the table directly with one {@code email = ANY(?)} query per
+ * {@link #MAX_KEYS_PER_QUERY} distinct emails, served by the {@code uq_users_email} index.
+ * {@link #exportAll} reads the table in id order through a server-side cursor of {@link CursorReaderImpl}.
+ * Both run inside {@link ReadRoutingImpl#onReplica}, so they are served by a read replica when replica routing is
+ * enabled. {@link #findByEmail} stays on the primary: its misses fill the shared cache, and a user read from a
+ * lagging replica would stay cached long after the replica caught up.
  *
  * <p>Usage example:
  * {@code
- * UserRepository repository = new UserRepositoryImpl(jdbcTemplate);
+ * UserRepository repository = new UserRepositoryImpl(jdbcTemplate, userCache, idAllocator, meterRegistry);
  * UserResponseImpl saved = repository.save(user);
+ * List<UserResponseImpl> savedBatch = repository.saveAll(users);
  * UserResponseImpl loaded = repository.findByEmail(\"user@example.com\");
+ * Map<String, UserResponseImpl> found = repository.findByEmails(emails);
+ * long exported = repository.exportAll(user -> write(user));
  * }
  */
-@Repository
+@Repository("userRepository")
+@Profile("!in-memory")
 public class UserRepositoryImpl implements UserRepository {
 
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    public static final String ID_SEQUENCE = "users_id_block_seq";
+
+    public static final int MAX_KEYS_PER_QUERY = 1000;
+
+    static final String FIND_BY_EMAILS_SQL = """
+            SELECT id, name, email, age, status, created_at
+            FROM users
+            WHERE email = ANY(?)
+            """;
+
+    static final String EXPORT_SQL = """
+            SELECT id, name, email, age, status, created_at
+            FROM users
+            ORDER BY id
+            """;
+
+    static final RowMapper<UserResponseImpl> USER_ROW_MAPPER = UserResponseImplJdbc.ROW_MAPPER;
+
     private final JdbcTemplate jdbcTemplate;
+    private final UserCacheImpl userCache;
+    private final IdAllocatorImpl idAllocator;
+    private final CursorReaderImpl cursorReader;
+    private final ReadRoutingImpl readRouting;
+    private final SingleFlightImpl<String> emailLookups = new SingleFlightImpl<>("users.by-email");
 
     public UserRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, new UserCacheImpl());
+    }
+
+    public UserRepositoryImpl(JdbcTemplate jdbcTemplate, UserCacheImpl userCache) {
+        this(jdbcTemplate, userCache, new IdAllocatorImpl(jdbcTemplate));
+    }
+
+    public UserRepositoryImpl(JdbcTemplate jdbcTemplate, UserCacheImpl userCache, IdAllocatorImpl idAllocator) {
+        this(jdbcTemplate, userCache, idAllocator, new SimpleMeterRegistry());
+    }
+
+    public UserRepositoryImpl(
+            JdbcTemplate jdbcTemplate,
+            UserCacheImpl userCache,
+            IdAllocatorImpl idAllocator,
+            MeterRegistry meterRegistry) {
+        this(jdbcTemplate, userCache, idAllocator, meterRegistry, new ReadRoutingImpl());
+    }
+
+    @Autowired
+    public UserRepositoryImpl(
+            JdbcTemplate jdbcTemplate,
+            UserCacheImpl userCache,
+            IdAllocatorImpl idAllocator,
+            MeterRegistry meterRegistry,
+            ReadRoutingImpl readRouting) {
         this.jdbcTemplate = jdbcTemplate;
+        this.userCache = userCache;
+        this.idAllocator = idAllocator;
+        this.readRouting = readRouting;
+        this.cursorReader = new CursorReaderImpl(jdbcTemplate);
+        emailLookups.bindTo(meterRegistry);
     }
 
     @Override
@@ -36,8 +124,8 @@ public class UserRepositoryImpl implements UserRepository {
         }
 
         String sql = """
-                INSERT INTO users (name, email, age, status, created_at)
-                VALUES (?, ?, ?, ?, ?)
+                INSERT INTO users (id, name, email, age, status, created_at)
+                VALUES (?, ?, ?, ?, ?, ?)
                 ON CONFLICT (email) DO UPDATE
                 SET name = EXCLUDED.name,
                     age = EXCLUDED.age,
@@ -46,43 +134,149 @@ public class UserRepositoryImpl implements UserRepository {
                 RETURNING id
                 """;
 
-        Long generatedId = jdbcTemplate.queryForObject(
+        long id = idAllocator.nextId(ID_SEQUENCE);
+        Long generatedId = jdbcTemplate.query(
                 sql,
-                Long.class,
-                user.name,
-                user.email,
-                user.age,
-                user.status,
-                Timestamp.valueOf(user.createdAt)
+                ps -> {
+                    ps.setLong(1, id);
+                    UserResponseImplJdbc.bind(ps, 2, user);
+                },
+                rs -> rs.next() ? rs.getLong(1) : null
         );
 
         user.id = generatedId;
+        userCache.invalidate(user.email);
+        emailLookups.forget(user.email);
         return user;
     }
 
+    @Override
+    public List<UserResponseImpl> saveAll(List<UserResponseImpl> users) {
+        if (users == null) {
+            throw new IllegalArgumentException("Users must not be null");
+        }
+
+        for (int from = 0; from < users.size(); from += MAX_BATCH_SIZE) {
+            saveChunk(users.subList(from, Math.min(from + MAX_BATCH_SIZE, users.size())));
+        }
+        return users;
+    }
+
+    private void saveChunk(List<UserResponseImpl> chunk) {
+        // PostgreSQL rejects an upsert that touches the same row twice, so only the last
+        // occurrence of each email is written; earlier duplicates receive the same id.
+        Map<String, UserResponseImpl> latestByEmail = new LinkedHashMap<>();
+        for (UserResponseImpl user : chunk) {
+            if (user == null) {
+                throw new IllegalArgumentException("User must not be null");
+            }
+            if (user.createdAt == null) {
+                user.createdAt = LocalDateTime.now();
+            }
+            latestByEmail.put(user.email, user);
+        }
+        if (latestByEmail.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder("INSERT INTO users (id, name, email, age, status, created_at)\nVALUES ");
+        List<UserResponseImpl> rows = new ArrayList<>(latestByEmail.values());
+        long[] ids = new long[rows.size()];
+        for (int i = 0; i < ids.length; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(?, ?, ?, ?, ?, ?)");
+            ids[i] = idAllocator.nextId(ID_SEQUENCE);
+        }
+        sql.append("""
+
+                ON CONFLICT (email) DO UPDATE
+                SET name = EXCLUDED.name,
+                    age = EXCLUDED.age,
+                    status = EXCLUDED.status,
+                    created_at = EXCLUDED.created_at
+                RETURNING id, email
+                """);
+
+        Map<String, Long> idsByEmail = new HashMap<>();
+        jdbcTemplate.query(
+                sql.toString(),
+                ps -> {
+                    int index = 1;
+                    for (int i = 0; i < ids.length; i++) {
+                        ps.setLong(index, ids[i]);
+                        index = UserResponseImplJdbc.bind(ps, index + 1, rows.get(i));
+                    }
+                },
+                rs -> {
+                    idsByEmail.put(rs.getString("email"), rs.getLong("id"));
+                }
+        );
+
+        for (UserResponseImpl user : chunk) {
+            user.id = idsByEmail.get(user.email);
+        }
+        for (String email : idsByEmail.keySet()) {
+            userCache.invalidate(email);
+            emailLookups.forget(email);
+        }
+    }
+
     @Override
     public UserResponseImpl findByEmail(String email) {
         if (email == null || email.isEmpty()) {
             throw new IllegalArgumentException("Email must not be null or empty");
         }
 
+        return emailLookups.execute(email, () -> userCache.get(email, this::loadByEmail), UserCacheImpl::copyOf);
+    }
+
+    @Override
+    public Map<String, UserResponseImpl> findByEmails(Collection<String> emails) {
+        if (emails == null) {
+            throw new IllegalArgumentException("Emails must not be null");
+        }
+        for (String email : emails) {
+            if (email == null || email.isEmpty()) {
+                throw new IllegalArgumentException("Email must not be null or empty");
+            }
+        }
+
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(emails));
+        return readRouting.onReplica(() -> {
+            Map<String, UserResponseImpl> found = new HashMap<>();
+            for (int from = 0; from < distinct.size(); from += MAX_KEYS_PER_QUERY) {
+                Object[] chunk = distinct.subList(from, Math.min(from + MAX_KEYS_PER_QUERY, distinct.size())).toArray();
+                List<UserResponseImpl> users = jdbcTemplate.query(
+                        FIND_BY_EMAILS_SQL,
+                        ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", chunk)),
+                        USER_ROW_MAPPER
+                );
+                for (UserResponseImpl user : users) {
+                    found.put(user.email, user);
+                }
+            }
+            return found;
+        });
+    }
+
+    @Override
+    public long exportAll(Consumer<UserResponseImpl> sink) {
+        if (sink == null) {
+            throw new IllegalArgumentException("Sink must not be null");
+        }
+
+        return readRouting.onReplica(() -> cursorReader.forEach(EXPORT_SQL, USER_ROW_MAPPER, sink));
+    }
+
+    private UserResponseImpl loadByEmail(String email) {
         String sql = """
                 SELECT id, name, email, age, status, created_at
                 FROM users
                 WHERE email = ?
                 """;
 
-        return jdbcTemplate.queryForObject(
-                sql,
-                (rs, rowNum) -> UserResponseImpl.builder()
-                        .id(rs.getLong("id"))
-                        .name(rs.getString("name"))
-                        .email(rs.getString("email"))
-                        .age(rs.getInt("age"))
-                        .status(rs.getString("status"))
-                        .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
-                        .build(),
-                email
-        );
+        return jdbcTemplate.queryForObject(sql, USER_ROW_MAPPER, email);
     }
 }
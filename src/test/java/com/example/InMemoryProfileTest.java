@@ -0,0 +1,70 @@
+package com.example;
+
+import com.example.dto.UserBatchResponseImpl;
+import com.example.dto.UserRequestImpl;
+import com.example.register.UserRegisterImpl;
+import com.example.repository.InMemoryProductRepositoryImpl;
+import com.example.repository.InMemoryUserRepositoryImpl;
+import com.example.repository.ProductRepository;
+import com.example.repository.UserRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Starts the application with the {@code in-memory} profile and verifies it wires the in-memory repositories
+ * without any DataSource.
+ *
+ * <p>Usage example:
+ * {@code
+ * InMemoryProfileTest test = new InMemoryProfileTest();
+ * test.startContext();
+ * test.inMemoryProfileReplacesJdbcRepositories();
+ * }
+ */
+public class InMemoryProfileTest {
+
+    private ConfigurableApplicationContext context;
+
+    @BeforeClass
+    void startContext() {
+        context = new SpringApplicationBuilder(ApplicationImpl.class)
+                .profiles("in-memory")
+                .properties("server.port=0")
+                .run();
+    }
+
+    @AfterClass(alwaysRun = true)
+    void stopContext() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    void inMemoryProfileReplacesJdbcRepositories() {
+        assertTrue(context.getBean("userRepository", UserRepository.class) instanceof InMemoryUserRepositoryImpl);
+        assertTrue(context.getBean("productRepository", ProductRepository.class) instanceof InMemoryProductRepositoryImpl);
+        assertEquals(context.getBeanNamesForType(DataSource.class).length, 0);
+    }
+
+    @Test
+    void registerServiceUsesInMemoryRepository() {
+        UserRegisterImpl register = context.getBean(UserRegisterImpl.class);
+
+        UserBatchResponseImpl batch = register.registerUsers(List.of(
+                UserRequestImpl.builder().name("Mem").email("mem@example.com").age(20).build()
+        ));
+
+        assertEquals(batch.succeeded, 1);
+        assertEquals(context.getBean(UserRepository.class).findByEmail("mem@example.com").name, "MEM");
+    }
+}
@@ -0,0 +1,154 @@
+package com.example;
+
+import com.example.config.BinaryFormatsImpl;
+import com.example.controller.ReactiveUserController;
+import com.example.controller.UserController;
+import com.example.dto.ProductRequestImpl;
+import com.example.dto.ProductResponseImpl;
+import com.example.dto.UserRequestImpl;
+import com.example.dto.UserResponseImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Starts the application with the {@code reactive} profile against the local PostgreSQL database and verifies the
+ * WebFlux controllers keep the JSON contract of the servlet ones.
+ *
+ * <p>Usage example:
+ * {@code
+ * ReactiveProfileTest test = new ReactiveProfileTest();
+ * test.startContext();
+ * test.registerAndFindUserByEmail();
+ * }
+ */
+public class ReactiveProfileTest {
+
+    private static final String EMAIL = "reactive.profile@example.com";
+    private static final String CBOR_EMAIL = "reactive.cbor@example.com";
+    private static final String TITLE = "Reactive Profile Phone";
+
+    private final ObjectMapper jsonMapper = new ObjectMapper().findAndRegisterModules();
+    private final ObjectMapper smileMapper = new SmileMapper().findAndRegisterModules();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private ConfigurableApplicationContext context;
+    private String baseUrl;
+
+    @BeforeClass
+    void startContext() {
+        SchemaMigrationImpl.migrate();
+        context = new SpringApplicationBuilder(ApplicationImpl.class)
+                .profiles("reactive")
+                .properties("server.port=0")
+                .run();
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        deleteTestRows();
+    }
+
+    @AfterClass(alwaysRun = true)
+    void stopContext() {
+        if (context != null) {
+            deleteTestRows();
+            context.close();
+        }
+    }
+
+    private void deleteTestRows() {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("DELETE FROM users WHERE email IN (?, ?)", EMAIL, CBOR_EMAIL);
+        jdbcTemplate.update("DELETE FROM products WHERE title = ?", TITLE);
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private HttpRequest.Builder post(String path, Object body) throws IOException {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(jsonMapper.writeValueAsBytes(body)));
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void reactiveProfileReplacesServletControllers() {
+        assertTrue(context instanceof ReactiveWebServerApplicationContext);
+        assertEquals(context.getBeanNamesForType(ReactiveUserController.class).length, 1);
+        assertEquals(context.getBeanNamesForType(UserController.class).length, 0);
+    }
+
+    @Test
+    void registerAndFindUserByEmail() throws Exception {
+        UserRequestImpl request = UserRequestImpl.builder().name("Reactive").email(EMAIL).age(30).build();
+
+        HttpResponse<byte[]> registered = send(post("/api/users/register", request));
+        assertEquals(registered.statusCode(), 201);
+        UserResponseImpl user = jsonMapper.readValue(registered.body(), UserResponseImpl.class);
+        assertEquals(user.name, "REACTIVE");
+        assertEquals(user.status, "ACTIVE");
+
+        HttpResponse<byte[]> found = send(get("/api/users/by-email?email=" + encode(EMAIL)));
+        assertEquals(found.statusCode(), 200);
+        assertEquals(jsonMapper.readValue(found.body(), UserResponseImpl.class).id, user.id);
+
+        assertEquals(send(get("/api/users/by-email?email=" + encode("missing@example.com"))).statusCode(), 404);
+    }
+
+    @Test
+    void validationFailuresAreBadRequests() throws Exception {
+        UserRequestImpl request = UserRequestImpl.builder().name("").email("invalid").age(30).build();
+
+        assertEquals(send(post("/api/users/validate", request)).statusCode(), 400);
+    }
+
+    @Test
+    void createProductAndNegotiateSmileByTitle() throws Exception {
+        ProductRequestImpl request = ProductRequestImpl.builder().title(TITLE).price(1000).quantity(3).build();
+
+        HttpResponse<byte[]> created = send(post("/api/products/create", request));
+        assertEquals(created.statusCode(), 201);
+        assertEquals(jsonMapper.readValue(created.body(), ProductResponseImpl.class).totalValue, 3000L);
+
+        HttpResponse<byte[]> found = send(get("/api/products/by-title?title=" + encode(TITLE))
+                .header("Accept", BinaryFormatsImpl.APPLICATION_SMILE_VALUE));
+        assertEquals(found.statusCode(), 200);
+        ProductResponseImpl[] products = smileMapper.readValue(found.body(), ProductResponseImpl[].class);
+        assertEquals(products.length, 1);
+        assertEquals(products[0].title, TITLE);
+    }
+
+    @Test
+    void cborIsNotAcceptable() throws Exception {
+        UserRequestImpl request = UserRequestImpl.builder().name("Cbor").email(CBOR_EMAIL).age(30).build();
+
+        HttpResponse<byte[]> response = send(post("/api/users/process", request)
+                .header("Accept", BinaryFormatsImpl.APPLICATION_CBOR_VALUE));
+
+        assertEquals(response.statusCode(), 406);
+    }
+}
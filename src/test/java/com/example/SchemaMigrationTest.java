@@ -0,0 +1,59 @@
+package com.example;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Integration tests for {@link SchemaMigrationImpl} against the local PostgreSQL database.
+ *
+ * <p>Usage example:
+ * {@code
+ * SchemaMigrationTest test = new SchemaMigrationTest();
+ * test.setUp();
+ * test.migrateAppliesChangelogAndExitsCleanly();
+ * }
+ */
+public class SchemaMigrationTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeClass
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+        dataSource.setDriverClassName("org.postgresql.Driver");
+        dataSource.setUrl("jdbc:postgresql://127.0.0.1:5432/app_db?sslmode=disable");
+        dataSource.setUsername("app_user");
+        dataSource.setPassword("app_password");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    private int appliedChangeSets() {
+        Integer count = jdbcTemplate.queryForObject("SELECT count(*) FROM databasechangelog", Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    @Test
+    void migrateAppliesChangelogAndExitsCleanly() {
+        assertEquals(SchemaMigrationImpl.migrate(), 0);
+
+        assertTrue(appliedChangeSets() >= 3);
+        Integer locked = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM databasechangeloglock WHERE locked", Integer.class);
+        assertEquals(locked, Integer.valueOf(0));
+    }
+
+    @Test
+    void secondRunAppliesNothing() {
+        SchemaMigrationImpl.migrate();
+        int applied = appliedChangeSets();
+
+        assertEquals(SchemaMigrationImpl.migrate(), 0);
+
+        assertEquals(appliedChangeSets(), applied);
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link AdaptiveLimiterImpl}.
+ *
+ * <p>Usage example:
+ * {@code
+ * AdaptiveLimiterTest test = new AdaptiveLimiterTest();
+ * test.rejectsImmediatelyAtTheLimit();
+ * }
+ */
+public class AdaptiveLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /**
+     * Runs {@code calls} rounds in which the limiter is filled to its limit and every admitted call completes with
+     * the given latency.
+     */
+    private static void saturate(AdaptiveLimiterImpl limiter, int calls, long latency) {
+        for (int i = 0; i < calls; i++) {
+            int admitted = 0;
+            while (limiter.tryAcquire()) {
+                admitted++;
+            }
+            for (int j = 0; j < admitted; j++) {
+                limiter.release(latency, false);
+            }
+        }
+    }
+
+    @Test
+    void rejectsImmediatelyAtTheLimit() {
+        AdaptiveLimiterImpl limiter = new AdaptiveLimiterImpl("test", 2, 1, 10);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        assertEquals(limiter.inFlight(), 2);
+        assertEquals(limiter.rejectedCount(), 1);
+    }
+
+    @Test
+    void limitGrowsWhileLatencyStaysFlat() {
+        AdaptiveLimiterImpl limiter = new AdaptiveLimiterImpl("test", 10, 1, 100);
+
+        saturate(limiter, 20, FAST);
+
+        assertEquals(limiter.limit(), 100);
+        assertEquals(limiter.inFlight(), 0);
+    }
+
+    @Test
+    void limitShrinksWhenLatencyRises() {
+        AdaptiveLimiterImpl limiter = new AdaptiveLimiterImpl("test", 10, 1, 100);
+        saturate(limiter, 20, FAST);
+
+        saturate(limiter, 20, SLOW);
+
+        assertTrue(limiter.limit() < 20, "limit after slowdown: " + limiter.limit());
+    }
+
+    @Test
+    void limitRecoversAfterTheSlowdownEnds() {
+        AdaptiveLimiterImpl limiter = new AdaptiveLimiterImpl("test", 10, 1, 100);
+        saturate(limiter, 20, FAST);
+        saturate(limiter, 20, SLOW);
+        int afterSlowdown = limiter.limit();
+
+        saturate(limiter, 50, FAST);
+
+        assertTrue(limiter.limit() > afterSlowdown);
+    }
+
+    @Test
+    void overloadBacksOffMultiplicatively() {
+        AdaptiveLimiterImpl limiter = new AdaptiveLimiterImpl("test", 50, 5, 100);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(FAST, true);
+        }
+
+        assertEquals(limiter.limit(), 17);
+    }
+
+    @Test
+    void limitStaysWithinBounds() {
+        AdaptiveLimiterImpl limiter = new AdaptiveLimiterImpl("test", 5, 5, 100);
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(FAST, true);
+        }
+
+        assertEquals(limiter.limit(), 5);
+    }
+
+    @Test
+    void idleLimiterDoesNotGrow() {
+        AdaptiveLimiterImpl limiter = new AdaptiveLimiterImpl("test", 20, 1, 100);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(FAST, false);
+        }
+
+        assertEquals(limiter.limit(), 20);
+    }
+
+    @Test
+    void bindsGaugesAndRejectionCounter() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AdaptiveLimiterImpl limiter = new AdaptiveLimiterImpl("read", 1, 1, 10);
+        limiter.bindTo(registry);
+
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        assertEquals(registry.get("app.concurrency.limit").tag("bulkhead", "read").gauge().value(), 1.0);
+        assertEquals(registry.get("app.concurrency.in.flight").tag("bulkhead", "read").gauge().value(), 1.0);
+        assertEquals(registry.get("app.concurrency.rejected").tag("bulkhead", "read").functionCounter().count(), 1.0);
+    }
+
+    @Test
+    void rejectsInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveLimiterImpl("", 1, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveLimiterImpl("test", 1, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveLimiterImpl("test", 1, 2, 1));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveLimiterImpl("test", 11, 1, 10));
+    }
+}
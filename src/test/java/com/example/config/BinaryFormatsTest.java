@@ -0,0 +1,163 @@
+package com.example.config;
+
+import com.example.ApplicationImpl;
+import com.example.dto.ProductRequestImpl;
+import com.example.dto.ProductResponseImpl;
+import com.example.dto.UserBatchResponseImpl;
+import com.example.dto.UserRequestImpl;
+import com.example.dto.UserResponseImpl;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * HTTP round-trip tests for {@link BinaryFormatsImpl}: Smile and CBOR request and response bodies on the user and
+ * product endpoints, with JSON kept as the default. Runs against the {@code in-memory} profile.
+ *
+ * <p>Usage example:
+ * {@code
+ * BinaryFormatsTest test = new BinaryFormatsTest();
+ * test.startContext();
+ * test.cborRequestAndResponseRoundTrip();
+ * }
+ */
+public class BinaryFormatsTest {
+
+    private final ObjectMapper smileMapper = new SmileMapper().findAndRegisterModules();
+    private final ObjectMapper cborMapper = new CBORMapper().findAndRegisterModules();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private ConfigurableApplicationContext context;
+    private String baseUrl;
+
+    @BeforeClass
+    void startContext() {
+        context = new SpringApplicationBuilder(ApplicationImpl.class)
+                .profiles("in-memory")
+                .properties("server.port=0")
+                .run();
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    @AfterClass(alwaysRun = true)
+    void stopContext() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    private HttpResponse<byte[]> post(String path, String mediaType, byte[] body, String accept)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", mediaType)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+        if (accept != null) {
+            request.header("Accept", accept);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    @Test
+    void cborRequestAndResponseRoundTrip() throws Exception {
+        UserRequestImpl request = UserRequestImpl.builder().name("Cbor").email("cbor@example.com").age(33).build();
+
+        HttpResponse<byte[]> response = post(
+                "/api/users/register",
+                BinaryFormatsImpl.APPLICATION_CBOR_VALUE,
+                cborMapper.writeValueAsBytes(request),
+                BinaryFormatsImpl.APPLICATION_CBOR_VALUE
+        );
+
+        assertEquals(response.statusCode(), 201);
+        assertEquals(response.headers().firstValue("Content-Type").orElseThrow(),
+                BinaryFormatsImpl.APPLICATION_CBOR_VALUE);
+        UserResponseImpl user = cborMapper.readValue(response.body(), UserResponseImpl.class);
+        assertEquals(user.name, "CBOR");
+        assertEquals(user.email, "cbor@example.com");
+    }
+
+    @Test
+    void smileUsesSpringJacksonSettingsForDates() throws Exception {
+        UserRequestImpl request = UserRequestImpl.builder().name("Smile").email("smile@example.com").age(30).build();
+
+        HttpResponse<byte[]> response = post(
+                "/api/users/process",
+                BinaryFormatsImpl.APPLICATION_SMILE_VALUE,
+                smileMapper.writeValueAsBytes(request),
+                BinaryFormatsImpl.APPLICATION_SMILE_VALUE
+        );
+
+        assertEquals(response.statusCode(), 200);
+        JsonNode user = smileMapper.readTree(response.body());
+        assertEquals(user.get("name").asText(), "SMILE");
+        assertTrue(user.get("createdAt").isTextual(), user.toString());
+    }
+
+    @Test
+    void smileBatchRegistrationIsAccepted() throws Exception {
+        List<UserRequestImpl> requests = List.of(
+                UserRequestImpl.builder().name("One").email("one.smile@example.com").age(20).build(),
+                UserRequestImpl.builder().name("Two").email("two.smile@example.com").age(21).build()
+        );
+
+        HttpResponse<byte[]> response = post(
+                "/api/users/register/batch",
+                BinaryFormatsImpl.APPLICATION_SMILE_VALUE,
+                smileMapper.writeValueAsBytes(requests),
+                BinaryFormatsImpl.APPLICATION_SMILE_VALUE
+        );
+
+        assertEquals(response.statusCode(), 200);
+        UserBatchResponseImpl batch = smileMapper.readValue(response.body(), UserBatchResponseImpl.class);
+        assertEquals(batch.succeeded, 2);
+    }
+
+    @Test
+    void productEndpointsNegotiateBinaryResponses() throws Exception {
+        ProductRequestImpl request = ProductRequestImpl.builder()
+                .title("Binary Phone")
+                .price(1999)
+                .quantity(2)
+                .build();
+
+        HttpResponse<byte[]> created = post(
+                "/api/products/create",
+                BinaryFormatsImpl.APPLICATION_CBOR_VALUE,
+                cborMapper.writeValueAsBytes(request),
+                BinaryFormatsImpl.APPLICATION_SMILE_VALUE
+        );
+
+        assertEquals(created.statusCode(), 201);
+        ProductResponseImpl product = smileMapper.readValue(created.body(), ProductResponseImpl.class);
+        assertEquals(product.title, "Binary Phone");
+        // Smile and CBOR carry money as the nearest double, which is read back exactly
+        assertEquals(product.totalValue, 3998L);
+    }
+
+    @Test
+    void jsonStaysTheDefaultResponseFormat() throws Exception {
+        byte[] body = new ObjectMapper().writeValueAsBytes(
+                UserRequestImpl.builder().name("Json").email("json@example.com").age(40).build());
+
+        HttpResponse<byte[]> response = post("/api/users/process", "application/json", body, null);
+
+        assertEquals(response.statusCode(), 200);
+        assertTrue(response.headers().firstValue("Content-Type").orElseThrow().startsWith("application/json"));
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.config;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ConcurrencyLimitFilterImpl}.
+ *
+ * <p>Usage example:
+ * {@code
+ * ConcurrencyLimitFilterTest test = new ConcurrencyLimitFilterTest();
+ * test.fullBulkheadShedsWithRetryAfter();
+ * }
+ */
+public class ConcurrencyLimitFilterTest {
+
+    private static final List<String> READ_PATHS = List.of("/api/products/by-title");
+    private static final List<String> WRITE_PATHS = List.of("/api/products/create", " ");
+
+    private static MockHttpServletResponse run(ConcurrencyLimitFilterImpl filter, String method, String path, int status)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, path), response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                res.setStatus(status);
+            }
+        }));
+        return response;
+    }
+
+    @Test
+    void fullBulkheadShedsWithRetryAfter() throws Exception {
+        AdaptiveLimiterImpl writes = new AdaptiveLimiterImpl("write", 1, 1, 1);
+        ConcurrencyLimitFilterImpl filter = new ConcurrencyLimitFilterImpl(
+                new AdaptiveLimiterImpl("read", 1, 1, 1), writes, READ_PATHS, WRITE_PATHS);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> blocked = executor.submit(() -> {
+                filter.doFilter(new MockHttpServletRequest("POST", "/api/products/create"),
+                        new MockHttpServletResponse(), (req, res) -> {
+                            entered.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+                return null;
+            });
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            MockHttpServletResponse shed = run(filter, "POST", "/api/products/create", 201);
+            assertEquals(shed.getStatus(), 503);
+            assertEquals(shed.getHeader("Retry-After"), "1");
+
+            // The read bulkhead is separate, so lookups are still admitted while writes are saturated.
+            assertEquals(run(filter, "GET", "/api/products/by-title", 200).getStatus(), 200);
+
+            release.countDown();
+            blocked.get(5, TimeUnit.SECONDS);
+            assertEquals(writes.inFlight(), 0);
+            assertEquals(writes.rejectedCount(), 1);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void unlistedPathsBypassTheLimiters() throws Exception {
+        AdaptiveLimiterImpl reads = new AdaptiveLimiterImpl("read", 1, 1, 1);
+        ConcurrencyLimitFilterImpl filter = new ConcurrencyLimitFilterImpl(
+                reads, new AdaptiveLimiterImpl("write", 1, 1, 1), READ_PATHS, WRITE_PATHS);
+        assertTrue(reads.tryAcquire());
+
+        MockHttpServletResponse response = run(filter, "GET", "/api/products/health", 200);
+
+        assertEquals(response.getStatus(), 200);
+        assertNull(response.getHeader("Retry-After"));
+    }
+
+    @Test
+    void serverErrorsCountAsOverload() throws Exception {
+        AdaptiveLimiterImpl writes = new AdaptiveLimiterImpl("write", 20, 1, 60);
+        ConcurrencyLimitFilterImpl filter = new ConcurrencyLimitFilterImpl(
+                new AdaptiveLimiterImpl("read", 1, 1, 1), writes, READ_PATHS, WRITE_PATHS);
+
+        run(filter, "POST", "/api/products/create", 500);
+
+        assertEquals(writes.limit(), 18);
+        assertEquals(writes.inFlight(), 0);
+    }
+
+    @Test
+    void exceptionsReleaseThePermitAndCountAsOverload() {
+        AdaptiveLimiterImpl reads = new AdaptiveLimiterImpl("read", 20, 1, 60);
+        ConcurrencyLimitFilterImpl filter = new ConcurrencyLimitFilterImpl(
+                reads, new AdaptiveLimiterImpl("write", 1, 1, 1), READ_PATHS, WRITE_PATHS);
+
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(
+                new MockHttpServletRequest("GET", "/api/products/by-title"),
+                new MockHttpServletResponse(),
+                (req, res) -> {
+                    throw new IllegalStateException("database down");
+                }));
+
+        assertEquals(reads.inFlight(), 0);
+        assertEquals(reads.limit(), 18);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.config;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+
+/**
+ * Unit tests for {@link ExportLimitFilterImpl}.
+ *
+ * <p>Usage example:
+ * {@code
+ * ExportLimitFilterTest test = new ExportLimitFilterTest();
+ * test.asyncExportsHoldTheirPermitUntilTheyComplete();
+ * }
+ */
+public class ExportLimitFilterTest {
+
+    private static final List<String> PATHS = List.of("/api/users/export", "/api/products/export", " ");
+
+    private static MockHttpServletRequest startExport(ExportLimitFilterImpl filter, String path) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setAsyncSupported(true);
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+        return request;
+    }
+
+    private static MockHttpServletResponse run(ExportLimitFilterImpl filter, String path, int status) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", path), response,
+                (req, res) -> ((MockHttpServletResponse) res).setStatus(status));
+        return response;
+    }
+
+    @Test
+    void asyncExportsHoldTheirPermitUntilTheyComplete() throws Exception {
+        ExportLimitFilterImpl filter = new ExportLimitFilterImpl(1, PATHS);
+
+        MockHttpServletRequest streaming = startExport(filter, "/api/users/export");
+        assertEquals(filter.inFlight(), 1);
+
+        MockHttpServletResponse shed = run(filter, "/api/products/export", 200);
+        assertEquals(shed.getStatus(), 503);
+        assertEquals(shed.getHeader("Retry-After"), "1");
+
+        streaming.getAsyncContext().complete();
+
+        assertEquals(filter.inFlight(), 0);
+        assertEquals(run(filter, "/api/products/export", 200).getStatus(), 200);
+    }
+
+    @Test
+    void synchronousResponsesAndExceptionsReleaseThePermit() throws Exception {
+        ExportLimitFilterImpl filter = new ExportLimitFilterImpl(1, PATHS);
+
+        assertEquals(run(filter, "/api/users/export", 400).getStatus(), 400);
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(
+                new MockHttpServletRequest("GET", "/api/users/export"),
+                new MockHttpServletResponse(),
+                (req, res) -> {
+                    throw new IllegalStateException("database down");
+                }));
+
+        assertEquals(filter.inFlight(), 0);
+    }
+
+    @Test
+    void unlistedPathsBypassTheLimit() throws Exception {
+        ExportLimitFilterImpl filter = new ExportLimitFilterImpl(1, PATHS);
+        startExport(filter, "/api/users/export");
+
+        MockHttpServletResponse response = run(filter, "/api/users/by-email", 200);
+
+        assertEquals(response.getStatus(), 200);
+        assertNull(response.getHeader("Retry-After"));
+    }
+
+    @Test
+    void limitBelowOneIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ExportLimitFilterImpl(0, PATHS));
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.config;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link GuardedDataSourceImpl} against a real PostgreSQL database.
+ *
+ * <p>Usage example:
+ * {@code
+ * GuardedDataSourceTest test = new GuardedDataSourceTest();
+ * test.setUp();
+ * test.closingConnectionReleasesPermitOnce();
+ * }
+ */
+public class GuardedDataSourceTest {
+
+    private DriverManagerDataSource dataSource;
+
+    @BeforeClass
+    void setUp() {
+        dataSource = new DriverManagerDataSource();
+        dataSource.setDriverClassName("org.postgresql.Driver");
+        dataSource.setUrl("jdbc:postgresql://127.0.0.1:5432/app_db?sslmode=disable");
+        dataSource.setUsername("app_user");
+        dataSource.setPassword("app_password");
+    }
+
+    @Test
+    void closingConnectionReleasesPermitOnce() throws Exception {
+        GuardedDataSourceImpl guarded = new GuardedDataSourceImpl(dataSource, 2, Duration.ofMillis(100));
+
+        Connection connection = guarded.getConnection();
+        assertEquals(guarded.availablePermits(), 1);
+
+        connection.close();
+        connection.close();
+        assertEquals(guarded.availablePermits(), 2);
+    }
+
+    @Test
+    void exhaustedGuardFailsAfterAcquireTimeout() throws Exception {
+        GuardedDataSourceImpl guarded = new GuardedDataSourceImpl(dataSource, 1, Duration.ofMillis(50));
+
+        try (Connection ignored = guarded.getConnection()) {
+            assertThrows(SQLTransientConnectionException.class, guarded::getConnection);
+        }
+        try (Connection connection = guarded.getConnection()) {
+            assertTrue(connection.isValid(1));
+        }
+    }
+
+    @Test
+    void virtualThreadsNeverExceedMaxConcurrency() throws Exception {
+        GuardedDataSourceImpl guarded = new GuardedDataSourceImpl(dataSource, 3, Duration.ofSeconds(30));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(guarded);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                results.add(executor.submit(() -> jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+                    peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+                    try (Statement statement = connection.createStatement();
+                         ResultSet rs = statement.executeQuery("SELECT 1 FROM pg_sleep(0.001)")) {
+                        rs.next();
+                        return rs.getInt(1);
+                    } finally {
+                        active.decrementAndGet();
+                    }
+                })));
+            }
+            for (Future<Integer> result : results) {
+                assertEquals(result.get(), Integer.valueOf(1));
+            }
+        }
+
+        assertTrue(peak.get() <= 3, "peak concurrency " + peak.get());
+        assertEquals(guarded.availablePermits(), 3);
+    }
+
+    @Test
+    void rejectsNonPositiveConcurrency() {
+        assertThrows(IllegalArgumentException.class, () -> new GuardedDataSourceImpl(dataSource, 0, Duration.ZERO));
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link JdbcConcurrencyGuardImpl}.
+ *
+ * <p>Usage example:
+ * {@code
+ * JdbcConcurrencyGuardTest test = new JdbcConcurrencyGuardTest();
+ * test.wrapsHikariDataSourceWithPoolSizedGuard();
+ * }
+ */
+public class JdbcConcurrencyGuardTest {
+
+    private final JdbcConcurrencyGuardImpl guard = new JdbcConcurrencyGuardImpl();
+
+    @Test
+    void wrapsHikariDataSourceWithPoolSizedGuard() {
+        try (HikariDataSource hikari = new HikariDataSource()) {
+            hikari.setMaximumPoolSize(7);
+
+            Object processed = guard.postProcessAfterInitialization(hikari, "dataSource");
+
+            assertTrue(processed instanceof GuardedDataSourceImpl);
+            GuardedDataSourceImpl guarded = (GuardedDataSourceImpl) processed;
+            assertEquals(guarded.maxConcurrency(), 7);
+            assertSame(guarded.getTargetDataSource(), hikari);
+        }
+    }
+
+    @Test
+    void leavesOtherBeansUntouched() {
+        Object bean = new Object();
+
+        assertSame(guard.postProcessAfterInitialization(bean, "other"), bean);
+    }
+}
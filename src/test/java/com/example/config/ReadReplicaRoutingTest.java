@@ -0,0 +1,87 @@
+package com.example.config;
+
+import com.example.repository.ReadRoutingImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link ReadReplicaRoutingImpl}, using the local PostgreSQL database as the replica.
+ *
+ * <p>Usage example:
+ * {@code
+ * ReadReplicaRoutingTest test = new ReadReplicaRoutingTest();
+ * test.wrapsDataSourceBeanWithReplicaRouting();
+ * }
+ */
+public class ReadReplicaRoutingTest {
+
+    private static final String URL = "jdbc:postgresql://127.0.0.1:5432/app_db?sslmode=disable";
+
+    private ReadReplicaRoutingImpl routing(List<String> urls, boolean guardEnabled) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("readRouting", new ReadRoutingImpl());
+        return new ReadReplicaRoutingImpl(
+                beanFactory.getBeanProvider(ReadRoutingImpl.class),
+                beanFactory.getBeanProvider(MeterRegistry.class),
+                urls,
+                "app_user",
+                "app_password",
+                3,
+                Duration.ofSeconds(1),
+                Duration.ofMinutes(1),
+                guardEnabled
+        );
+    }
+
+    @Test
+    void wrapsDataSourceBeanWithReplicaRouting() {
+        DriverManagerDataSource primary = new DriverManagerDataSource(URL, "app_user", "app_password");
+
+        Object processed = routing(List.of(URL), false).postProcessAfterInitialization(primary, "dataSource");
+
+        assertTrue(processed instanceof ReplicaRoutingDataSourceImpl);
+        try (ReplicaRoutingDataSourceImpl routingDataSource = (ReplicaRoutingDataSourceImpl) processed) {
+            assertSame(routingDataSource.primary(), primary);
+            assertEquals(routingDataSource.replicaCount(), 1);
+            assertTrue(routingDataSource.replicaEligible(0));
+        }
+    }
+
+    @Test
+    void buildsOnePoolPerReplicaUrlWithTheGuardEnabled() {
+        DriverManagerDataSource primary = new DriverManagerDataSource(URL, "app_user", "app_password");
+
+        Object processed = routing(List.of(URL, URL), true).postProcessAfterInitialization(primary, "dataSource");
+
+        try (ReplicaRoutingDataSourceImpl routingDataSource = (ReplicaRoutingDataSourceImpl) processed) {
+            assertEquals(routingDataSource.replicaCount(), 2);
+            assertTrue(routingDataSource.replicaEligible(1));
+        }
+    }
+
+    @Test
+    void leavesOtherBeansUntouched() {
+        DriverManagerDataSource other = new DriverManagerDataSource(URL, "app_user", "app_password");
+        Object bean = new Object();
+        ReadReplicaRoutingImpl routing = routing(List.of(URL), false);
+
+        assertSame(routing.postProcessAfterInitialization(other, "otherDataSource"), other);
+        assertSame(routing.postProcessAfterInitialization(bean, "dataSource"), bean);
+    }
+
+    @Test
+    void requiresAtLeastOneReplicaUrl() {
+        assertThrows(IllegalArgumentException.class, () -> routing(List.of(), false));
+        assertThrows(IllegalArgumentException.class, () -> routing(List.of(" "), false));
+    }
+}
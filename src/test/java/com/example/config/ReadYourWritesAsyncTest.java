@@ -0,0 +1,71 @@
+package com.example.config;
+
+import com.example.repository.ReadRoutingImpl;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ReadYourWritesAsyncImpl}: the request thread and the executor thread of an async request are
+ * played by the test thread and a single-thread executor.
+ *
+ * <p>Usage example:
+ * {@code
+ * ReadYourWritesAsyncTest test = new ReadYourWritesAsyncTest();
+ * test.pinnedRequestsStayPinnedOnTheExecutorThread();
+ * }
+ */
+public class ReadYourWritesAsyncTest {
+
+    private final ReadRoutingImpl readRouting = new ReadRoutingImpl();
+    private final ReadYourWritesAsyncImpl async = new ReadYourWritesAsyncImpl(readRouting);
+
+    private boolean[] runAsync(ServletWebRequest request) throws Exception {
+        Callable<Boolean> body = readRouting::pinnedToPrimary;
+        async.beforeConcurrentHandling(request, body);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            return executor.submit(() -> {
+                async.preProcess(request, body);
+                boolean pinnedInBody;
+                try {
+                    pinnedInBody = body.call();
+                } finally {
+                    async.postProcess(request, body, null);
+                }
+                return new boolean[] {pinnedInBody, readRouting.pinnedToPrimary()};
+            }).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void pinnedRequestsStayPinnedOnTheExecutorThread() throws Exception {
+        readRouting.pinToPrimary();
+        try {
+            boolean[] pinned = runAsync(new ServletWebRequest(new MockHttpServletRequest("GET", "/api/users/export")));
+
+            assertTrue(pinned[0]);
+            assertFalse(pinned[1]);
+        } finally {
+            readRouting.unpin();
+        }
+    }
+
+    @Test
+    void unpinnedRequestsMayUseReplicasOnTheExecutorThread() throws Exception {
+        boolean[] pinned = runAsync(new ServletWebRequest(new MockHttpServletRequest("GET", "/api/users/export")));
+
+        assertFalse(pinned[0]);
+        assertFalse(pinned[1]);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.config;
+
+import com.example.repository.ReadRoutingImpl;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ReadYourWritesFilterImpl}.
+ *
+ * <p>Usage example:
+ * {@code
+ * ReadYourWritesFilterTest test = new ReadYourWritesFilterTest();
+ * test.writesArePinnedAndStampTheCookie();
+ * }
+ */
+public class ReadYourWritesFilterTest {
+
+    private final ReadRoutingImpl readRouting = new ReadRoutingImpl();
+    private final ReadYourWritesFilterImpl filter =
+            new ReadYourWritesFilterImpl(readRouting, Duration.ofSeconds(1), Duration.ofMillis(500),
+                    List.of("/api/users/by-emails", " "));
+
+    private boolean pinnedDuring(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        AtomicBoolean pinned = new AtomicBoolean();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                pinned.set(readRouting.pinnedToPrimary());
+            }
+        });
+        filter.doFilter(request, response, chain);
+        return pinned.get();
+    }
+
+    @Test
+    void writesArePinnedAndStampTheCookie() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        long before = System.currentTimeMillis();
+
+        assertTrue(pinnedDuring(new MockHttpServletRequest("POST", "/api/products/create"), response));
+
+        Cookie cookie = response.getCookie(ReadYourWritesFilterImpl.LAST_WRITE_COOKIE);
+        assertNotNull(cookie);
+        assertTrue(Long.parseLong(cookie.getValue()) >= before);
+        assertEquals(cookie.getMaxAge(), 2);
+        assertEquals(cookie.getPath(), "/");
+        assertTrue(cookie.isHttpOnly());
+        assertFalse(readRouting.pinnedToPrimary());
+    }
+
+    @Test
+    void readsWithoutRecentWriteAreNotPinned() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(pinnedDuring(new MockHttpServletRequest("GET", "/api/products/by-title"), response));
+        assertNull(response.getCookie(ReadYourWritesFilterImpl.LAST_WRITE_COOKIE));
+    }
+
+    @Test
+    void readOnlyPostPathsAreNotWrites() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(pinnedDuring(new MockHttpServletRequest("POST", "/api/users/by-emails"), response));
+        assertNull(response.getCookie(ReadYourWritesFilterImpl.LAST_WRITE_COOKIE));
+    }
+
+    @Test
+    void readsWithinTheWindowAfterAWriteArePinned() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/by-title");
+        request.setCookies(new Cookie(
+                ReadYourWritesFilterImpl.LAST_WRITE_COOKIE, Long.toString(System.currentTimeMillis() - 200)));
+
+        assertTrue(pinnedDuring(request, new MockHttpServletResponse()));
+        assertFalse(readRouting.pinnedToPrimary());
+    }
+
+    @Test
+    void readsAfterTheWindowAreNotPinned() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/by-title");
+        request.setCookies(new Cookie(
+                ReadYourWritesFilterImpl.LAST_WRITE_COOKIE, Long.toString(System.currentTimeMillis() - 5_000)));
+
+        assertFalse(pinnedDuring(request, new MockHttpServletResponse()));
+    }
+
+    @Test
+    void malformedCookieIsIgnored() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/by-title");
+        request.setCookies(new Cookie(ReadYourWritesFilterImpl.LAST_WRITE_COOKIE, "yesterday"));
+
+        assertFalse(pinnedDuring(request, new MockHttpServletResponse()));
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.config;
+
+import com.example.dto.ProductResponseImpl;
+import com.example.repository.IdAllocatorImpl;
+import com.example.repository.ProductRepositoryImpl;
+import com.example.repository.ReadRoutingImpl;
+import com.example.repository.TitleIndexImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link ReplicaRoutingDataSourceImpl} against the local PostgreSQL database, which also stands in for the
+ * replicas: it is not in recovery, so its measured lag is zero.
+ *
+ * <p>Usage example:
+ * {@code
+ * ReplicaRoutingDataSourceTest test = new ReplicaRoutingDataSourceTest();
+ * test.setUp();
+ * test.readsInsideOnReplicaUseTheReplica();
+ * }
+ */
+public class ReplicaRoutingDataSourceTest {
+
+    private static final String TITLE = "Replica Routing Product";
+
+    private final ReadRoutingImpl readRouting = new ReadRoutingImpl();
+
+    private DriverManagerDataSource database;
+    private CountingDataSource primary;
+    private CountingDataSource replica;
+    private ReplicaRoutingDataSourceImpl routing;
+
+    @BeforeClass
+    void setUp() {
+        database = new DriverManagerDataSource();
+        database.setDriverClassName("org.postgresql.Driver");
+        database.setUrl("jdbc:postgresql://127.0.0.1:5432/app_db?sslmode=disable");
+        database.setUsername("app_user");
+        database.setPassword("app_password");
+
+        primary = new CountingDataSource(database);
+        replica = new CountingDataSource(database);
+        routing = new ReplicaRoutingDataSourceImpl(
+                primary, List.of(replica), readRouting, Duration.ofSeconds(1), Duration.ofMinutes(1));
+    }
+
+    @AfterClass(alwaysRun = true)
+    void tearDown() {
+        routing.close();
+        new JdbcTemplate(database).update("DELETE FROM products WHERE title = ?", TITLE);
+    }
+
+    @BeforeMethod
+    void resetCounters() {
+        readRouting.unpin();
+        primary.connections.set(0);
+        replica.connections.set(0);
+    }
+
+    @Test
+    void replicaThatIsNotInRecoveryHasNoLag() {
+        assertEquals(routing.replicaLag(0), Duration.ZERO);
+        assertTrue(routing.replicaEligible(0));
+        assertSame(routing.primary(), primary);
+    }
+
+    @Test
+    void readsInsideOnReplicaUseTheReplica() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(routing);
+
+        readRouting.onReplica(() -> jdbcTemplate.queryForObject("SELECT 1", Integer.class));
+
+        assertEquals(replica.connections.get(), 1);
+        assertEquals(primary.connections.get(), 0);
+    }
+
+    @Test
+    void readsOutsideOnReplicaUseThePrimary() {
+        new JdbcTemplate(routing).queryForObject("SELECT 1", Integer.class);
+
+        assertEquals(primary.connections.get(), 1);
+        assertEquals(replica.connections.get(), 0);
+    }
+
+    @Test
+    void pinnedReadsUseThePrimary() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(routing);
+        readRouting.pinToPrimary();
+
+        readRouting.onReplica(() -> jdbcTemplate.queryForObject("SELECT 1", Integer.class));
+
+        assertEquals(primary.connections.get(), 1);
+        assertEquals(replica.connections.get(), 0);
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToThePrimary() {
+        DriverManagerDataSource unreachable = new DriverManagerDataSource(
+                "jdbc:postgresql://127.0.0.1:1/app_db?sslmode=disable&connectTimeout=1", "app_user", "app_password");
+        ReplicaRoutingDataSourceImpl fallback = new ReplicaRoutingDataSourceImpl(
+                primary, List.of(unreachable), readRouting, Duration.ofSeconds(1), Duration.ofMinutes(1));
+        try {
+            resetCounters();
+            assertNull(fallback.replicaLag(0));
+            assertFalse(fallback.replicaEligible(0));
+
+            readRouting.onReplica(() -> new JdbcTemplate(fallback).queryForObject("SELECT 1", Integer.class));
+
+            assertEquals(primary.connections.get(), 1);
+        } finally {
+            fallback.close();
+        }
+    }
+
+    @Test
+    void readsRotateOverEligibleReplicas() {
+        CountingDataSource second = new CountingDataSource(database);
+        ReplicaRoutingDataSourceImpl twoReplicas = new ReplicaRoutingDataSourceImpl(
+                primary, List.of(replica, second), readRouting, Duration.ofSeconds(1), Duration.ofMinutes(1));
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(twoReplicas);
+            resetCounters();
+            second.connections.set(0);
+            for (int i = 0; i < 4; i++) {
+                readRouting.onReplica(() -> jdbcTemplate.queryForObject("SELECT 1", Integer.class));
+            }
+
+            assertEquals(replica.connections.get(), 2);
+            assertEquals(second.connections.get(), 2);
+            assertEquals(primary.connections.get(), 0);
+        } finally {
+            twoReplicas.close();
+        }
+    }
+
+    @Test
+    void repositoryReadsGoToTheReplicaAndSavesToThePrimary() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(routing);
+        ProductRepositoryImpl repository = new ProductRepositoryImpl(
+                jdbcTemplate,
+                new IdAllocatorImpl(new JdbcTemplate(database)),
+                new SimpleMeterRegistry(),
+                new TitleIndexImpl(),
+                readRouting
+        );
+
+        repository.save(ProductResponseImpl.builder()
+                .title(TITLE)
+                .price(500)
+                .quantity(2)
+                .totalValue(1000)
+                .category("REPLICA")
+                .available(true)
+                .build());
+        assertEquals(replica.connections.get(), 0);
+
+        assertEquals(repository.findAllByTitle(TITLE, 10).size(), 1);
+        assertEquals(repository.findByTitles(List.of(TITLE), 10).size(), 1);
+        assertEquals(replica.connections.get(), 2);
+
+        int replicaReads = replica.connections.get();
+        readRouting.pinToPrimary();
+        assertEquals(repository.findAllByTitle(TITLE, 10).size(), 1);
+        assertEquals(replica.connections.get(), replicaReads);
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new ReplicaRoutingDataSourceImpl(
+                primary, List.of(), readRouting, Duration.ofSeconds(1), Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new ReplicaRoutingDataSourceImpl(
+                primary, List.of(replica), readRouting, Duration.ofSeconds(-1), Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new ReplicaRoutingDataSourceImpl(
+                primary, List.of(replica), readRouting, Duration.ofSeconds(1), Duration.ZERO));
+    }
+
+    private static final class CountingDataSource extends DelegatingDataSource {
+
+        final AtomicInteger connections = new AtomicInteger();
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            connections.incrementAndGet();
+            return super.getConnection();
+        }
+    }
+}
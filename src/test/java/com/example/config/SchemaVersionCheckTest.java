@@ -0,0 +1,108 @@
+package com.example.config;
+
+import com.example.SchemaMigrationImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Tests for {@link SchemaVersionCheckImpl} against the local PostgreSQL database.
+ *
+ * <p>Usage example:
+ * {@code
+ * SchemaVersionCheckTest test = new SchemaVersionCheckTest();
+ * test.migrateDatabase();
+ * test.migratedDatabasePasses();
+ * }
+ */
+public class SchemaVersionCheckTest {
+
+    private static final String CHANGE_LOG = "classpath:db/changelog/db.changelog-master.yaml";
+    private static final String URL = "jdbc:postgresql://127.0.0.1:5432/app_db?sslmode=disable";
+
+    @BeforeClass
+    void migrateDatabase() {
+        SchemaMigrationImpl.migrate();
+    }
+
+    private static DriverManagerDataSource dataSource(String url) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+        dataSource.setDriverClassName("org.postgresql.Driver");
+        dataSource.setUrl(url);
+        dataSource.setUsername("app_user");
+        dataSource.setPassword("app_password");
+        return dataSource;
+    }
+
+    @Test
+    void migratedDatabasePasses() {
+        DriverManagerDataSource dataSource = dataSource(URL);
+
+        Object result = new SchemaVersionCheckImpl(CHANGE_LOG).postProcessAfterInitialization(dataSource, "dataSource");
+
+        assertSame(result, dataSource);
+    }
+
+    @Test
+    void changelogAheadOfDatabaseRefusesToStart() {
+        SchemaVersionCheckImpl check = new SchemaVersionCheckImpl("classpath:db/changelog/test-schema-ahead.yaml");
+
+        IllegalStateException e = expectThrows(IllegalStateException.class,
+                () -> check.postProcessAfterInitialization(dataSource(URL), "dataSource"));
+
+        assertTrue(e.getMessage().contains("1 changeset(s) not applied"), e.getMessage());
+        assertTrue(e.getMessage().contains("99-never-applied"), e.getMessage());
+    }
+
+    @Test
+    void unknownBreakingChangesetRefusesToStart() {
+        // Stands in for a changeset of a newer release that this changelog does not contain
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource(URL));
+        jdbcTemplate.update("INSERT INTO databasechangelog (id, author, filename, dateexecuted, orderexecuted,"
+                + " exectype, labels) VALUES ('98-newer-breaking', 'test', 'test', now(), 98, 'EXECUTED', 'money,"
+                + " breaking')");
+        try {
+            SchemaVersionCheckImpl check = new SchemaVersionCheckImpl(CHANGE_LOG);
+
+            IllegalStateException e = expectThrows(IllegalStateException.class,
+                    () -> check.postProcessAfterInitialization(dataSource(URL), "dataSource"));
+
+            assertTrue(e.getMessage().contains("incompatible"), e.getMessage());
+            assertTrue(e.getMessage().contains("98-newer-breaking"), e.getMessage());
+        } finally {
+            jdbcTemplate.update("DELETE FROM databasechangelog WHERE id = '98-newer-breaking' AND author = 'test'");
+        }
+    }
+
+    @Test
+    void databaseAheadWithoutBreakingChangesetsIsAccepted() {
+        DriverManagerDataSource dataSource = dataSource(URL);
+        SchemaVersionCheckImpl check =
+                new SchemaVersionCheckImpl("classpath:db/changelog/test-schema-behind-compatible.yaml");
+
+        assertSame(check.postProcessAfterInitialization(dataSource, "dataSource"), dataSource);
+    }
+
+    @Test
+    void unmigratedDatabaseRefusesToStart() {
+        // An empty search path hides the changelog table just like a database that was never migrated
+        DriverManagerDataSource empty = dataSource(URL + "&currentSchema=schema_check_missing");
+
+        expectThrows(IllegalStateException.class,
+                () -> new SchemaVersionCheckImpl(CHANGE_LOG).postProcessAfterInitialization(empty, "dataSource"));
+    }
+
+    @Test
+    void otherBeansAreNotChecked() {
+        DriverManagerDataSource unreachable = dataSource("jdbc:postgresql://127.0.0.1:1/app_db");
+        SchemaVersionCheckImpl check = new SchemaVersionCheckImpl(CHANGE_LOG);
+
+        assertSame(check.postProcessAfterInitialization(unreachable, "replicaDataSource"), unreachable);
+        assertSame(check.postProcessAfterInitialization("not a data source", "dataSource"), "not a data source");
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.dto;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link KeyLookupImpl} construction from requested keys and found records.
+ *
+ * <p>Usage example:
+ * {@code
+ * KeyLookupTest test = new KeyLookupTest();
+ * test.ofMarksMissingKeysInRequestOrder();
+ * }
+ */
+class KeyLookupTest {
+
+    @Test
+    void ofMarksMissingKeysInRequestOrder() {
+        UserResponseImpl alice = UserResponseImpl.builder().id(1L).email("alice@example.com").build();
+
+        KeyLookupImpl<UserResponseImpl> lookup = KeyLookupImpl.of(
+                List.of("bob@example.com", "alice@example.com", "bob@example.com", "carol@example.com"),
+                Map.of("alice@example.com", alice)
+        );
+
+        assertEquals(lookup.requested, 3);
+        assertEquals(lookup.found, 1);
+        assertEquals(List.copyOf(lookup.results.keySet()),
+                List.of("bob@example.com", "alice@example.com", "carol@example.com"));
+        assertSame(lookup.results.get("alice@example.com"), alice);
+        assertTrue(lookup.results.containsKey("bob@example.com"));
+        assertNull(lookup.results.get("bob@example.com"));
+        assertEquals(lookup.missing, List.of("bob@example.com", "carol@example.com"));
+    }
+}
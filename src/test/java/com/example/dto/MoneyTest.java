@@ -0,0 +1,110 @@
+package com.example.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link MoneyImpl} parsing, formatting and rounding, and for the {@link MinorUnits} JSON mapping.
+ *
+ * <p>Usage example:
+ * {@code
+ * MoneyTest test = new MoneyTest();
+ * test.parseReadsDecimalsExactly();
+ * }
+ */
+class MoneyTest {
+
+    @Test
+    void parseReadsDecimalsExactly() {
+        assertEquals(MoneyImpl.parse("199.99"), 19999L);
+        assertEquals(MoneyImpl.parse("100"), 10000L);
+        assertEquals(MoneyImpl.parse("5.5"), 550L);
+        assertEquals(MoneyImpl.parse("-0.05"), -5L);
+        assertEquals(MoneyImpl.parse("+.5"), 50L);
+        assertEquals(MoneyImpl.parse("7."), 700L);
+        assertEquals(MoneyImpl.parse("12.5000000000000000000000"), 1250L);
+        assertEquals(MoneyImpl.parse("1.0E10"), 1_000_000_000_000L);
+        assertEquals(MoneyImpl.parse("150e-3"), 15L);
+        assertEquals(MoneyImpl.parse("0e-400"), 0L);
+        assertEquals(MoneyImpl.parse("92233720368547758.07"), Long.MAX_VALUE);
+    }
+
+    @Test
+    void parseRejectsMalformedOverPreciseAndOverflowingAmounts() {
+        for (String text : new String[]{"", "-", ".", "abc", "1.2.3", "1e", "12,50", " 1"}) {
+            IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> MoneyImpl.parse(text));
+            assertTrue(e.getMessage().startsWith("Amount is not a decimal number"), text);
+        }
+        IllegalArgumentException overPrecise = expectThrows(IllegalArgumentException.class,
+                () -> MoneyImpl.parse("0.30000000000000004"));
+        assertEquals(overPrecise.getMessage(), "Amount must have at most 2 decimal places: 0.30000000000000004");
+        IllegalArgumentException overflow = expectThrows(IllegalArgumentException.class,
+                () -> MoneyImpl.parse("92233720368547758.08"));
+        assertTrue(overflow.getMessage().startsWith("Amount is out of range"));
+        assertThrows(IllegalArgumentException.class, () -> MoneyImpl.parse("1e30"));
+    }
+
+    @Test
+    void formatWritesTwoFractionDigits() {
+        assertEquals(MoneyImpl.format(19999), "199.99");
+        assertEquals(MoneyImpl.format(10000), "100.00");
+        assertEquals(MoneyImpl.format(7), "0.07");
+        assertEquals(MoneyImpl.format(-5), "-0.05");
+        assertEquals(MoneyImpl.format(-1234), "-12.34");
+        assertEquals(MoneyImpl.format(Long.MIN_VALUE), "-92233720368547758.08");
+        assertEquals(MoneyImpl.append(new StringBuilder("total="), 250).toString(), "total=2.50");
+    }
+
+    @Test
+    void divisionRoundsHalfEven() {
+        assertEquals(MoneyImpl.divide(25, 10), 2L);
+        assertEquals(MoneyImpl.divide(35, 10), 4L);
+        assertEquals(MoneyImpl.divide(26, 10), 3L);
+        assertEquals(MoneyImpl.divide(-25, 10), -2L);
+        assertEquals(MoneyImpl.divide(-35, 10), -4L);
+        assertEquals(MoneyImpl.divide(-24, 10), -2L);
+        assertEquals(MoneyImpl.divide(Long.MAX_VALUE, Long.MAX_VALUE), 1L);
+        assertEquals(MoneyImpl.scale(1999, 85, 100), 1699L);
+        assertThrows(IllegalArgumentException.class, () -> MoneyImpl.divide(1, 0));
+        assertThrows(ArithmeticException.class, () -> MoneyImpl.times(Long.MAX_VALUE / 2, 3));
+        assertThrows(ArithmeticException.class, () -> MoneyImpl.scale(Long.MAX_VALUE, 2, 3));
+    }
+
+    @Test
+    void jsonCarriesExactDecimals() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        ProductResponseImpl product = ProductResponseImpl.builder().price(19999).totalValue(5).build();
+
+        String json = mapper.writeValueAsString(product);
+        assertTrue(json.contains("\"price\":199.99"), json);
+        assertTrue(json.contains("\"totalValue\":0.05"), json);
+        assertEquals(mapper.readValue(json, ProductResponseImpl.class).price, 19999L);
+
+        ProductRequestImpl request = mapper.readValue(
+                "{\"title\": \"Phone\", \"price\": \"0.10\", \"quantity\": 2}", ProductRequestImpl.class);
+        assertEquals(request.price, 10L);
+        assertEquals(mapper.readValue("{\"price\": null}", ProductRequestImpl.class).price, 0L);
+        assertNull(mapper.readValue("{\"minPrice\": null}", ProductStatisticsImpl.class).minPrice);
+
+        InvalidFormatException e = expectThrows(InvalidFormatException.class,
+                () -> mapper.readValue("{\"price\": 0.1234}", ProductRequestImpl.class));
+        assertEquals(e.getOriginalMessage(), "Amount must have at most 2 decimal places: 0.1234");
+    }
+
+    @Test
+    void binaryFormatsCarryTheNearestDouble() throws Exception {
+        ObjectMapper smile = new ObjectMapper(new SmileFactory());
+        ProductStatisticsImpl statistics = ProductStatisticsImpl.builder().totalValue(999_999_999_999L).avgPrice(1L)
+                .build();
+
+        ProductStatisticsImpl read = smile.readValue(smile.writeValueAsBytes(statistics), ProductStatisticsImpl.class);
+
+        assertEquals(read.totalValue, 999_999_999_999L);
+        assertEquals(read.avgPrice, Long.valueOf(1));
+        assertNull(read.minPrice);
+    }
+}
@@ -19,13 +19,13 @@ class ProductRequestTest {
         ProductRequestImpl r = ProductRequestImpl.builder()
                 .title("T")
                 .description("D")
-                .price(1.5)
+                .price(150)
                 .quantity(2)
                 .build();
 
         assertEquals(r.title, "T");
         assertEquals(r.description, "D");
-        assertEquals(r.price, 1.5, 1e-6);
+        assertEquals(r.price, 150L);
         assertEquals(r.quantity, 2);
     }
 }
@@ -20,9 +20,9 @@ class ProductResponseTest {
                 .id(10L)
                 .title("X")
                 .description("Y")
-                .price(5.0)
+                .price(500)
                 .quantity(1)
-                .totalValue(5.0)
+                .totalValue(500)
                 .category("C")
                 .available(true)
                 .build();
@@ -0,0 +1,47 @@
+package com.example.dto;
+
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link ProductStatisticsImpl} builder and public fields.
+ *
+ * <p>Usage example:
+ * {@code
+ * ProductStatisticsTest test = new ProductStatisticsTest();
+ * test.builderAndFields();
+ * }
+ */
+class ProductStatisticsTest {
+
+    @Test
+    void builderAndFields() {
+        ProductStatisticsImpl general = ProductStatisticsImpl.builder()
+                .count(2)
+                .availableCount(1)
+                .unavailableCount(1)
+                .totalValue(30000)
+                .minPrice(5000L)
+                .maxPrice(10000L)
+                .avgPrice(7500L)
+                .build();
+        ProductStatisticsImpl totals = ProductStatisticsImpl.builder()
+                .count(2)
+                .categories(Map.of("GENERAL", general))
+                .build();
+
+        assertEquals(general.count, 2L);
+        assertEquals(general.availableCount, 1L);
+        assertEquals(general.unavailableCount, 1L);
+        assertEquals(general.totalValue, 30000L);
+        assertEquals(general.minPrice, Long.valueOf(5000));
+        assertEquals(general.maxPrice, Long.valueOf(10000));
+        assertEquals(general.avgPrice, Long.valueOf(7500));
+        assertNull(general.categories);
+        assertSame(totals.categories.get("GENERAL"), general);
+        assertNull(totals.minPrice);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.dto;
+
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link ProductWriteAckImpl} builder and public fields.
+ *
+ * <p>Usage example:
+ * {@code
+ * ProductWriteAckTest test = new ProductWriteAckTest();
+ * test.builderAndFields();
+ * }
+ */
+class ProductWriteAckTest {
+
+    @Test
+    void builderAndFields() {
+        ProductWriteAckImpl ack = ProductWriteAckImpl.builder()
+                .trackingId("tracking-1")
+                .status(ProductWriteAck.STATUS_PERSISTED)
+                .productId(42L)
+                .build();
+
+        assertEquals(ack.trackingId, "tracking-1");
+        assertEquals(ack.status, "PERSISTED");
+        assertEquals(ack.productId, 42L);
+        assertNull(ack.error);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.dto;
+
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link TitleMatchImpl} builder and public fields.
+ *
+ * <p>Usage example:
+ * {@code
+ * TitleMatchTest test = new TitleMatchTest();
+ * test.builderAndFields();
+ * }
+ */
+class TitleMatchTest {
+
+    @Test
+    void builderAndFields() {
+        TitleMatchImpl match = TitleMatchImpl.builder()
+                .title("Phone")
+                .products(3)
+                .score(0.6)
+                .match(TitleMatch.MATCH_FUZZY)
+                .build();
+
+        assertEquals(match.title, "Phone");
+        assertEquals(match.products, 3L);
+        assertEquals(match.score, 0.6, 1e-9);
+        assertEquals(match.match, "FUZZY");
+    }
+}
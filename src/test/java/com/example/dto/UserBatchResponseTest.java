@@ -0,0 +1,42 @@
+package com.example.dto;
+
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests for {@link UserBatchResponseImpl} and {@link UserBatchFailureImpl} builders and public fields.
+ *
+ * <p>Usage example:
+ * {@code
+ * UserBatchResponseTest test = new UserBatchResponseTest();
+ * test.builderAndFields();
+ * }
+ */
+class UserBatchResponseTest {
+
+    @Test
+    void builderAndFields() {
+        UserResponseImpl saved = UserResponseImpl.builder().id(7L).email("a@example.com").build();
+        UserBatchFailureImpl failure = UserBatchFailureImpl.builder()
+                .index(1)
+                .email("b@example.com")
+                .error("Name is required")
+                .build();
+
+        UserBatchResponseImpl r = UserBatchResponseImpl.builder()
+                .total(2)
+                .succeeded(1)
+                .failed(1)
+                .users(Arrays.asList(saved, null))
+                .failures(List.of(failure))
+                .build();
+
+        assertEquals(r.total, 2);
+        assertEquals(r.users.get(0).id, 7L);
+        assertNull(r.users.get(1));
+        assertEquals(r.failures.get(0).index, 1);
+        assertEquals(r.failures.get(0).error, "Name is required");
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.io;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+
+/**
+ * Unit tests for {@link ByteBufferPoolImpl} buffer reuse, pool bounds and stream transfer.
+ *
+ * <p>Usage example:
+ * {@code
+ * ByteBufferPoolTest test = new ByteBufferPoolTest();
+ * test.transferCopiesLargeStreamWithOneBuffer();
+ * }
+ */
+public class ByteBufferPoolTest {
+
+    @Test
+    void releasedBufferIsReusedCleared() {
+        ByteBufferPoolImpl pool = new ByteBufferPoolImpl(16, 2);
+
+        ByteBuffer buffer = pool.acquire();
+        buffer.put((byte) 1);
+        pool.release(buffer);
+
+        ByteBuffer reused = pool.acquire();
+        assertSame(reused, buffer);
+        assertEquals(reused.position(), 0);
+        assertEquals(reused.capacity(), 16);
+    }
+
+    @Test
+    void poolKeepsAtMostMaxPooledBuffers() {
+        ByteBufferPoolImpl pool = new ByteBufferPoolImpl(16, 2);
+
+        ByteBuffer first = pool.acquire();
+        ByteBuffer second = pool.acquire();
+        ByteBuffer third = pool.acquire();
+        pool.release(first);
+        pool.release(second);
+        pool.release(third);
+        pool.release(ByteBuffer.allocate(32));
+
+        assertEquals(pool.pooledCount(), 2);
+        assertNotSame(pool.acquire(), third);
+    }
+
+    @Test
+    void transferCopiesLargeStreamWithOneBuffer() throws IOException {
+        ByteBufferPoolImpl pool = new ByteBufferPoolImpl(1024, 4);
+        byte[] payload = new byte[3 * 1024 * 1024 + 17];
+        new Random(42).nextBytes(payload);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length);
+
+        long copied = pool.transfer(new ByteArrayInputStream(payload), out);
+
+        assertEquals(copied, payload.length);
+        assertEquals(out.toByteArray(), payload);
+        assertEquals(pool.pooledCount(), 1);
+    }
+
+    @Test
+    void transferReturnsBufferWhenStreamFails() {
+        ByteBufferPoolImpl pool = new ByteBufferPoolImpl(16, 4);
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        assertThrows(IOException.class, () -> pool.transfer(failing, OutputStream.nullOutputStream()));
+        assertEquals(pool.pooledCount(), 1);
+    }
+
+    @Test
+    void constructorRejectsInvalidSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new ByteBufferPoolImpl(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ByteBufferPoolImpl(16, 0));
+    }
+}
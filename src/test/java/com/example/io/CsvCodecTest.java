@@ -0,0 +1,47 @@
+package com.example.io;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+/**
+ * Unit tests for {@link CsvCodecImpl} parsing and field escaping.
+ *
+ * <p>Usage example:
+ * {@code
+ * CsvCodecTest test = new CsvCodecTest();
+ * test.parseLineHandlesQuotedFields();
+ * }
+ */
+public class CsvCodecTest {
+
+    private final CsvCodecImpl codec = new CsvCodecImpl();
+
+    @Test
+    void parseLineHandlesQuotedFields() {
+        List<String> fields = codec.parseLine("Phone,\"Smart, \"\"black\"\"\",100.5,,2");
+
+        assertEquals(fields, List.of("Phone", "Smart, \"black\"", "100.5", "", "2"));
+    }
+
+    @Test
+    void parseLineRejectsUnterminatedQuote() {
+        assertThrows(IllegalArgumentException.class, () -> codec.parseLine("\"Phone,100"));
+    }
+
+    @Test
+    void appendFieldQuotesValuesAndSkipsNull() {
+        StringBuilder row = new StringBuilder();
+        codec.appendField(row, "Say \"hi\", please");
+        row.append(',');
+        codec.appendField(row, null);
+        row.append(',');
+        codec.appendField(row, "");
+
+        assertEquals(row.toString(), "\"Say \"\"hi\"\", please\",,\"\"");
+        assertEquals(codec.parseLine(row.toString()), List.of("Say \"hi\", please", "", ""));
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.io;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link JsonStreamTransformerImpl} token copying, key collection and input validation.
+ *
+ * <p>Usage example:
+ * {@code
+ * JsonStreamTransformerTest test = new JsonStreamTransformerTest();
+ * test.transformCopiesInputAndListsTopLevelKeys();
+ * }
+ */
+public class JsonStreamTransformerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonStreamTransformerImpl transformer = new JsonStreamTransformerImpl(objectMapper);
+
+    private Map<String, Object> transform(String json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        transformer.transform(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), out);
+        return objectMapper.readValue(out.toByteArray(), new TypeReference<>() {
+        });
+    }
+
+    @Test
+    void transformCopiesInputAndListsTopLevelKeys() throws IOException {
+        String json = """
+                {"name": "Phone", "tags": ["a", {"b": null}], "price": 12.50, "nested": {"deep": [1, 2, 3]}}
+                """;
+
+        Map<String, Object> result = transform(json);
+
+        assertEquals(result.get("input"), objectMapper.readValue(json, new TypeReference<Map<String, Object>>() {
+        }));
+        assertEquals(result.get("keys_count"), 4);
+        assertEquals(result.get("keys"), List.of("name", "tags", "price", "nested"));
+        assertEquals(result.get("processed"), true);
+    }
+
+    @Test
+    void duplicateKeysAreCountedOnce() throws IOException {
+        Map<String, Object> result = transform("{\"a\": 1, \"b\": 2, \"a\": 3}");
+
+        assertEquals(result.get("keys_count"), 2);
+        assertEquals(result.get("keys"), List.of("a", "b"));
+    }
+
+    @Test
+    void emptyObjectHasNoKeys() throws IOException {
+        Map<String, Object> result = transform("{}");
+
+        assertEquals(result.get("input"), Map.of());
+        assertEquals(result.get("keys_count"), 0);
+    }
+
+    @Test
+    void transformHandlesManyKeysInOnePass() throws IOException {
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < 50_000; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("\"key").append(i).append("\":[").append(i).append(",\"v\"]");
+        }
+        json.append('}');
+
+        Map<String, Object> result = transform(json.toString());
+
+        assertEquals(result.get("keys_count"), 50_000);
+        assertEquals(((Map<?, ?>) result.get("input")).get("key49999"), List.of(49_999, "v"));
+    }
+
+    @Test
+    void nonObjectInputIsRejectedBeforeAnyOutput() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThrows(IllegalArgumentException.class, () -> transformer.transform(
+                new ByteArrayInputStream("[1, 2]".getBytes(StandardCharsets.UTF_8)), out));
+        assertEquals(out.size(), 0);
+    }
+
+    @Test
+    void malformedInputFailsWithoutClosingOutput() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThrows(JsonProcessingException.class, () -> transformer.transform(
+                new ByteArrayInputStream("{\"a\": [1, 2".getBytes(StandardCharsets.UTF_8)), out));
+        assertTrue(!out.toString(StandardCharsets.UTF_8).endsWith("}"), out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void trailingContentIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> transform("{\"a\": 1} {\"b\": 2}"));
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Unit tests for {@link HttpResultConventionImpl} status-to-result mapping.
+ *
+ * <p>Usage example:
+ * {@code
+ * HttpResultConventionTest test = new HttpResultConventionTest();
+ * test.statusesMapToResults();
+ * }
+ */
+public class HttpResultConventionTest {
+
+    private final HttpResultConventionImpl convention = new HttpResultConventionImpl();
+
+    @Test
+    void statusesMapToResults() {
+        assertEquals(convention.result(200), "success");
+        assertEquals(convention.result(202), "success");
+        assertEquals(convention.result(400), "validation_error");
+        assertEquals(convention.result(404), "not_found");
+        assertEquals(convention.result(415), "client_error");
+        assertEquals(convention.result(500), "error");
+    }
+
+    @Test
+    void resultTagIsAddedNextToDefaultTags() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/users/register");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(400);
+        ServerRequestObservationContext context = new ServerRequestObservationContext(request, response);
+
+        KeyValues keyValues = convention.getLowCardinalityKeyValues(context);
+
+        assertEquals(tag(keyValues, "result"), "validation_error");
+        assertEquals(tag(keyValues, "status"), "400");
+    }
+
+    private String tag(KeyValues keyValues, String key) {
+        return keyValues.stream()
+                .filter(keyValue -> keyValue.getKey().equals(key))
+                .findFirst()
+                .map(KeyValue::getValue)
+                .orElse(null);
+    }
+}
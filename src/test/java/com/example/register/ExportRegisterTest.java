@@ -0,0 +1,156 @@
+package com.example.register;
+
+import com.example.dto.ProductResponseImpl;
+import com.example.dto.UserResponseImpl;
+import com.example.repository.InMemoryProductRepositoryImpl;
+import com.example.repository.InMemoryUserRepositoryImpl;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Tests for {@link ExportRegisterImpl} NDJSON and CSV output and client disconnects, on in-memory repositories.
+ *
+ * <p>Usage example:
+ * {@code
+ * ExportRegisterTest test = new ExportRegisterTest();
+ * test.setUp();
+ * test.exportProductsAsCsvQuotesTextFields();
+ * }
+ */
+public class ExportRegisterTest {
+
+    private InMemoryUserRepositoryImpl userRepository;
+    private InMemoryProductRepositoryImpl productRepository;
+    private ObjectMapper objectMapper;
+    private ExportRegisterImpl register;
+
+    @BeforeMethod
+    void setUp() {
+        userRepository = new InMemoryUserRepositoryImpl();
+        productRepository = new InMemoryProductRepositoryImpl();
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        register = new ExportRegisterImpl(userRepository, productRepository, objectMapper);
+    }
+
+    @Test
+    void exportUsersAsNdjsonWritesOneCompactObjectPerLine() throws IOException {
+        userRepository.save(user("Alice", "alice@example.com"));
+        userRepository.save(user("Bob", "bob@example.com"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long exported = register.exportUsers(ExportRegister.FORMAT_NDJSON, out);
+
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertEquals(exported, 2L);
+        assertTrue(body.endsWith("\n"));
+        List<String> lines = body.lines().toList();
+        assertEquals(lines.size(), 2);
+        for (String line : lines) {
+            JsonNode node = objectMapper.readTree(line);
+            assertTrue(node.get("email").asText().endsWith("@example.com"));
+            assertEquals(node.get("createdAt").asText(), "2024-01-15T10:30:00");
+        }
+    }
+
+    @Test
+    void exportProductsAsCsvQuotesTextFields() throws IOException {
+        productRepository.save(product("Phone, \"black\"", null));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long exported = register.exportProducts(ExportRegister.FORMAT_CSV, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(exported, 1L);
+        assertEquals(lines.get(0), ExportRegisterImpl.PRODUCT_CSV_HEADER);
+        assertEquals(lines.get(1), "1,\"Phone, \"\"black\"\"\",,100.00,2,200.00,\"GENERAL\",true");
+        assertEquals(register.contentType(ExportRegister.FORMAT_CSV), "text/csv;charset=UTF-8");
+    }
+
+    @Test
+    void exportOfEmptyTableWritesOnlyTheHeader() throws IOException {
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+
+        assertEquals(register.exportUsers(ExportRegister.FORMAT_CSV, csv), 0L);
+        assertEquals(register.exportUsers(ExportRegister.FORMAT_NDJSON, ndjson), 0L);
+
+        assertEquals(csv.toString(StandardCharsets.UTF_8), ExportRegisterImpl.USER_CSV_HEADER + "\n");
+        assertEquals(ndjson.size(), 0);
+    }
+
+    @Test
+    void failedWriteStopsTheExportWithTheOriginalException() {
+        for (int i = 0; i < 5000; i++) {
+            productRepository.save(product("Product " + i, "description " + i));
+        }
+        IOException disconnect = new IOException("Broken pipe");
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw disconnect;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw disconnect;
+            }
+        };
+
+        IOException csvError = expectThrows(IOException.class,
+                () -> register.exportProducts(ExportRegister.FORMAT_CSV, failing));
+        IOException ndjsonError = expectThrows(IOException.class,
+                () -> register.exportProducts(ExportRegister.FORMAT_NDJSON, failing));
+
+        assertSame(csvError, disconnect);
+        assertSame(ndjsonError, disconnect);
+    }
+
+    @Test
+    void unknownFormatIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> register.contentType("xml"));
+        assertThrows(IllegalArgumentException.class,
+                () -> register.exportUsers("xml", new ByteArrayOutputStream()));
+    }
+
+    private static UserResponseImpl user(String name, String email) {
+        return UserResponseImpl.builder()
+                .name(name)
+                .email(email)
+                .age(30)
+                .status("ACTIVE")
+                .createdAt(LocalDateTime.of(2024, 1, 15, 10, 30))
+                .build();
+    }
+
+    private static ProductResponseImpl product(String title, String description) {
+        return ProductResponseImpl.builder()
+                .title(title)
+                .description(description)
+                .price(10000)
+                .quantity(2)
+                .totalValue(20000)
+                .category("GENERAL")
+                .available(true)
+                .build();
+    }
+}
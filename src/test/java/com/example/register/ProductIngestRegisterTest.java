@@ -0,0 +1,177 @@
+package com.example.register;
+
+import com.example.dto.ProductIngestResponseImpl;
+import com.example.repository.ProductRepositoryImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import liquibase.Liquibase;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Integration tests for {@link ProductIngestRegisterImpl} that stream NDJSON and CSV bodies into PostgreSQL via COPY.
+ *
+ * <p>Usage example:
+ * {@code
+ * ProductIngestRegisterTest test = new ProductIngestRegisterTest();
+ * test.setUp();
+ * test.ingestNdjsonCopiesValidRecordsAndCountsRejected();
+ * }
+ */
+public class ProductIngestRegisterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ProductIngestRegisterImpl service;
+
+    @BeforeClass
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+        dataSource.setDriverClassName("org.postgresql.Driver");
+        dataSource.setUrl("jdbc:postgresql://127.0.0.1:5432/app_db?sslmode=disable");
+        dataSource.setUsername("app_user");
+        dataSource.setPassword("app_password");
+
+        runLiquibaseMigrations(dataSource);
+
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        ProductRepositoryImpl repository = new ProductRepositoryImpl(jdbcTemplate);
+        this.service = new ProductIngestRegisterImpl(new ProductRegisterImpl(repository), repository, new ObjectMapper());
+    }
+
+    @BeforeMethod
+    void cleanProductsTable() {
+        jdbcTemplate.update("DELETE FROM products");
+    }
+
+    @SuppressWarnings("deprecation")
+    private void runLiquibaseMigrations(DriverManagerDataSource dataSource) {
+        try (var connection = dataSource.getConnection()) {
+            Database database = DatabaseFactory.getInstance()
+                    .findCorrectDatabaseImplementation(new JdbcConnection(connection));
+            try (Liquibase liquibase = new Liquibase(
+                    "db/changelog/db.changelog-master.yaml",
+                    new ClassLoaderResourceAccessor(),
+                    database
+            )) {
+                liquibase.update();
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to run Liquibase migrations for ProductIngestRegisterTest", e);
+        }
+    }
+
+    @Test
+    void ingestNdjsonCopiesValidRecordsAndCountsRejected() {
+        String body = """
+                {"title": "Laptop", "description": "Fast", "price": 999.99, "quantity": 5}
+
+                {"title": "", "price": 10.0, "quantity": 1}
+                {"title": "Broken",
+                {"title": "Cable", "price": 5.5, "quantity": 0}
+                {"title": "Refund", "price": -1.0, "quantity": 1}
+                """;
+
+        ProductIngestResponseImpl result = service.ingestNdjson(stream(body));
+
+        assertEquals(result.ingested, 2L);
+        assertEquals(result.rejected, 3L);
+        assertEquals(result.errors.size(), 3);
+        assertEquals(result.errors.get(0), "line 3: Product title is required");
+        assertTrue(result.errors.get(1).startsWith("line 4: Malformed JSON record"));
+        assertEquals(result.errors.get(2), "line 6: Price cannot be negative");
+
+        Map<String, Object> laptop = jdbcTemplate.queryForMap(
+                "SELECT description, price, quantity, total_value, category, available FROM products WHERE title = 'Laptop'");
+        assertEquals(laptop.get("description"), "Fast");
+        assertEquals(laptop.get("total_value"), 499995L);
+        assertEquals(laptop.get("category"), "GENERAL");
+        assertEquals(laptop.get("available"), true);
+
+        Map<String, Object> cable = jdbcTemplate.queryForMap(
+                "SELECT description, available FROM products WHERE title = 'Cable'");
+        assertEquals(cable.get("description"), null);
+        assertEquals(cable.get("available"), false);
+    }
+
+    @Test
+    void ingestCsvMapsColumnsByHeader() {
+        String body = """
+                quantity,title,price,description
+                2,"Phone, black",300.0,"Says \"\"hello\"\"\"
+                1,Tablet,abc,Broken price
+                3,Mouse,25,
+                """;
+
+        ProductIngestResponseImpl result = service.ingestCsv(stream(body));
+
+        assertEquals(result.ingested, 2L);
+        assertEquals(result.rejected, 1L);
+        assertTrue(result.errors.get(0).startsWith("line 3: "));
+
+        Map<String, Object> phone = jdbcTemplate.queryForMap(
+                "SELECT description, total_value FROM products WHERE title = 'Phone, black'");
+        assertEquals(phone.get("description"), "Says \"hello\"");
+        assertEquals(phone.get("total_value"), 60000L);
+        assertEquals(jdbcTemplate.queryForObject(
+                "SELECT description FROM products WHERE title = 'Mouse'", String.class), "");
+    }
+
+    @Test
+    void ingestRejectsNulCharactersInsteadOfAbortingTheCopy() {
+        String ndjson = """
+                {"title": "Nul\\u0000title", "price": 1.0, "quantity": 1}
+                {"title": "Clean", "price": 1.0, "quantity": 1}
+                """;
+        String csv = "title,price,quantity,description\nKeyboard,10,1,bad\0byte\n";
+
+        ProductIngestResponseImpl fromJson = service.ingestNdjson(stream(ndjson));
+        ProductIngestResponseImpl fromCsv = service.ingestCsv(stream(csv));
+
+        assertEquals(fromJson.ingested, 1L);
+        assertEquals(fromJson.errors.get(0), "line 1: Title and description must not contain NUL characters");
+        assertEquals(fromCsv.ingested, 0L);
+        assertEquals(fromCsv.errors.get(0), "line 2: Title and description must not contain NUL characters");
+        assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Long.class), 1L);
+    }
+
+    @Test
+    void ingestCsvRejectsHeaderWithoutRequiredColumns() {
+        assertThrows(IllegalArgumentException.class, () -> service.ingestCsv(stream("title,description\nPhone,x\n")));
+    }
+
+    @Test
+    void ingestStreamsLargeBodiesInConstantMemory() {
+        int rows = 50_000;
+        StringBuilder body = new StringBuilder("title,price,quantity\n");
+        for (int i = 0; i < rows; i++) {
+            body.append("Item ").append(i).append(",1.25,").append(i % 3).append('\n');
+        }
+
+        ProductIngestResponseImpl result = service.ingestCsv(stream(body.toString()));
+
+        assertEquals(result.ingested, (long) rows);
+        assertEquals(result.rejected, 0L);
+        long count = Objects.requireNonNull(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Long.class));
+        assertEquals(count, (long) rows);
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.register;
 
+import com.example.dto.MoneyImpl;
 import com.example.dto.ProductRequestImpl;
 import com.example.dto.ProductResponseImpl;
 
@@ -74,14 +75,14 @@ public class ProductRegisterTest {
         ProductRequestImpl req = ProductRequestImpl.builder()
                 .title("Phone")
                 .description("Smartphone")
-                .price(300.0)
+                .price(30000)
                 .quantity(2)
                 .build();
 
         ProductResponseImpl resp = service.createProduct(req);
         assertEquals(resp.title, "Phone");
         assertTrue(resp.available);
-        assertEquals(resp.totalValue, 600.0, 1e-6);
+        assertEquals(resp.totalValue, 60000L);
 
         Long count = Objects.requireNonNull(
                 jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Long.class),
@@ -96,9 +97,9 @@ public class ProductRegisterTest {
                                 .id(rs.getLong("id"))
                                 .title(rs.getString("title"))
                                 .description(rs.getString("description"))
-                                .price(rs.getBigDecimal("price").doubleValue())
+                                .price(rs.getLong("price"))
                                 .quantity(rs.getInt("quantity"))
-                                .totalValue(rs.getBigDecimal("total_value").doubleValue())
+                                .totalValue(rs.getLong("total_value"))
                                 .category(rs.getString("category"))
                                 .available(rs.getBoolean("available"))
                                 .build(),
@@ -108,9 +109,9 @@ public class ProductRegisterTest {
         );
         assertEquals(fromDb.title, "Phone");
         assertEquals(fromDb.description, "Smartphone");
-        assertEquals(fromDb.price, 300.0, 1e-6);
+        assertEquals(fromDb.price, 30000L);
         assertEquals(fromDb.quantity, 2);
-        assertEquals(fromDb.totalValue, 600.0, 1e-6);
+        assertEquals(fromDb.totalValue, 60000L);
         assertEquals(fromDb.category, "GENERAL");
         assertTrue(fromDb.available);
     }
@@ -120,13 +121,13 @@ public class ProductRegisterTest {
         ProductRequestImpl req = ProductRequestImpl.builder()
                 .title("Item")
                 .description("")
-                .price(100.0)
+                .price(10000)
                 .quantity(3)
                 .build();
 
-        ProductResponseImpl resp = service.applyDiscount(req, 10.0);
+        ProductResponseImpl resp = service.applyDiscount(req, 1000);
         assertEquals(resp.category, "DISCOUNTED");
-        assertEquals(resp.price, 90.0, 1e-6);
+        assertEquals(resp.price, 9000L);
 
         Long count = Objects.requireNonNull(
                 jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Long.class),
@@ -141,9 +142,9 @@ public class ProductRegisterTest {
                                 .id(rs.getLong("id"))
                                 .title(rs.getString("title"))
                                 .description(rs.getString("description"))
-                                .price(rs.getBigDecimal("price").doubleValue())
+                                .price(rs.getLong("price"))
                                 .quantity(rs.getInt("quantity"))
-                                .totalValue(rs.getBigDecimal("total_value").doubleValue())
+                                .totalValue(rs.getLong("total_value"))
                                 .category(rs.getString("category"))
                                 .available(rs.getBoolean("available"))
                                 .build(),
@@ -153,10 +154,61 @@ public class ProductRegisterTest {
         );
         assertEquals(fromDb.title, "Item");
         assertEquals(fromDb.description, "");
-        assertEquals(fromDb.price, 90.0, 1e-6);
+        assertEquals(fromDb.price, 9000L);
         assertEquals(fromDb.quantity, 3);
-        assertEquals(fromDb.totalValue, 270.0, 1e-6);
+        assertEquals(fromDb.totalValue, 27000L);
         assertEquals(fromDb.category, "DISCOUNTED");
         assertTrue(fromDb.available);
     }
+
+    @Test
+    void prepareDiscountRoundsHalfEvenToTheMinorUnit() {
+        ProductRegisterImpl register = new ProductRegisterImpl();
+        ProductRequestImpl req = ProductRequestImpl.builder().title("Rounded").price(1999).quantity(3).build();
+
+        // 19.99 * 0.85 = 16.9915
+        ProductResponseImpl discounted = register.prepareDiscount(req, 1500);
+        assertEquals(discounted.price, 1699L);
+        assertEquals(discounted.totalValue, 5097L);
+
+        // 0.05 * 0.5 = 0.025 and 0.15 * 0.5 = 0.075: ties go to the even minor unit
+        assertEquals(register.prepareDiscount(ProductRequestImpl.builder().title("Tie").price(5).build(), 5000).price, 2L);
+        assertEquals(register.prepareDiscount(ProductRequestImpl.builder().title("Tie").price(15).build(), 5000).price, 8L);
+        // 33.33 %: 100.00 * 0.6667 = 66.67
+        assertEquals(register.prepareDiscount(
+                ProductRequestImpl.builder().title("Fine").price(10000).build(), 3333).price, 6667L);
+    }
+
+    @Test
+    void discountPercentTextIsTakenExactlyAsBasisPoints() {
+        ProductRegisterImpl register = new ProductRegisterImpl();
+        ProductRequestImpl req = ProductRequestImpl.builder().title("Fine").price(10000).quantity(1).build();
+
+        // Trailing zeros are not extra precision.
+        assertEquals(register.prepareDiscount(req, MoneyImpl.parse("12.5000")).price, 8750L);
+        assertThrows(IllegalArgumentException.class, () -> MoneyImpl.parse("33.333"));
+        assertThrows(IllegalArgumentException.class, () -> MoneyImpl.parse("0.005"));
+
+        IllegalArgumentException over = expectThrows(IllegalArgumentException.class,
+                () -> register.prepareDiscount(req, MoneyImpl.parse("100.01")));
+        assertEquals(over.getMessage(), "Discount must be between 0 and 100");
+        assertThrows(IllegalArgumentException.class, () -> register.prepareDiscount(req, -1));
+    }
+
+    @Test
+    void prepareProductRejectsOutOfRangeMoney() {
+        ProductRegisterImpl register = new ProductRegisterImpl();
+        ProductRequestImpl expensive = ProductRequestImpl.builder()
+                .title("Expensive").price(ProductRegisterImpl.MAX_PRICE).quantity(1).build();
+        ProductRequestImpl bulk = ProductRequestImpl.builder()
+                .title("Bulk").price(ProductRegisterImpl.MAX_PRICE - 1).quantity(Integer.MAX_VALUE).build();
+
+        IllegalArgumentException price = expectThrows(IllegalArgumentException.class,
+                () -> register.prepareProduct(expensive));
+        IllegalArgumentException total = expectThrows(IllegalArgumentException.class,
+                () -> register.prepareProduct(bulk));
+        assertEquals(price.getMessage(), "Price is out of range");
+        assertEquals(total.getMessage(), "Total value is out of range");
+        assertThrows(IllegalArgumentException.class, () -> register.prepareDiscount(expensive, 1000));
+    }
 }
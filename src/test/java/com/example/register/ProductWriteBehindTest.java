@@ -0,0 +1,180 @@
+package com.example.register;
+
+import com.example.dto.ProductRequestImpl;
+import com.example.dto.ProductResponseImpl;
+import com.example.dto.ProductWriteAck;
+import com.example.dto.ProductWriteAckImpl;
+import com.example.repository.InMemoryProductRepositoryImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+
+/**
+ * Tests for {@link ProductWriteBehindImpl} queueing, batching, backpressure, shutdown flush and metrics.
+ *
+ * <p>Usage example:
+ * {@code
+ * ProductWriteBehindTest test = new ProductWriteBehindTest();
+ * test.setUp();
+ * test.stopFlushesEverythingQueued();
+ * }
+ */
+public class ProductWriteBehindTest {
+
+    private InMemoryProductRepositoryImpl repository;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeMethod
+    void setUp() {
+        repository = new InMemoryProductRepositoryImpl();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void submittedProductsArePersistedByFlusher() throws Exception {
+        ProductWriteBehindImpl writeBehind = writeBehind(100);
+        writeBehind.start();
+        try {
+            ProductWriteAckImpl ack = writeBehind.submitCreate(request("Queued", 1000));
+            assertEquals(ack.status, ProductWriteAck.STATUS_PENDING);
+            assertNotNull(ack.trackingId);
+
+            ProductWriteAckImpl status = awaitFinalStatus(writeBehind, ack.trackingId);
+            assertEquals(status.status, ProductWriteAck.STATUS_PERSISTED);
+            assertEquals(repository.findByTitle("Queued").id, status.productId);
+        } finally {
+            writeBehind.stop();
+        }
+    }
+
+    @Test
+    void invalidProductsAreRejectedSynchronously() {
+        ProductWriteBehindImpl writeBehind = writeBehind(100);
+
+        assertThrows(IllegalArgumentException.class, () -> writeBehind.submitCreate(request("Bad", -100)));
+        assertThrows(IllegalArgumentException.class, () -> writeBehind.submitDiscount(request("Bad", 100), 15000));
+        assertEquals(writeBehind.queueDepth(), 0);
+    }
+
+    @Test
+    void fullQueueAppliesBackpressure() {
+        ProductWriteBehindImpl writeBehind = writeBehind(2);
+
+        writeBehind.submitCreate(request("One", 100));
+        writeBehind.submitCreate(request("Two", 200));
+
+        assertThrows(WriteBehindRejectedException.class, () -> writeBehind.submitCreate(request("Three", 300)));
+        assertEquals(meterRegistry.get("app.product.writes.rejected").counter().count(), 1.0);
+        assertEquals(meterRegistry.get("app.product.writes.queue.depth").gauge().value(), 2.0);
+    }
+
+    @Test
+    void stopFlushesEverythingQueued() {
+        ProductWriteBehindImpl writeBehind = writeBehind(1000);
+        List<String> trackingIds = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            trackingIds.add(writeBehind.submitCreate(request("Shutdown " + i, i)).trackingId);
+        }
+
+        writeBehind.stop();
+
+        assertEquals(repository.size(), 250);
+        for (String trackingId : trackingIds) {
+            assertEquals(writeBehind.status(trackingId).status, ProductWriteAck.STATUS_PERSISTED);
+        }
+        assertEquals(meterRegistry.get("app.product.writes.persisted").counter().count(), 250.0);
+        assertEquals(meterRegistry.get("app.product.writes.flush").timer().count(), 3L);
+        assertThrows(WriteBehindRejectedException.class, () -> writeBehind.submitCreate(request("Late", 100)));
+    }
+
+    @Test
+    void rowsRejectedByRepositoryAreMarkedFailed() {
+        ProductWriteBehindImpl writeBehind = writeBehind(10);
+        ProductRequestImpl tooLong = request("t".repeat(300), 100);
+
+        String good = writeBehind.submitCreate(request("Good", 100)).trackingId;
+        String bad = writeBehind.submitCreate(tooLong).trackingId;
+        writeBehind.stop();
+
+        assertEquals(writeBehind.status(good).status, ProductWriteAck.STATUS_PERSISTED);
+        ProductWriteAckImpl failed = writeBehind.status(bad);
+        assertEquals(failed.status, ProductWriteAck.STATUS_FAILED);
+        assertNotNull(failed.error);
+        assertNull(writeBehind.status("unknown"));
+    }
+
+    @Test
+    void unexpectedRetryFailuresAreMarkedFailedAndTheFlusherKeepsRunning() throws Exception {
+        repository = new InMemoryProductRepositoryImpl() {
+            @Override
+            public List<ProductResponseImpl> saveAll(List<ProductResponseImpl> products) {
+                throw new DataIntegrityViolationException("batch rejected");
+            }
+
+            @Override
+            public ProductResponseImpl save(ProductResponseImpl product) {
+                if (product.title.equals("Broken")) {
+                    throw new IllegalStateException("Id block exhausted");
+                }
+                return super.save(product);
+            }
+        };
+        ProductWriteBehindImpl writeBehind = writeBehind(100);
+        writeBehind.start();
+        try {
+            String broken = writeBehind.submitCreate(request("Broken", 100)).trackingId;
+            ProductWriteAckImpl failed = awaitFinalStatus(writeBehind, broken);
+            assertEquals(failed.status, ProductWriteAck.STATUS_FAILED);
+            assertEquals(failed.error, "Id block exhausted");
+
+            String later = writeBehind.submitCreate(request("Later", 100)).trackingId;
+            assertEquals(awaitFinalStatus(writeBehind, later).status, ProductWriteAck.STATUS_PERSISTED);
+        } finally {
+            writeBehind.stop();
+        }
+    }
+
+    private ProductWriteBehindImpl writeBehind(int queueCapacity) {
+        return new ProductWriteBehindImpl(
+                new ProductRegisterImpl(repository),
+                repository,
+                meterRegistry,
+                queueCapacity,
+                100,
+                Duration.ZERO,
+                Duration.ofMinutes(1),
+                Duration.ofSeconds(5)
+        );
+    }
+
+    private ProductWriteAckImpl awaitFinalStatus(ProductWriteBehindImpl writeBehind, String trackingId)
+            throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            ProductWriteAckImpl status = writeBehind.status(trackingId);
+            if (!ProductWriteAck.STATUS_PENDING.equals(status.status)) {
+                return status;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("Write " + trackingId + " was not flushed");
+    }
+
+    private ProductRequestImpl request(String title, long price) {
+        return ProductRequestImpl.builder()
+                .title(title)
+                .description("Write-behind")
+                .price(price)
+                .quantity(1)
+                .build();
+    }
+}
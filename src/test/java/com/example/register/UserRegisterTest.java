@@ -1,5 +1,6 @@
 package com.example.register;
 
+import com.example.dto.UserBatchResponseImpl;
 import com.example.dto.UserRequestImpl;
 import com.example.dto.UserResponseImpl;
 
@@ -16,6 +17,8 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import static org.testng.Assert.*;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -131,6 +134,79 @@ public class UserRegisterTest {
         assertEquals(fromDb.status, "VALIDATED");
     }
 
+    @Test
+    void registerUsersPersistsValidEntriesAndReportsFailures() {
+        List<UserRequestImpl> requests = Arrays.asList(
+                UserRequestImpl.builder().name("Carol").email("carol@example.com").age(31).build(),
+                UserRequestImpl.builder().name("").email("empty@example.com").age(20).build(),
+                null,
+                UserRequestImpl.builder().name("Dave").email(null).age(45).build(),
+                UserRequestImpl.builder().name("Erin").email("erin@example.com").age(200).build(),
+                UserRequestImpl.builder().name("Frank").email("frank@example.com").age(52).build()
+        );
+
+        UserBatchResponseImpl batch = service.registerUsers(requests);
+
+        assertEquals(batch.total, 6);
+        assertEquals(batch.succeeded, 2);
+        assertEquals(batch.failed, 4);
+        assertEquals(batch.users.size(), 6);
+        assertNotNull(batch.users.get(0).id);
+        assertEquals(batch.users.get(0).name, "CAROL");
+        assertNull(batch.users.get(1));
+        assertNull(batch.users.get(2));
+        assertNull(batch.users.get(3));
+        assertNull(batch.users.get(4));
+        assertNotNull(batch.users.get(5).id);
+        assertEquals(batch.failures.stream().map(f -> f.index).toList(), List.of(1, 2, 3, 4));
+        assertEquals(batch.failures.get(0).error, "Name is required");
+        assertEquals(batch.failures.get(3).email, "erin@example.com");
+
+        long count = Objects.requireNonNull(
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class)
+        ).longValue();
+        assertEquals(count, 2L);
+    }
+
+    @Test
+    void registerUsersIsolatesRowsRejectedByDatabase() {
+        String tooLongName = "x".repeat(300);
+        List<UserRequestImpl> requests = List.of(
+                UserRequestImpl.builder().name("Grace").email("grace@example.com").age(33).build(),
+                UserRequestImpl.builder().name(tooLongName).email("long@example.com").age(33).build(),
+                UserRequestImpl.builder().name("Heidi").email("heidi@example.com").age(34).build()
+        );
+
+        UserBatchResponseImpl batch = service.registerUsers(requests);
+
+        assertEquals(batch.succeeded, 2);
+        assertEquals(batch.failed, 1);
+        assertEquals(batch.failures.get(0).index, 1);
+        assertNull(batch.users.get(1));
+        assertNotNull(batch.users.get(0).id);
+        assertNotNull(batch.users.get(2).id);
+    }
+
+    @Test
+    void prepareMethodsBuildResponsesWithoutPersisting() {
+        UserRequestImpl req = UserRequestImpl.builder()
+                .name("Carol")
+                .email("carol@example.com")
+                .age(33)
+                .build();
+
+        UserResponseImpl processed = service.prepareUser(req);
+        UserResponseImpl validated = service.prepareValidatedUser(req);
+
+        assertEquals(processed.name, "CAROL");
+        assertEquals(processed.status, "ACTIVE");
+        assertEquals(validated.name, "Carol");
+        assertEquals(validated.status, "VALIDATED");
+        assertNull(processed.id);
+        assertNull(validated.id);
+        assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class), Long.valueOf(0L));
+    }
+
     private RowMapper<UserResponseImpl> userRowMapper() {
         return (rs, rowNum) -> UserResponseImpl.builder()
                 .id(rs.getLong("id"))
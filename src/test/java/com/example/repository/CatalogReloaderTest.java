@@ -0,0 +1,120 @@
+package com.example.repository;
+
+import com.example.dto.ProductResponseImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link CatalogReloaderImpl}: two repositories on one PostgreSQL table stand for two instances, and the
+ * reloader must bring the statistics and title index of one up to date with the writes of the other.
+ *
+ * <p>Usage example:
+ * {@code
+ * CatalogReloaderTest test = new CatalogReloaderTest();
+ * test.setUp();
+ * test.reloadPicksUpWritesOfOtherInstances();
+ * }
+ */
+public class CatalogReloaderTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeClass
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+        dataSource.setDriverClassName("org.postgresql.Driver");
+        dataSource.setUrl("jdbc:postgresql://127.0.0.1:5432/app_db?sslmode=disable");
+        dataSource.setUsername("app_user");
+        dataSource.setPassword("app_password");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @BeforeMethod
+    void cleanProductsTable() {
+        jdbcTemplate.update("DELETE FROM products");
+    }
+
+    @Test
+    void reloadPicksUpWritesOfOtherInstances() {
+        ProductRepositoryImpl local = new ProductRepositoryImpl(jdbcTemplate);
+        ProductRepositoryImpl other = new ProductRepositoryImpl(jdbcTemplate);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CatalogReloaderImpl reloader = new CatalogReloaderImpl(local, meterRegistry, Duration.ZERO);
+
+        local.save(product("Reload local", 1000));
+        other.save(product("Reload other", 3000));
+        assertEquals(local.statistics().count, 1L);
+
+        reloader.reload();
+
+        assertEquals(local.statistics().count, 2L);
+        assertEquals(local.statistics().totalValue, 4000L);
+        assertEquals(local.statistics().avgPrice, Long.valueOf(2000));
+        assertTrue(reloader.age().compareTo(Duration.ofSeconds(5)) < 0);
+        assertTrue(meterRegistry.get("app.product.catalog.age").gauge().value() < 5.0);
+    }
+
+    @Test
+    void reloadMakesTitlesOfOtherInstancesSearchable() {
+        ProductRepositoryImpl local = new ProductRepositoryImpl(jdbcTemplate);
+        ProductRepositoryImpl other = new ProductRepositoryImpl(jdbcTemplate);
+        CatalogReloaderImpl reloader = new CatalogReloaderImpl(local, new SimpleMeterRegistry(), Duration.ZERO);
+
+        local.save(product("Reload title", 1000));
+        other.save(product("Reload title", 1000));
+        other.save(product("Reload title elsewhere", 1000));
+        assertEquals(local.searchTitles("reload title", 10, false).size(), 1);
+
+        reloader.reload();
+
+        assertEquals(local.searchTitles("reload title", 10, false).size(), 2);
+        assertEquals(local.searchTitles("reload title", 10, false).get(0).products, 2L);
+    }
+
+    @Test
+    void scheduledReloadConvergesWithinTheInterval() throws InterruptedException {
+        ProductRepositoryImpl local = new ProductRepositoryImpl(jdbcTemplate);
+        ProductRepositoryImpl other = new ProductRepositoryImpl(jdbcTemplate);
+        CatalogReloaderImpl reloader = new CatalogReloaderImpl(local, new SimpleMeterRegistry(), Duration.ofMillis(50));
+        try {
+            other.save(product("Reload scheduled", 2500));
+
+            for (int i = 0; i < 100 && local.statistics().count == 0; i++) {
+                Thread.sleep(20);
+            }
+            assertEquals(local.statistics().count, 1L);
+            assertEquals(local.statistics().maxPrice, Long.valueOf(2500));
+        } finally {
+            reloader.close();
+        }
+    }
+
+    @Test
+    void negativeIntervalIsRejected() {
+        ProductRepositoryImpl repository = new ProductRepositoryImpl(jdbcTemplate);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new CatalogReloaderImpl(repository, new SimpleMeterRegistry(), Duration.ofSeconds(-1)));
+    }
+
+    private static ProductResponseImpl product(String title, long price) {
+        return ProductResponseImpl.builder()
+                .title(title)
+                .price(price)
+                .quantity(1)
+                .totalValue(price)
+                .category("GENERAL")
+                .available(true)
+                .build();
+    }
+}
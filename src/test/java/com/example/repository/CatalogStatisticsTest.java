@@ -0,0 +1,144 @@
+package com.example.repository;
+
+import com.example.dto.ProductResponseImpl;
+import com.example.dto.ProductStatisticsImpl;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link CatalogStatisticsImpl} aggregation per category and across the catalog.
+ *
+ * <p>Usage example:
+ * {@code
+ * CatalogStatisticsTest test = new CatalogStatisticsTest();
+ * test.recordAggregatesPerCategoryAndInTotal();
+ * }
+ */
+class CatalogStatisticsTest {
+
+    @Test
+    void recordAggregatesPerCategoryAndInTotal() {
+        CatalogStatisticsImpl statistics = new CatalogStatisticsImpl();
+        statistics.record(product("GENERAL", 10000, 2));
+        statistics.record(product("GENERAL", 5000, 0));
+        statistics.record(product("DISCOUNTED", 8000, 1));
+
+        ProductStatisticsImpl snapshot = statistics.snapshot();
+
+        assertEquals(snapshot.count, 3L);
+        assertEquals(snapshot.availableCount, 2L);
+        assertEquals(snapshot.unavailableCount, 1L);
+        assertEquals(snapshot.totalValue, 28000L);
+        assertEquals(snapshot.minPrice, Long.valueOf(5000));
+        assertEquals(snapshot.maxPrice, Long.valueOf(10000));
+        // 23000 / 3 = 7666.67 minor units
+        assertEquals(snapshot.avgPrice, Long.valueOf(7667));
+        assertEquals(List.copyOf(snapshot.categories.keySet()), List.of("DISCOUNTED", "GENERAL"));
+
+        ProductStatisticsImpl general = snapshot.categories.get("GENERAL");
+        assertEquals(general.count, 2L);
+        assertEquals(general.availableCount, 1L);
+        assertEquals(general.unavailableCount, 1L);
+        assertEquals(general.totalValue, 20000L);
+        assertEquals(general.minPrice, Long.valueOf(5000));
+        assertEquals(general.maxPrice, Long.valueOf(10000));
+        assertEquals(general.avgPrice, Long.valueOf(7500));
+        assertNull(general.categories);
+    }
+
+    @Test
+    void emptySnapshotHasNoPrices() {
+        CatalogStatisticsImpl statistics = new CatalogStatisticsImpl();
+        statistics.record(product("GENERAL", 1000, 1));
+        statistics.clear();
+
+        ProductStatisticsImpl snapshot = statistics.snapshot();
+
+        assertEquals(snapshot.count, 0L);
+        assertEquals(snapshot.totalValue, 0L);
+        assertNull(snapshot.minPrice);
+        assertNull(snapshot.maxPrice);
+        assertNull(snapshot.avgPrice);
+        assertTrue(snapshot.categories.isEmpty());
+    }
+
+    @Test
+    void addAndMergeCombineAggregatedRows() {
+        CatalogStatisticsImpl statistics = new CatalogStatisticsImpl();
+        statistics.add("GENERAL", 10, 7, 150000, 25000, 500, 6000);
+        statistics.add("GENERAL", 0, 0, 0, 0, 0, 0);
+
+        CatalogStatisticsImpl copied = new CatalogStatisticsImpl();
+        copied.record(product("GENERAL", 100, 3));
+        copied.record(product("IMPORTED", 20000, 1));
+        statistics.merge(copied);
+
+        ProductStatisticsImpl general = statistics.snapshot().categories.get("GENERAL");
+        assertEquals(general.count, 11L);
+        assertEquals(general.availableCount, 8L);
+        assertEquals(general.totalValue, 150300L);
+        assertEquals(general.minPrice, Long.valueOf(100));
+        assertEquals(general.maxPrice, Long.valueOf(6000));
+        // 25100 / 11 = 2281.82 minor units
+        assertEquals(general.avgPrice, Long.valueOf(2282));
+        assertEquals(statistics.snapshot().maxPrice, Long.valueOf(20000));
+        assertThrows(IllegalArgumentException.class, () -> statistics.add(null, 1, 1, 1, 1, 1, 1));
+    }
+
+    @Test
+    void concurrentRecordsAreAllCounted() throws Exception {
+        CatalogStatisticsImpl statistics = new CatalogStatisticsImpl();
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String category = t % 2 == 0 ? "EVEN" : "ODD";
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 1; i <= perThread; i++) {
+                        statistics.record(product(category, i, 1));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ProductStatisticsImpl snapshot = statistics.snapshot();
+        assertEquals(snapshot.count, (long) threads * perThread);
+        assertEquals(snapshot.availableCount, (long) threads * perThread);
+        assertEquals(snapshot.categories.get("EVEN").count, (long) threads / 2 * perThread);
+        assertEquals(snapshot.totalValue, (long) threads * perThread * (perThread + 1) / 2);
+        assertEquals(snapshot.minPrice, Long.valueOf(1));
+        assertEquals(snapshot.maxPrice, Long.valueOf(perThread));
+        // 5000.5 rounds half-even to 5000
+        assertEquals(snapshot.avgPrice, Long.valueOf(perThread / 2));
+    }
+
+    private static ProductResponseImpl product(String category, long price, int quantity) {
+        return ProductResponseImpl.builder()
+                .title("Product")
+                .price(price)
+                .quantity(quantity)
+                .totalValue(price * quantity)
+                .category(category)
+                .available(quantity > 0)
+                .build();
+    }
+}
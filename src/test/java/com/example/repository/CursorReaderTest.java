@@ -0,0 +1,90 @@
+package com.example.repository;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Integration tests for {@link CursorReaderImpl} against PostgreSQL on a single reused connection.
+ *
+ * <p>Usage example:
+ * {@code
+ * CursorReaderTest test = new CursorReaderTest();
+ * test.setUp();
+ * test.rowsArriveOneFetchAtATime();
+ * }
+ */
+public class CursorReaderTest {
+
+    private static final String COUNT_UP_SQL = "SELECT g FROM generate_series(1, 5000) g ORDER BY g";
+    // Fails on the 3000th row, so only the rows of the fetches before it can ever reach the sink.
+    private static final String FAIL_AT_3000_SQL = "SELECT 10 / (3000 - g) AS v FROM generate_series(1, 5000) g";
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeClass
+    void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                "jdbc:postgresql://127.0.0.1:5432/app_db?sslmode=disable", "app_user", "app_password", true);
+        dataSource.setDriverClassName("org.postgresql.Driver");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterClass(alwaysRun = true)
+    void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void forEachVisitsEveryRowInOrder() throws SQLException {
+        AtomicLong expected = new AtomicLong(1);
+
+        long count = new CursorReaderImpl(jdbcTemplate, 100).forEach(
+                COUNT_UP_SQL, (rs, rowNum) -> rs.getLong(1),
+                value -> assertEquals((long) value, expected.getAndIncrement()));
+
+        assertEquals(count, 5000L);
+        assertTrue(dataSource.getConnection().getAutoCommit());
+    }
+
+    @Test
+    void rowsArriveOneFetchAtATime() throws SQLException {
+        AtomicLong delivered = new AtomicLong();
+
+        assertThrows(DataAccessException.class, () -> new CursorReaderImpl(jdbcTemplate, 1000).forEach(
+                FAIL_AT_3000_SQL, (rs, rowNum) -> rs.getLong(1), value -> delivered.incrementAndGet()));
+
+        // Without a cursor pgjdbc would read all rows, and hit the error, before handing out the first one.
+        assertEquals(delivered.get(), 2000L);
+        assertTrue(dataSource.getConnection().getAutoCommit());
+        assertEquals(jdbcTemplate.queryForObject("SELECT 1", Integer.class), 1);
+    }
+
+    @Test
+    void sinkFailureStopsReadingAndReleasesTheConnection() throws SQLException {
+        AtomicLong delivered = new AtomicLong();
+
+        assertThrows(IllegalStateException.class, () -> new CursorReaderImpl(jdbcTemplate, 100).forEach(
+                COUNT_UP_SQL, (rs, rowNum) -> rs.getLong(1), value -> {
+                    if (delivered.incrementAndGet() == 250) {
+                        throw new IllegalStateException("client went away");
+                    }
+                }));
+
+        assertEquals(delivered.get(), 250L);
+        assertTrue(dataSource.getConnection().getAutoCommit());
+        assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM generate_series(1, 10)", Integer.class), 10);
+        assertThrows(IllegalArgumentException.class, () -> new CursorReaderImpl(jdbcTemplate, 0));
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.repository;
+
+import liquibase.Liquibase;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Integration tests for {@link IdAllocatorImpl} against the pooled sequences created by the Liquibase migrations.
+ *
+ * <p>Usage example:
+ * {@code
+ * IdAllocatorTest test = new IdAllocatorTest();
+ * test.setUp();
+ * test.idsWithinBlockAreContiguous();
+ * }
+ */
+public class IdAllocatorTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeClass
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+        dataSource.setDriverClassName("org.postgresql.Driver");
+        dataSource.setUrl("jdbc:postgresql://127.0.0.1:5432/app_db?sslmode=disable");
+        dataSource.setUsername("app_user");
+        dataSource.setPassword("app_password");
+
+        runLiquibaseMigrations(dataSource);
+
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @SuppressWarnings("deprecation")
+    private void runLiquibaseMigrations(DriverManagerDataSource dataSource) {
+        try (var connection = dataSource.getConnection()) {
+            Database database = DatabaseFactory.getInstance()
+                    .findCorrectDatabaseImplementation(new JdbcConnection(connection));
+            try (Liquibase liquibase = new Liquibase(
+                    "db/changelog/db.changelog-master.yaml",
+                    new ClassLoaderResourceAccessor(),
+                    database
+            )) {
+                liquibase.update();
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to run Liquibase migrations for IdAllocatorTest", e);
+        }
+    }
+
+    private long blockSize(String sequence) {
+        return jdbcTemplate.queryForObject(
+                "SELECT increment_by FROM pg_sequences WHERE schemaname = current_schema() AND sequencename = ?",
+                Long.class,
+                sequence
+        );
+    }
+
+    @Test
+    void idsWithinBlockAreContiguous() {
+        IdAllocatorImpl allocator = new IdAllocatorImpl(jdbcTemplate);
+        long blockSize = blockSize(ProductRepositoryImpl.ID_SEQUENCE);
+
+        long first = allocator.nextId(ProductRepositoryImpl.ID_SEQUENCE);
+        for (long expected = first + 1; expected < first + blockSize; expected++) {
+            assertEquals(allocator.nextId(ProductRepositoryImpl.ID_SEQUENCE), expected);
+        }
+        assertTrue(allocator.nextId(ProductRepositoryImpl.ID_SEQUENCE) >= first + blockSize);
+    }
+
+    @Test
+    void separateAllocatorsReserveDisjointBlocks() {
+        IdAllocatorImpl left = new IdAllocatorImpl(jdbcTemplate);
+        IdAllocatorImpl right = new IdAllocatorImpl(jdbcTemplate);
+        long blockSize = blockSize(UserRepositoryImpl.ID_SEQUENCE);
+
+        long leftFirst = left.nextId(UserRepositoryImpl.ID_SEQUENCE);
+        long rightFirst = right.nextId(UserRepositoryImpl.ID_SEQUENCE);
+
+        assertTrue(Math.abs(leftFirst - rightFirst) >= blockSize, leftFirst + " vs " + rightFirst);
+    }
+
+    @Test
+    void concurrentCallersNeverReceiveTheSameId() throws Exception {
+        IdAllocatorImpl allocator = new IdAllocatorImpl(jdbcTemplate);
+        int threads = 8;
+        int idsPerThread = 5_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < idsPerThread; i++) {
+                        ids.add(allocator.nextId(ProductRepositoryImpl.ID_SEQUENCE));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(ids.size(), threads * idsPerThread);
+    }
+
+    @Test
+    void nextIdRejectsMissingSequenceName() {
+        IdAllocatorImpl allocator = new IdAllocatorImpl(jdbcTemplate);
+
+        assertThrows(IllegalArgumentException.class, () -> allocator.nextId(null));
+        assertThrows(IllegalArgumentException.class, () -> allocator.nextId(""));
+    }
+}
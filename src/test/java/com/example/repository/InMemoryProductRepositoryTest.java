@@ -0,0 +1,115 @@
+package com.example.repository;
+
+import com.example.dto.ProductResponseImpl;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link InMemoryProductRepositoryImpl} id generation, title lookups and bulk copy.
+ *
+ * <p>Usage example:
+ * {@code
+ * InMemoryProductRepositoryTest test = new InMemoryProductRepositoryTest();
+ * test.setUp();
+ * test.findAllByTitleReturnsMatchesOrderedById();
+ * }
+ */
+public class InMemoryProductRepositoryTest {
+
+    private InMemoryProductRepositoryImpl repository;
+
+    @BeforeMethod
+    void setUp() {
+        repository = new InMemoryProductRepositoryImpl();
+    }
+
+    @Test
+    void findAllByTitleReturnsMatchesOrderedById() {
+        ProductResponseImpl first = repository.save(product("Phone", 10000));
+        ProductResponseImpl second = repository.save(product("Phone", 20000));
+        repository.save(product("Laptop", 90000));
+
+        List<ProductResponseImpl> phones = repository.findAllByTitle("Phone", 10);
+
+        assertEquals(phones.size(), 2);
+        assertEquals(phones.get(0).id, first.id);
+        assertEquals(phones.get(1).id, second.id);
+        assertEquals(repository.findAllByTitle("Phone", 1).size(), 1);
+        assertEquals(repository.findByTitle("Phone").id, first.id);
+        assertTrue(repository.findAllByTitle("Tablet", 10).isEmpty());
+        assertThrows(EmptyResultDataAccessException.class, () -> repository.findByTitle("Tablet"));
+    }
+
+    @Test
+    void copyInSavesEveryProduct() {
+        long copied = repository.copyIn(List.of(product("A", 100), product("B", 200), product("A", 300)).iterator());
+
+        assertEquals(copied, 3L);
+        assertEquals(repository.size(), 3);
+        assertEquals(repository.findAllByTitle("A", 10).size(), 2);
+    }
+
+    @Test
+    void statisticsCountEverySaveAndResetOnClear() {
+        repository.copyIn(List.of(product("A", 100), product("B", 300)).iterator());
+
+        assertEquals(repository.statistics().count, 2L);
+        assertEquals(repository.statistics().avgPrice, Long.valueOf(200));
+
+        repository.clear();
+        assertEquals(repository.statistics().count, 0L);
+    }
+
+    @Test
+    void searchTitlesFindsSavedTitlesByPrefix() {
+        repository.save(product("Phone", 10000));
+        repository.save(product("Phone case", 1000));
+
+        assertEquals(repository.searchTitles("pho", 10, true).size(), 2);
+        assertEquals(repository.searchTitles("phone c", 10, true).get(0).title, "Phone case");
+    }
+
+    @Test
+    void saveRejectsRowsViolatingTableConstraints() {
+        assertThrows(DataIntegrityViolationException.class, () -> repository.save(product(null, 100)));
+        assertThrows(DataIntegrityViolationException.class, () -> repository.save(product("t".repeat(256), 100)));
+        assertEquals(repository.size(), 0);
+    }
+
+    private ProductResponseImpl product(String title, long price) {
+        return ProductResponseImpl.builder()
+                .title(title)
+                .description("In-memory")
+                .price(price)
+                .quantity(1)
+                .totalValue(price)
+                .category("GENERAL")
+                .available(true)
+                .build();
+    }
+
+    @Test
+    void findByTitlesReturnsTheSameMatchesAsFindAllByTitle() {
+        ProductResponseImpl first = repository.save(product("Phone", 10000));
+        ProductResponseImpl second = repository.save(product("Phone", 20000));
+        repository.save(product("Phone", 30000));
+        ProductResponseImpl laptop = repository.save(product("Laptop", 90000));
+
+        Map<String, List<ProductResponseImpl>> found = repository.findByTitles(List.of("Phone", "Laptop", "Tablet"), 2);
+
+        assertEquals(found.size(), 2);
+        assertEquals(found.get("Phone").stream().map(product -> product.id).toList(), List.of(first.id, second.id));
+        assertEquals(found.get("Laptop").get(0).id, laptop.id);
+        assertEquals(found.get("Phone").size(), repository.findAllByTitle("Phone", 2).size());
+        assertThrows(IllegalArgumentException.class, () -> repository.findByTitles(List.of(""), 2));
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.repository;
+
+import com.example.dto.UserResponseImpl;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertThrows;
+
+/**
+ * Unit tests for {@link InMemoryUserRepositoryImpl} upsert-by-email semantics, lookups and constraints.
+ *
+ * <p>Usage example:
+ * {@code
+ * InMemoryUserRepositoryTest test = new InMemoryUserRepositoryTest();
+ * test.setUp();
+ * test.saveUpsertsByEmailAndKeepsId();
+ * }
+ */
+public class InMemoryUserRepositoryTest {
+
+    private InMemoryUserRepositoryImpl repository;
+
+    @BeforeMethod
+    void setUp() {
+        repository = new InMemoryUserRepositoryImpl();
+    }
+
+    @Test
+    void saveUpsertsByEmailAndKeepsId() {
+        UserResponseImpl first = repository.save(user("Alice", "alice@example.com", 30));
+        UserResponseImpl second = repository.save(user("Alice Updated", "alice@example.com", 31));
+
+        assertNotNull(first.id);
+        assertEquals(second.id, first.id);
+        assertEquals(repository.size(), 1);
+
+        UserResponseImpl loaded = repository.findByEmail("alice@example.com");
+        assertEquals(loaded.name, "Alice Updated");
+        assertEquals(loaded.age, 31);
+    }
+
+    @Test
+    void saveAllGivesDuplicateEmailsTheSameIdAndLastWriteWins() {
+        List<UserResponseImpl> saved = repository.saveAll(List.of(
+                user("First", "dup@example.com", 20),
+                user("Other", "other@example.com", 40),
+                user("Last", "dup@example.com", 21)
+        ));
+
+        assertEquals(saved.get(0).id, saved.get(2).id);
+        assertEquals(repository.size(), 2);
+        assertEquals(repository.findByEmail("dup@example.com").name, "Last");
+    }
+
+    @Test
+    void findByEmailReturnsCopiesAndThrowsWhenMissing() {
+        repository.save(user("Bob", "bob@example.com", 25));
+
+        repository.findByEmail("bob@example.com").name = "CHANGED";
+
+        assertEquals(repository.findByEmail("bob@example.com").name, "Bob");
+        assertThrows(EmptyResultDataAccessException.class, () -> repository.findByEmail("missing@example.com"));
+    }
+
+    @Test
+    void saveRejectsRowsViolatingTableConstraints() {
+        assertThrows(DataIntegrityViolationException.class, () -> repository.save(user(null, "n@example.com", 1)));
+        assertThrows(DataIntegrityViolationException.class, () -> repository.save(user("x".repeat(256), "l@example.com", 1)));
+        assertEquals(repository.size(), 0);
+    }
+
+    @Test
+    void concurrentSavesOfOneEmailProduceOneUser() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<UserResponseImpl>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                int age = i;
+                futures.add(executor.submit(() -> repository.save(user("Racer", "race@example.com", age))));
+            }
+            for (var future : futures) {
+                ids.add(future.get().id);
+            }
+        }
+
+        assertEquals(repository.size(), 1);
+        assertEquals(ids.stream().distinct().count(), 1L);
+    }
+
+    private UserResponseImpl user(String name, String email, int age) {
+        return UserResponseImpl.builder()
+                .name(name)
+                .email(email)
+                .age(age)
+                .status("ACTIVE")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void findByEmailsReturnsOnlyExistingUsers() {
+        UserResponseImpl saved = repository.save(user("Alice", "alice@example.com", 30));
+
+        Map<String, UserResponseImpl> found = repository.findByEmails(List.of("alice@example.com", "bob@example.com"));
+
+        assertEquals(found.size(), 1);
+        assertEquals(found.get("alice@example.com").id, saved.id);
+        assertThrows(IllegalArgumentException.class, () -> repository.findByEmails(null));
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.repository;
+
+import com.example.SchemaMigrationImpl;
+import com.example.dto.ProductResponseImpl;
+import com.example.dto.ProductResponseImplJdbc;
+import com.example.dto.UserResponseImpl;
+import com.example.dto.UserResponseImplJdbc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests that the repositories' SQL matches the column order of the generated {@code ProductResponseImplJdbc} and
+ * {@code UserResponseImplJdbc}, and that values bound and read by position survive a PostgreSQL round trip.
+ *
+ * <p>Usage example:
+ * {@code
+ * JdbcRowMappingTest test = new JdbcRowMappingTest();
+ * test.setUp();
+ * test.productQueriesSelectGeneratedColumns();
+ * }
+ */
+public class JdbcRowMappingTest {
+
+    private static final String TITLE = "Jdbc Row Mapping Product";
+    private static final String EMAIL = "jdbc.row.mapping@example.com";
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeClass
+    void setUp() {
+        SchemaMigrationImpl.migrate();
+        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+        dataSource.setDriverClassName("org.postgresql.Driver");
+        dataSource.setUrl("jdbc:postgresql://127.0.0.1:5432/app_db?sslmode=disable");
+        dataSource.setUsername("app_user");
+        dataSource.setPassword("app_password");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    void deleteTestRows() {
+        jdbcTemplate.update("DELETE FROM products WHERE title = ?", TITLE);
+        jdbcTemplate.update("DELETE FROM users WHERE email = ?", EMAIL);
+    }
+
+    private static String normalize(String sql) {
+        return sql.replaceAll("\\s+", " ");
+    }
+
+    @Test
+    void productQueriesSelectGeneratedColumns() {
+        String columns = ProductResponseImplJdbc.COLUMNS;
+
+        assertTrue(normalize(ProductRepositoryImpl.FIND_ALL_BY_TITLE_SQL).startsWith("SELECT " + columns + " FROM"));
+        assertTrue(normalize(ProductRepositoryImpl.FIND_BY_TITLES_SQL).contains("SELECT " + columns + " FROM"));
+        assertTrue(normalize(ProductRepositoryImpl.EXPORT_SQL).startsWith("SELECT " + columns + " FROM"));
+        assertTrue(normalize(ProductRepositoryImpl.INSERT_SQL)
+                .contains("(id, " + ProductResponseImplJdbc.BOUND_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)"));
+    }
+
+    @Test
+    void userQueriesSelectGeneratedColumns() {
+        String columns = UserResponseImplJdbc.COLUMNS;
+
+        assertTrue(normalize(UserRepositoryImpl.FIND_BY_EMAILS_SQL).startsWith("SELECT " + columns + " FROM"));
+        assertTrue(normalize(UserRepositoryImpl.EXPORT_SQL).startsWith("SELECT " + columns + " FROM"));
+        // save() and saveAll() write "(id, name, email, age, status, created_at)" and bind the id first
+        assertEquals(UserResponseImplJdbc.BOUND_COLUMNS, "name, email, age, status, created_at");
+    }
+
+    @Test
+    void productMoneyRoundTripsAsMinorUnits() {
+        ProductRepositoryImpl repository = new ProductRepositoryImpl(jdbcTemplate);
+        ProductResponseImpl product = ProductResponseImpl.builder()
+                .title(TITLE)
+                .description(null)
+                // 9 999 999 999.99 and 99 999 999 999 999.99, beyond the 53-bit mantissa of a double
+                .price(999_999_999_999L)
+                .quantity(3)
+                .totalValue(9_999_999_999_999_999L)
+                .category("GENERAL")
+                .available(true)
+                .build();
+
+        repository.save(product);
+        List<ProductResponseImpl> found = repository.findAllByTitle(TITLE, 10);
+
+        assertEquals(found.size(), 1);
+        assertEquals(found.get(0).id, product.id);
+        assertEquals(found.get(0).description, null);
+        assertEquals(found.get(0).price, 999_999_999_999L);
+        assertEquals(found.get(0).totalValue, 9_999_999_999_999_999L);
+        assertEquals(found.get(0).quantity, 3);
+        assertTrue(found.get(0).available);
+    }
+
+    @Test
+    void userTimestampRoundTripsWithMicrosecondPrecision() {
+        UserRepositoryImpl repository = new UserRepositoryImpl(jdbcTemplate);
+        // 02:30 on 31 March 2024 does not exist in Central European time; it is bound without a time-zone conversion
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 31, 2, 30, 15, 123_456_789);
+        UserResponseImpl user = UserResponseImpl.builder()
+                .name("MAPPING")
+                .email(EMAIL)
+                .age(41)
+                .status("ACTIVE")
+                .createdAt(createdAt)
+                .build();
+
+        repository.save(user);
+        UserResponseImpl found = repository.findByEmails(List.of(EMAIL)).get(EMAIL);
+
+        assertEquals(found.id, user.id);
+        assertEquals(found.name, "MAPPING");
+        assertEquals(found.age, 41);
+        // TIMESTAMP keeps microseconds; PostgreSQL rounds the nanoseconds
+        assertEquals(found.createdAt, LocalDateTime.of(2024, 3, 31, 2, 30, 15, 123_457_000));
+    }
+}
@@ -2,19 +2,30 @@ package com.example.repository;
 
 import com.example.dto.ProductRequestImpl;
 import com.example.dto.ProductResponseImpl;
+import com.example.dto.ProductStatisticsImpl;
+import com.example.dto.TitleMatchImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import liquibase.Liquibase;
 import liquibase.database.Database;
 import liquibase.database.DatabaseFactory;
 import liquibase.database.jvm.JdbcConnection;
 import liquibase.resource.ClassLoaderResourceAccessor;
+import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -73,11 +84,11 @@ public class ProductRepositoryTest {
         ProductRequestImpl req = ProductRequestImpl.builder()
                 .title("Repo Product")
                 .description("From repository test")
-                .price(10.0)
+                .price(1000)
                 .quantity(5)
                 .build();
 
-        double totalValue = req.price * req.quantity;
+        long totalValue = req.price * req.quantity;
 
         ProductResponseImpl saved = ProductResponseImpl.builder()
                 .id(null)
@@ -97,10 +108,231 @@ public class ProductRepositoryTest {
         assertNotNull(fromDb.id);
         assertEquals(fromDb.title, "Repo Product");
         assertEquals(fromDb.description, "From repository test");
-        assertEquals(fromDb.price, 10.0, 1e-6);
+        assertEquals(fromDb.price, 1000L);
         assertEquals(fromDb.quantity, 5);
-        assertEquals(fromDb.totalValue, totalValue, 1e-6);
+        assertEquals(fromDb.totalValue, totalValue);
         assertEquals(fromDb.category, "REPO");
         assertTrue(fromDb.available);
     }
+
+    @Test
+    void copyInStreamsProductsIntoTable() {
+        List<ProductResponseImpl> products = List.of(
+                ProductResponseImpl.builder()
+                        .title("Copy \"quoted\", title")
+                        .description(null)
+                        .price(1250)
+                        .quantity(2)
+                        .totalValue(2500)
+                        .category("GENERAL")
+                        .available(true)
+                        .build(),
+                ProductResponseImpl.builder()
+                        .title("Copy second")
+                        .description("Multi\nline")
+                        .price(100)
+                        .quantity(0)
+                        .totalValue(0)
+                        .category("GENERAL")
+                        .available(false)
+                        .build()
+        );
+
+        long copied = repository.copyIn(products.iterator());
+
+        assertEquals(copied, 2L);
+        long count = Objects.requireNonNull(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Long.class));
+        assertEquals(count, 2L);
+
+        ProductResponseImpl first = repository.findByTitle("Copy \"quoted\", title");
+        assertEquals(first.id, products.get(0).id);
+        assertTrue(products.get(1).id > products.get(0).id);
+        assertNull(first.description);
+        assertEquals(first.price, 1250L);
+        assertEquals(first.totalValue, 2500L);
+        assertTrue(first.available);
+
+        ProductResponseImpl second = repository.findByTitle("Copy second");
+        assertEquals(second.description, "Multi\nline");
+        assertEquals(second.quantity, 0);
+    }
+
+    @Test
+    void findAllByTitleReturnsDuplicatesOrderedById() {
+        for (int i = 1; i <= 3; i++) {
+            repository.save(ProductResponseImpl.builder()
+                    .title("Duplicate title")
+                    .description("copy " + i)
+                    .price(i)
+                    .quantity(1)
+                    .totalValue(i)
+                    .category("GENERAL")
+                    .available(true)
+                    .build());
+        }
+
+        List<ProductResponseImpl> all = repository.findAllByTitle("Duplicate title", 10);
+        assertEquals(all.size(), 3);
+        assertTrue(all.get(0).id < all.get(1).id && all.get(1).id < all.get(2).id);
+        assertEquals(all.get(0).description, "copy 1");
+
+        List<ProductResponseImpl> limited = repository.findAllByTitle("Duplicate title", 2);
+        assertEquals(limited.size(), 2);
+
+        ProductResponseImpl first = repository.findByTitle("Duplicate title");
+        assertEquals(first.id, all.get(0).id);
+
+        assertTrue(repository.findAllByTitle("Missing title", 10).isEmpty());
+    }
+
+    @Test
+    void saveAllAssignsGeneratedIdsInInputOrder() {
+        List<ProductResponseImpl> products = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            products.add(ProductResponseImpl.builder()
+                    .title("Batch " + i)
+                    .description(null)
+                    .price(i)
+                    .quantity(1)
+                    .totalValue(i)
+                    .category("GENERAL")
+                    .available(true)
+                    .build());
+        }
+
+        repository.saveAll(products);
+
+        for (int i = 0; i < products.size(); i++) {
+            ProductResponseImpl saved = products.get(i);
+            assertNotNull(saved.id);
+            assertEquals(repository.findByTitle("Batch " + i).id, saved.id);
+        }
+    }
+
+    @Test
+    void titleLookupsReportMissesAndSeeLaterSaves() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ProductRepositoryImpl meteredRepository = new ProductRepositoryImpl(
+                jdbcTemplate, new IdAllocatorImpl(jdbcTemplate), registry);
+
+        assertThrows(EmptyResultDataAccessException.class, () -> meteredRepository.findByTitle("Late title"));
+
+        meteredRepository.save(ProductResponseImpl.builder()
+                .title("Late title")
+                .price(100)
+                .quantity(1)
+                .totalValue(100)
+                .category("GENERAL")
+                .available(true)
+                .build());
+
+        assertEquals(meteredRepository.findByTitle("Late title").title, "Late title");
+        assertEquals(registry.get("app.lookup.executions").tag("lookup", "products.by-title")
+                .functionCounter().count(), 2.0);
+    }
+
+    @Test
+    void findByTitlesReturnsTheFirstIdsPerTitle() {
+        List<ProductResponseImpl> products = new ArrayList<>();
+        for (String title : List.of("Phone", "Laptop", "Phone", "Phone")) {
+            products.add(ProductResponseImpl.builder()
+                    .title(title)
+                    .price(100)
+                    .quantity(1)
+                    .totalValue(100)
+                    .category("GENERAL")
+                    .available(true)
+                    .build());
+        }
+        repository.saveAll(products);
+
+        Map<String, List<ProductResponseImpl>> found = repository.findByTitles(
+                List.of("Phone", "Laptop", "Tablet", "Phone"), 2);
+
+        assertEquals(found.size(), 2);
+        assertEquals(found.get("Phone").stream().map(product -> product.id).toList(),
+                List.of(products.get(0).id, products.get(2).id));
+        assertEquals(found.get("Laptop").size(), 1);
+        assertEquals(found.get("Laptop").get(0).id, products.get(1).id);
+        assertNull(found.get("Tablet"));
+        assertThrows(IllegalArgumentException.class, () -> repository.findByTitles(List.of("Phone"), 0));
+    }
+
+    @Test
+    void statisticsFollowWritesAndMatchRebuildFromTable() {
+        ProductRepositoryImpl freshRepository = new ProductRepositoryImpl(jdbcTemplate);
+        assertEquals(freshRepository.statistics().count, 0L);
+
+        freshRepository.save(statisticsProduct("Stats single", 1000, 3, "GENERAL"));
+        freshRepository.saveAll(new ArrayList<>(List.of(
+                statisticsProduct("Stats batch", 2000, 0, "GENERAL"),
+                statisticsProduct("Stats batch", 800, 1, "DISCOUNTED"))));
+        freshRepository.copyIn(List.of(statisticsProduct("Stats copy", 4050, 2, "GENERAL")).iterator());
+
+        ProductStatisticsImpl incremental = freshRepository.statistics();
+        assertEquals(incremental.count, 4L);
+        assertEquals(incremental.availableCount, 3L);
+        assertEquals(incremental.unavailableCount, 1L);
+        assertEquals(incremental.totalValue, 11900L);
+        assertEquals(incremental.minPrice, Long.valueOf(800));
+        assertEquals(incremental.maxPrice, Long.valueOf(4050));
+        // 7850 / 4 = 1962.5 rounds half-even to 1962
+        assertEquals(incremental.avgPrice, Long.valueOf(1962));
+        assertEquals(incremental.categories.get("GENERAL").count, 3L);
+
+        ProductStatisticsImpl rebuilt = new ProductRepositoryImpl(jdbcTemplate).statistics();
+        assertEquals(rebuilt.count, incremental.count);
+        assertEquals(rebuilt.availableCount, incremental.availableCount);
+        assertEquals(rebuilt.totalValue, incremental.totalValue);
+        assertEquals(rebuilt.avgPrice, incremental.avgPrice);
+        assertEquals(rebuilt.categories.keySet(), incremental.categories.keySet());
+        assertEquals(rebuilt.categories.get("DISCOUNTED").maxPrice, Long.valueOf(800));
+    }
+
+    private static ProductResponseImpl statisticsProduct(String title, long price, int quantity, String category) {
+        return ProductResponseImpl.builder()
+                .title(title)
+                .price(price)
+                .quantity(quantity)
+                .totalValue(price * quantity)
+                .category(category)
+                .available(quantity > 0)
+                .build();
+    }
+
+    @Test
+    void exportAllStreamsEveryProductInIdOrder() {
+        List<ProductResponseImpl> products = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            products.add(statisticsProduct("Export " + i, i, 1, "GENERAL"));
+        }
+        repository.copyIn(products.iterator());
+
+        List<Long> ids = new ArrayList<>();
+        long exported = repository.exportAll(product -> ids.add(product.id));
+
+        assertEquals(exported, 2500L);
+        assertEquals(ids.size(), 2500);
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(ids.get(i), products.get(i).id);
+        }
+    }
+
+    @Test
+    void searchTitlesSeesStoredTitlesAndLaterWrites() {
+        repository.save(statisticsProduct("Search stored", 100, 1, "GENERAL"));
+        repository.save(statisticsProduct("Search stored", 200, 1, "GENERAL"));
+        ProductRepositoryImpl freshRepository = new ProductRepositoryImpl(jdbcTemplate);
+
+        List<TitleMatchImpl> stored = freshRepository.searchTitles("search", 10, false);
+        assertEquals(stored.size(), 1);
+        assertEquals(stored.get(0).title, "Search stored");
+        assertEquals(stored.get(0).products, 2L);
+
+        freshRepository.save(statisticsProduct("Search saved", 100, 1, "GENERAL"));
+        freshRepository.copyIn(List.of(statisticsProduct("Search copied", 100, 1, "GENERAL")).iterator());
+
+        assertEquals(freshRepository.searchTitles("SEARCH", 10, false).stream().map(m -> m.title).toList(),
+                List.of("Search copied", "Search saved", "Search stored"));
+    }
 }
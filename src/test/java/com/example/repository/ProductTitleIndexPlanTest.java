@@ -0,0 +1,105 @@
+package com.example.repository;
+
+import liquibase.Liquibase;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Query plan regression test for title lookups: with a million products the planner must keep answering
+ * {@link ProductRepositoryImpl#FIND_ALL_BY_TITLE_SQL} and {@link ProductRepositoryImpl#FIND_BY_TITLES_SQL} from
+ * {@code idx_products_title_id} instead of a sequential scan.
+ *
+ * <p>Usage example:
+ * {@code
+ * ProductTitleIndexPlanTest test = new ProductTitleIndexPlanTest();
+ * test.setUp();
+ * test.titleLookupUsesIndexScanAtMillionRows();
+ * }
+ */
+public class ProductTitleIndexPlanTest {
+
+    private static final int ROW_COUNT = 1_000_000;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeClass
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+        dataSource.setDriverClassName("org.postgresql.Driver");
+        dataSource.setUrl("jdbc:postgresql://127.0.0.1:5432/app_db?sslmode=disable");
+        dataSource.setUsername("app_user");
+        dataSource.setPassword("app_password");
+
+        runLiquibaseMigrations(dataSource);
+
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("TRUNCATE products");
+        jdbcTemplate.update("""
+                INSERT INTO products (title, description, price, quantity, total_value, category, available)
+                SELECT 'Product ' || (n % 250000), NULL, 100, 1, 100, 'GENERAL', TRUE
+                FROM generate_series(1, ?) AS n
+                """, ROW_COUNT);
+        jdbcTemplate.execute("ANALYZE products");
+    }
+
+    @AfterClass(alwaysRun = true)
+    void tearDown() {
+        jdbcTemplate.update("TRUNCATE products");
+    }
+
+    @SuppressWarnings("deprecation")
+    private void runLiquibaseMigrations(DriverManagerDataSource dataSource) {
+        try (var connection = dataSource.getConnection()) {
+            Database database = DatabaseFactory.getInstance()
+                    .findCorrectDatabaseImplementation(new JdbcConnection(connection));
+            try (Liquibase liquibase = new Liquibase(
+                    "db/changelog/db.changelog-master.yaml",
+                    new ClassLoaderResourceAccessor(),
+                    database
+            )) {
+                liquibase.update();
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to run Liquibase migrations for ProductTitleIndexPlanTest", e);
+        }
+    }
+
+    @Test
+    void titleLookupUsesIndexScanAtMillionRows() {
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN (FORMAT JSON) " + ProductRepositoryImpl.FIND_ALL_BY_TITLE_SQL,
+                String.class,
+                "Product 42",
+                100
+        );
+
+        assertTrue(plan.contains("idx_products_title_id"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    @Test
+    void multiTitleLookupUsesIndexScanAtMillionRows() {
+        Object[] titles = {"Product 1", "Product 2", "Product 3"};
+        String plan = jdbcTemplate.query(
+                "EXPLAIN (FORMAT JSON) " + ProductRepositoryImpl.FIND_BY_TITLES_SQL,
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("varchar", titles));
+                    ps.setInt(2, 100);
+                },
+                rs -> rs.next() ? rs.getString(1) : null
+        );
+
+        assertTrue(plan.contains("idx_products_title_id"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.repository;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ReadRoutingImpl}.
+ *
+ * <p>Usage example:
+ * {@code
+ * ReadRoutingTest test = new ReadRoutingTest();
+ * test.replicaIsAllowedOnlyInsideOnReplica();
+ * }
+ */
+public class ReadRoutingTest {
+
+    private final ReadRoutingImpl readRouting = new ReadRoutingImpl();
+
+    @AfterMethod(alwaysRun = true)
+    void unpin() {
+        readRouting.unpin();
+    }
+
+    @Test
+    void replicaIsAllowedOnlyInsideOnReplica() {
+        assertFalse(readRouting.replicaAllowed());
+        assertTrue(readRouting.onReplica(readRouting::replicaAllowed));
+        assertFalse(readRouting.replicaAllowed());
+    }
+
+    @Test
+    void nestedOnReplicaKeepsOuterScope() {
+        boolean afterNested = readRouting.onReplica(() -> {
+            readRouting.onReplica(() -> 1);
+            return readRouting.replicaAllowed();
+        });
+
+        assertTrue(afterNested);
+        assertFalse(readRouting.replicaAllowed());
+    }
+
+    @Test
+    void scopeIsClearedWhenTheReadFails() {
+        assertThrows(IllegalStateException.class, () -> readRouting.onReplica(() -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertFalse(readRouting.replicaAllowed());
+    }
+
+    @Test
+    void pinnedThreadReadsFromThePrimary() {
+        readRouting.pinToPrimary();
+
+        assertTrue(readRouting.pinnedToPrimary());
+        assertFalse(readRouting.onReplica(readRouting::replicaAllowed));
+
+        readRouting.unpin();
+        assertFalse(readRouting.pinnedToPrimary());
+        assertTrue(readRouting.onReplica(readRouting::replicaAllowed));
+    }
+
+    @Test
+    void pinningIsPerThread() throws Exception {
+        readRouting.pinToPrimary();
+
+        boolean otherThread = CompletableFuture
+                .supplyAsync(() -> readRouting.onReplica(readRouting::replicaAllowed))
+                .get();
+
+        assertTrue(otherThread);
+    }
+
+    @Test
+    void onReplicaReturnsTheReadResult() {
+        assertEquals(readRouting.onReplica(() -> "value"), "value");
+    }
+
+    @Test
+    void rejectsNullRead() {
+        assertThrows(IllegalArgumentException.class, () -> readRouting.onReplica(null));
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit tests for {@link SingleFlightImpl} coalescing, shared failures, cleanup, forgetting and metrics.
+ *
+ * <p>Usage example:
+ * {@code
+ * SingleFlightTest test = new SingleFlightTest();
+ * test.concurrentCallersShareOneExecution();
+ * }
+ */
+public class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterClass(alwaysRun = true)
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    private void awaitCoalesced(SingleFlightImpl<String> flight, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flight.coalescedCount() < expected) {
+            if (System.nanoTime() > deadline) {
+                fail("Only " + flight.coalescedCount() + " of " + expected + " callers joined the flight");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void concurrentCallersShareOneExecution() throws Exception {
+        SingleFlightImpl<String> flight = new SingleFlightImpl<>("test");
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        List<Future<StringBuilder>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> flight.execute("key", () -> {
+                executions.incrementAndGet();
+                awaitQuietly(release);
+                return new StringBuilder("value");
+            }, StringBuilder::new)));
+        }
+        awaitCoalesced(flight, CALLERS - 1);
+        release.countDown();
+
+        List<StringBuilder> values = new ArrayList<>();
+        for (Future<StringBuilder> result : results) {
+            values.add(result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(executions.get(), 1);
+        assertEquals(flight.executedCount(), 1);
+        assertEquals(flight.coalescedCount(), CALLERS - 1);
+        assertEquals(flight.inFlightCount(), 0);
+        for (StringBuilder value : values) {
+            assertEquals(value.toString(), "value");
+        }
+        assertNotSame(values.get(0), values.get(1));
+    }
+
+    @Test
+    void failureIsSharedWithWaitingCallers() throws Exception {
+        SingleFlightImpl<String> flight = new SingleFlightImpl<>("test");
+        CountDownLatch release = new CountDownLatch(1);
+        EmptyResultDataAccessException missing = new EmptyResultDataAccessException(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> flight.execute("missing", () -> {
+                awaitQuietly(release);
+                throw missing;
+            }, value -> value)));
+        }
+        awaitCoalesced(flight, CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            try {
+                result.get(5, TimeUnit.SECONDS);
+                fail("Expected the shared failure");
+            } catch (ExecutionException e) {
+                assertSame(e.getCause(), missing);
+            }
+        }
+        assertEquals(flight.executedCount(), 1);
+        assertEquals(flight.inFlightCount(), 0);
+    }
+
+    @Test
+    void sequentialCallsExecuteAgain() {
+        SingleFlightImpl<String> flight = new SingleFlightImpl<>("test");
+        AtomicInteger executions = new AtomicInteger();
+
+        flight.execute("key", executions::incrementAndGet, value -> value);
+        assertThrows(IllegalStateException.class, () -> flight.execute("key", () -> {
+            throw new IllegalStateException("boom");
+        }, value -> value));
+        flight.execute("key", executions::incrementAndGet, value -> value);
+
+        assertEquals(executions.get(), 2);
+        assertEquals(flight.executedCount(), 3);
+        assertEquals(flight.coalescedCount(), 0);
+        assertEquals(flight.inFlightCount(), 0);
+    }
+
+    @Test
+    void forgetSendsLaterCallersToNewExecution() throws Exception {
+        SingleFlightImpl<String> flight = new SingleFlightImpl<>("test");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        Future<String> stale = executor.submit(() -> flight.execute("key", () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return "stale";
+        }, value -> value));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        flight.forget("key");
+        String fresh = flight.execute("key", () -> "fresh", value -> value);
+        release.countDown();
+
+        assertEquals(fresh, "fresh");
+        assertEquals(stale.get(5, TimeUnit.SECONDS), "stale");
+        assertEquals(flight.coalescedCount(), 0);
+        assertEquals(flight.inFlightCount(), 0);
+    }
+
+    @Test
+    void metricsAreTaggedWithLookupName() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SingleFlightImpl<String> flight = new SingleFlightImpl<>("products.by-title");
+        flight.bindTo(registry);
+
+        flight.execute("key", () -> "value", value -> value);
+
+        assertEquals(registry.get("app.lookup.executions").tag("lookup", "products.by-title")
+                .functionCounter().count(), 1.0);
+        assertEquals(registry.get("app.lookup.coalesced").functionCounter().count(), 0.0);
+        assertEquals(registry.get("app.lookup.in.flight").gauge().value(), 0.0);
+    }
+
+    @Test
+    void executeRejectsMissingArguments() {
+        SingleFlightImpl<String> flight = new SingleFlightImpl<>("test");
+
+        assertThrows(IllegalArgumentException.class, () -> flight.execute(null, () -> "v", value -> value));
+        assertThrows(IllegalArgumentException.class, () -> flight.execute("key", null, value -> value));
+        assertThrows(IllegalArgumentException.class, () -> new SingleFlightImpl<String>(""));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.repository;
+
+import com.example.dto.TitleMatch;
+import com.example.dto.TitleMatchImpl;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link TitleIndexImpl} prefix ranking, trigram fallback, normalization, bulk merges and reloads.
+ *
+ * <p>Usage example:
+ * {@code
+ * TitleIndexTest test = new TitleIndexTest();
+ * test.prefixSearchListsExactMatchFirstThenCompletionsInOrder();
+ * }
+ */
+class TitleIndexTest {
+
+    @Test
+    void prefixSearchListsExactMatchFirstThenCompletionsInOrder() {
+        TitleIndexImpl index = new TitleIndexImpl();
+        index.add("Phone case", 1);
+        index.add("Phone", 2);
+        index.add("Laptop", 1);
+        index.add("Phone 12", 1);
+        index.add("phone", 1);
+
+        List<TitleMatchImpl> matches = index.search("  PHONE", 10, true);
+
+        assertEquals(matches.stream().map(m -> m.title).toList(), List.of("Phone", "Phone 12", "Phone case"));
+        assertEquals(matches.get(0).products, 3L);
+        assertEquals(matches.get(0).score, 1.0, 1e-9);
+        assertEquals(matches.get(0).match, TitleMatch.MATCH_PREFIX);
+        assertEquals(matches.get(2).score, 5.0 / 10, 1e-9);
+        assertEquals(index.search("pho", 2, true).size(), 2);
+        assertTrue(index.search("tablet", 10, true).isEmpty());
+        assertTrue(index.search("   ", 10, true).isEmpty());
+        assertEquals(index.size(), 4);
+    }
+
+    @Test
+    void trigramFallbackRanksTyposBySimilarity() {
+        TitleIndexImpl index = new TitleIndexImpl(true, TitleIndexImpl.DEFAULT_SIMILARITY_THRESHOLD);
+        index.add("Smartphone X", 1);
+        index.add("Smartwatch", 1);
+        index.add("Garden hose", 1);
+
+        List<TitleMatchImpl> matches = index.search("smartfone", 10, true);
+
+        assertEquals(matches.get(0).title, "Smartphone X");
+        assertEquals(matches.get(0).match, TitleMatch.MATCH_FUZZY);
+        assertEquals(matches.get(0).score, 7.0 / 16, 1e-9);
+        assertTrue(matches.stream().noneMatch(m -> m.title.equals("Garden hose")));
+        assertTrue(index.search("smartfone", 10, false).isEmpty());
+
+        List<TitleMatchImpl> prefixThenFuzzy = index.search("smartw", 10, true);
+        assertEquals(prefixThenFuzzy.get(0).title, "Smartwatch");
+        assertEquals(prefixThenFuzzy.get(0).match, TitleMatch.MATCH_PREFIX);
+        assertEquals(prefixThenFuzzy.stream().filter(m -> m.title.equals("Smartwatch")).count(), 1L);
+    }
+
+    @Test
+    void trigramFallbackIsOffUnlessEnabled() {
+        TitleIndexImpl index = new TitleIndexImpl();
+        index.add("Smartphone X", 1);
+
+        assertTrue(index.search("smartfone", 10, true).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new TitleIndexImpl(true, 0));
+    }
+
+    @Test
+    void fuzzyCandidatesAreCappedButRareTrigramsStillMatch() {
+        TitleIndexImpl index = new TitleIndexImpl(true, TitleIndexImpl.DEFAULT_SIMILARITY_THRESHOLD);
+        for (int i = 0; i < TitleIndexImpl.MAX_FUZZY_CANDIDATES * 3; i++) {
+            index.add("Cable " + i, 1);
+        }
+        index.add("Zyxel router", 1);
+
+        List<TitleMatchImpl> matches = index.search("zyxel ruoter", 5, true);
+
+        assertEquals(matches.get(0).title, "Zyxel router");
+    }
+
+    @Test
+    void mergeAddsProductCountsAndClearEmptiesTheIndex() {
+        TitleIndexImpl index = new TitleIndexImpl();
+        index.add("Phone", 1);
+        TitleIndexImpl copied = new TitleIndexImpl();
+        copied.add("Phone", 2);
+        copied.add("Tablet", 1);
+
+        index.merge(copied);
+
+        assertEquals(index.search("phone", 1, false).get(0).products, 3L);
+        assertEquals(index.size(), 2);
+        index.clear();
+        assertEquals(index.size(), 0);
+        assertTrue(index.search("phone", 1, false).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> index.search("phone", 0, false));
+    }
+
+    @Test
+    void replaceWithOverwritesCountsAndDropsMissingTitles() {
+        TitleIndexImpl index = new TitleIndexImpl(true, TitleIndexImpl.DEFAULT_SIMILARITY_THRESHOLD);
+        index.add("Phone", 5);
+        index.add("Smartwatch", 1);
+        TitleIndexImpl loaded = new TitleIndexImpl();
+        loaded.add("Phone", 2);
+        loaded.add("Tablet", 1);
+
+        index.replaceWith(loaded);
+
+        assertEquals(index.search("phone", 1, false).get(0).products, 2L);
+        assertEquals(index.search("tablet", 1, false).get(0).products, 1L);
+        assertTrue(index.search("smartwatch", 10, true).isEmpty());
+        assertEquals(index.search("tablte", 10, true).get(0).title, "Tablet");
+        assertEquals(index.size(), 2);
+    }
+
+    @Test
+    void normalizeAndTrigramsFollowPgTrgmWords() {
+        String normalized = "phone case";
+
+        assertSame(TitleIndexImpl.normalize(normalized), normalized);
+        assertEquals(TitleIndexImpl.normalize("  Phone \t CASE "), "phone case");
+        assertEquals(TitleIndexImpl.trigramsOf("ab").length, 3);
+        assertEquals(TitleIndexImpl.trigramsOf("ab, ab").length, 3);
+        assertEquals(TitleIndexImpl.trigramsOf("a b").length, 4);
+        assertEquals(TitleIndexImpl.trigramsOf("--").length, 0);
+    }
+
+    @Test
+    void sharedCountIntersectsSortedTrigrams() {
+        assertEquals(TitleIndexImpl.sharedCount(TitleIndexImpl.trigramsOf("phone"), TitleIndexImpl.trigramsOf("phone")), 6);
+        assertEquals(TitleIndexImpl.sharedCount(TitleIndexImpl.trigramsOf("phone"), TitleIndexImpl.trigramsOf("phnoe")), 2);
+        assertEquals(TitleIndexImpl.sharedCount(new long[] {1, 3, 5}, new long[] {2, 4}), 0);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.repository;
+
+import com.example.dto.UserResponseImpl;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link UserCacheImpl} read-through loading, invalidation, bounding and statistics.
+ *
+ * <p>Usage example:
+ * {@code
+ * UserCacheTest test = new UserCacheTest();
+ * test.getLoadsOnceAndCountsHitsAndMisses();
+ * }
+ */
+public class UserCacheTest {
+
+    @Test
+    void getLoadsOnceAndCountsHitsAndMisses() {
+        UserCacheImpl cache = new UserCacheImpl(100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        UserResponseImpl first = cache.get("a@example.com", email -> load(email, loads));
+        UserResponseImpl second = cache.get("a@example.com", email -> load(email, loads));
+
+        assertEquals(loads.get(), 1);
+        assertEquals(second.email, "a@example.com");
+        assertNotSame(first, second);
+        assertEquals(cache.stats().get("hits"), 1L);
+        assertEquals(cache.stats().get("misses"), 1L);
+    }
+
+    @Test
+    void returnedCopiesDoNotChangeCachedEntry() {
+        UserCacheImpl cache = new UserCacheImpl(100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("a@example.com", email -> load(email, loads)).name = "CHANGED";
+
+        assertEquals(cache.get("a@example.com", email -> load(email, loads)).name, "User a@example.com");
+    }
+
+    @Test
+    void invalidateForcesReload() {
+        UserCacheImpl cache = new UserCacheImpl(100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("a@example.com", email -> load(email, loads));
+        cache.invalidate("a@example.com");
+        cache.get("a@example.com", email -> load(email, loads));
+
+        assertEquals(loads.get(), 2);
+    }
+
+    @Test
+    void missingUsersAreNotCached() {
+        UserCacheImpl cache = new UserCacheImpl(100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(EmptyResultDataAccessException.class, () -> cache.get("missing@example.com", email -> {
+                loads.incrementAndGet();
+                throw new EmptyResultDataAccessException(1);
+            }));
+        }
+
+        assertEquals(loads.get(), 2);
+        assertEquals(cache.stats().get("size"), 0L);
+    }
+
+    @Test
+    void sizeIsBoundedAndEvictionsAreCounted() {
+        UserCacheImpl cache = new UserCacheImpl(10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 100; i++) {
+            cache.get("user" + i + "@example.com", email -> load(email, loads));
+        }
+        cache.nativeCache().cleanUp();
+
+        assertTrue((Long) cache.stats().get("size") <= 10L);
+        assertTrue((Long) cache.stats().get("evictions") >= 90L);
+    }
+
+    @Test
+    void constructorRejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new UserCacheImpl(-1, Duration.ofMinutes(1)));
+        assertThrows(IllegalArgumentException.class, () -> new UserCacheImpl(10, Duration.ZERO));
+    }
+
+    private UserResponseImpl load(String email, AtomicInteger loads) {
+        loads.incrementAndGet();
+        return UserResponseImpl.builder()
+                .id((long) loads.get())
+                .name("User " + email)
+                .email(email)
+                .age(30)
+                .status("ACTIVE")
+                .build();
+    }
+}
@@ -13,8 +13,16 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertThrows;
 
 /**
  * Integration tests for {@link UserRepositoryImpl} using a PostgreSQL database and Liquibase migrations.
@@ -42,12 +50,13 @@ public class UserRepositoryTest {
         runLiquibaseMigrations(dataSource);
 
         this.jdbcTemplate = new JdbcTemplate(dataSource);
-        this.repository = new UserRepositoryImpl(jdbcTemplate);
     }
 
     @BeforeMethod
     void cleanUsersTable() {
         jdbcTemplate.update("DELETE FROM users");
+        // A fresh repository starts with an empty cache, since the DELETE above bypasses invalidation.
+        this.repository = new UserRepositoryImpl(jdbcTemplate);
     }
 
     @SuppressWarnings("deprecation")
@@ -94,4 +103,125 @@ public class UserRepositoryTest {
         assertEquals(fromDb.age, 33);
         assertEquals(fromDb.status, "SAVED");
     }
+
+    @Test
+    void saveAllUpsertsUsersAndAssignsIdsInInputOrder() {
+        UserResponseImpl existing = repository.save(user("Existing", "existing@example.com", 20));
+
+        List<UserResponseImpl> batch = List.of(
+                user("First", "first@example.com", 21),
+                user("Existing Updated", "existing@example.com", 22),
+                user("Second", "second@example.com", 23),
+                user("First Again", "first@example.com", 24)
+        );
+
+        repository.saveAll(batch);
+
+        assertEquals(batch.get(1).id, existing.id);
+        assertNotNull(batch.get(0).id);
+        assertNotNull(batch.get(2).id);
+        assertEquals(batch.get(3).id, batch.get(0).id);
+
+        long count = Objects.requireNonNull(
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class)
+        );
+        assertEquals(count, 3L);
+        assertEquals(repository.findByEmail("existing@example.com").name, "Existing Updated");
+        assertEquals(repository.findByEmail("first@example.com").name, "First Again");
+        assertEquals(repository.findByEmail("second@example.com").id, batch.get(2).id);
+    }
+
+    @Test
+    void saveAllSplitsLargeBatchesIntoChunks() {
+        int size = UserRepositoryImpl.MAX_BATCH_SIZE * 2 + 5;
+        List<UserResponseImpl> batch = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            batch.add(user("User " + i, "bulk" + i + "@example.com", 30));
+        }
+
+        repository.saveAll(batch);
+
+        long distinctIds = batch.stream().map(u -> u.id).filter(Objects::nonNull).distinct().count();
+        assertEquals(distinctIds, (long) size);
+        assertEquals(repository.findByEmail("bulk" + (size - 1) + "@example.com").id, batch.get(size - 1).id);
+    }
+
+    private UserResponseImpl user(String name, String email, int age) {
+        return UserResponseImpl.builder()
+                .name(name)
+                .email(email)
+                .age(age)
+                .status("SAVED")
+                .build();
+    }
+
+    @Test
+    void findByEmailServesRepeatedLookupsFromCache() {
+        UserCacheImpl cache = new UserCacheImpl(100, Duration.ofMinutes(1));
+        UserRepositoryImpl cachedRepository = new UserRepositoryImpl(jdbcTemplate, cache);
+        cachedRepository.save(user("Cached", "cached@example.com", 40));
+
+        cachedRepository.findByEmail("cached@example.com");
+        jdbcTemplate.update("UPDATE users SET name = 'Changed behind cache' WHERE email = 'cached@example.com'");
+        UserResponseImpl fromCache = cachedRepository.findByEmail("cached@example.com");
+
+        assertEquals(fromCache.name, "Cached");
+        assertEquals(cache.stats().get("hits"), 1L);
+        assertEquals(cache.stats().get("misses"), 1L);
+    }
+
+    @Test
+    void saveInvalidatesCachedUser() {
+        repository.save(user("Before", "upsert@example.com", 41));
+        assertEquals(repository.findByEmail("upsert@example.com").name, "Before");
+
+        repository.save(user("After", "upsert@example.com", 42));
+        assertEquals(repository.findByEmail("upsert@example.com").name, "After");
+
+        repository.saveAll(List.of(user("After Batch", "upsert@example.com", 43)));
+        UserResponseImpl fromDb = repository.findByEmail("upsert@example.com");
+        assertEquals(fromDb.name, "After Batch");
+        assertEquals(fromDb.age, 43);
+    }
+
+    @Test
+    void findByEmailsResolvesKnownEmailsAcrossChunks() {
+        int size = UserRepositoryImpl.MAX_KEYS_PER_QUERY * 2 + 3;
+        List<UserResponseImpl> batch = new ArrayList<>(size);
+        List<String> emails = new ArrayList<>(size + 2);
+        for (int i = 0; i < size; i++) {
+            batch.add(user("Lookup " + i, "lookup" + i + "@example.com", 20));
+            emails.add("lookup" + i + "@example.com");
+        }
+        repository.saveAll(batch);
+        emails.add("missing@example.com");
+        emails.add("lookup0@example.com");
+
+        Map<String, UserResponseImpl> found = repository.findByEmails(emails);
+
+        assertEquals(found.size(), size);
+        assertEquals(found.get("lookup0@example.com").id, batch.get(0).id);
+        assertEquals(found.get("lookup" + (size - 1) + "@example.com").name, "Lookup " + (size - 1));
+        assertFalse(found.containsKey("missing@example.com"));
+        assertThrows(IllegalArgumentException.class, () -> repository.findByEmails(List.of("")));
+    }
+
+    @Test
+    void exportAllStreamsEveryUserInIdOrder() {
+        List<UserResponseImpl> batch = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            batch.add(user("Export " + i, "export" + i + "@example.com", 25));
+        }
+        repository.saveAll(batch);
+
+        List<UserResponseImpl> exported = new ArrayList<>();
+        long count = repository.exportAll(exported::add);
+
+        assertEquals(count, 1500L);
+        for (int i = 0; i < exported.size(); i++) {
+            assertEquals(exported.get(i).id, batch.get(i).id);
+            assertEquals(exported.get(i).email, "export" + i + "@example.com");
+            assertNotNull(exported.get(i).createdAt);
+        }
+    }
 }